@@ -1,11 +1,13 @@
 package page.clab.api.domain.activity.activitygroup.application;
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.CollectionUtils;
+import page.clab.api.domain.activity.activitygroup.application.event.GroupMemberChangedEvent;
 import page.clab.api.domain.activity.activitygroup.dao.ActivityGroupBoardRepository;
 import page.clab.api.domain.activity.activitygroup.dao.ActivityGroupDetailsRepository;
 import page.clab.api.domain.activity.activitygroup.dao.ActivityGroupRepository;
@@ -59,6 +61,7 @@ public class ActivityGroupMemberService {
     private final ActivityGroupDetailsRepository activityGroupDetailsRepository;
     private final ExternalRetrieveMemberUseCase externalRetrieveMemberUseCase;
     private final ExternalSendNotificationUseCase externalSendNotificationUseCase;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional(readOnly = true)
     public ActivityGroupDetailResponseDto getActivityGroup(Long activityGroupId) {
@@ -145,6 +148,7 @@ public class ActivityGroupMemberService {
 
         GroupMember groupMember = GroupMember.create(currentMember.getId(), activityGroup, ActivityGroupRole.NONE, GroupMemberStatus.WAITING);
         groupMemberRepository.save(groupMember);
+        eventPublisher.publishEvent(new GroupMemberChangedEvent(this, groupMember.getMemberId()));
 
         List<GroupMember> groupLeaders = getGroupMemberByActivityGroupIdAndRole(activityGroup.getId(), ActivityGroupRole.LEADER);
         if (!CollectionUtils.isEmpty(groupLeaders)) {
@@ -262,10 +266,13 @@ public class ActivityGroupMemberService {
     }
 
     public GroupMember save(GroupMember groupMember) {
-        return groupMemberRepository.save(groupMember);
+        GroupMember savedGroupMember = groupMemberRepository.save(groupMember);
+        eventPublisher.publishEvent(new GroupMemberChangedEvent(this, groupMember.getMemberId()));
+        return savedGroupMember;
     }
 
     public void deleteAll(List<GroupMember> groupMemberList) {
         groupMemberRepository.deleteAll(groupMemberList);
+        groupMemberList.forEach(groupMember -> eventPublisher.publishEvent(new GroupMemberChangedEvent(this, groupMember.getMemberId())));
     }
 }
@@ -0,0 +1,15 @@
+package page.clab.api.domain.activity.activitygroup.application.event;
+
+import lombok.Getter;
+import org.springframework.context.ApplicationEvent;
+
+@Getter
+public class GroupMemberChangedEvent extends ApplicationEvent {
+
+    private final String memberId;
+
+    public GroupMemberChangedEvent(Object source, String memberId) {
+        super(source);
+        this.memberId = memberId;
+    }
+}
@@ -10,6 +10,7 @@ import page.clab.api.domain.activity.review.application.port.in.RetrieveReviewsB
 import page.clab.api.domain.activity.review.application.port.out.RetrieveReviewPort;
 import page.clab.api.domain.activity.review.domain.Review;
 import page.clab.api.domain.memberManagement.member.application.dto.shared.MemberReviewInfoDto;
+import page.clab.api.external.memberManagement.member.application.loader.MemberInfoLoader;
 import page.clab.api.external.memberManagement.member.application.port.ExternalRetrieveMemberUseCase;
 import page.clab.api.global.common.dto.PagedResponseDto;
 
@@ -19,14 +20,16 @@ public class ReviewsByConditionsRetrievalService implements RetrieveReviewsByCon
 
     private final RetrieveReviewPort retrieveReviewPort;
     private final ExternalRetrieveMemberUseCase externalRetrieveMemberUseCase;
+    private final MemberInfoLoader memberInfoLoader;
 
     @Transactional(readOnly = true)
     @Override
     public PagedResponseDto<ReviewResponseDto> retrieveReviews(String memberId, String memberName, Long activityId, Boolean isPublic, Pageable pageable) {
         String currentMemberId = externalRetrieveMemberUseCase.getCurrentMemberId();
         Page<Review> reviews = retrieveReviewPort.findByConditions(memberId, memberName, activityId, isPublic, pageable);
+        memberInfoLoader.prepareReviewInfos(reviews.map(Review::getMemberId).getContent());
         return new PagedResponseDto<>(reviews.map(review -> {
-            MemberReviewInfoDto reviewer = externalRetrieveMemberUseCase.getMemberReviewInfoById(review.getMemberId());
+            MemberReviewInfoDto reviewer = memberInfoLoader.getReviewInfo(review.getMemberId());
             return ReviewResponseDto.toDto(review, reviewer, review.isOwner(currentMemberId));
         }));
     }
@@ -0,0 +1,78 @@
+package page.clab.api.domain.auth.accountAccessLog.adapter.out.persistence;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.stereotype.Repository;
+import page.clab.api.domain.auth.accountAccessLog.domain.AccountAccessLog;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Calendar;
+import java.util.List;
+import java.util.TimeZone;
+
+/**
+ * 계정 접근 로그를 JDBC 배치로 한 번에 저장합니다.
+ * 시각은 JPA와 같은 DB 시간대(hibernate.jdbc.time_zone)로 기록합니다.
+ */
+@Repository
+public class AccountAccessLogJdbcRepository {
+
+    private static final String INSERT_SQL =
+            "INSERT INTO account_access_log (member_id, user_agent, ip_address, location, account_access_result, access_time, created_at, updated_at) " +
+                    "VALUES (?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TimeZone jdbcTimeZone;
+
+    public AccountAccessLogJdbcRepository(
+            JdbcTemplate jdbcTemplate,
+            @Value("${spring.jpa.properties.hibernate.jdbc.time_zone:UTC}") String jdbcTimeZone
+    ) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.jdbcTimeZone = TimeZone.getTimeZone(jdbcTimeZone);
+    }
+
+    /**
+     * @return 저장된 순서대로 발급된 로그 ID
+     */
+    public List<Long> saveAll(List<AccountAccessLog> accountAccessLogs) {
+        LocalDateTime now = LocalDateTime.now();
+        KeyHolder keyHolder = new GeneratedKeyHolder();
+        jdbcTemplate.batchUpdate(
+                connection -> connection.prepareStatement(INSERT_SQL, new String[]{"id"}),
+                new BatchPreparedStatementSetter() {
+                    @Override
+                    public void setValues(PreparedStatement ps, int i) throws SQLException {
+                        AccountAccessLog accountAccessLog = accountAccessLogs.get(i);
+                        ps.setString(1, accountAccessLog.getMemberId());
+                        ps.setString(2, accountAccessLog.getUserAgent());
+                        ps.setString(3, accountAccessLog.getIpAddress());
+                        ps.setString(4, accountAccessLog.getLocation());
+                        ps.setString(5, accountAccessLog.getAccountAccessResult().name());
+                        setTimestamp(ps, 6, accountAccessLog.getAccessTime());
+                        setTimestamp(ps, 7, now);
+                        setTimestamp(ps, 8, now);
+                    }
+
+                    @Override
+                    public int getBatchSize() {
+                        return accountAccessLogs.size();
+                    }
+                },
+                keyHolder
+        );
+        return keyHolder.getKeyList().stream()
+                .map(keys -> ((Number) keys.get("id")).longValue())
+                .toList();
+    }
+
+    private void setTimestamp(PreparedStatement ps, int index, LocalDateTime value) throws SQLException {
+        ps.setTimestamp(index, value == null ? null : Timestamp.valueOf(value), Calendar.getInstance(jdbcTimeZone));
+    }
+}
@@ -3,14 +3,19 @@ package page.clab.api.domain.auth.accountAccessLog.adapter.out.persistence;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 import page.clab.api.domain.auth.accountAccessLog.application.port.out.RegisterAccountAccessLogPort;
+import page.clab.api.domain.auth.accountAccessLog.application.port.out.UpdateAccountAccessLogPort;
 import page.clab.api.domain.auth.accountAccessLog.domain.AccountAccessLog;
 
+import java.util.List;
+
 @Component
 @RequiredArgsConstructor
 public class AccountAccessLogPersistenceAdapter implements
-        RegisterAccountAccessLogPort {
+        RegisterAccountAccessLogPort,
+        UpdateAccountAccessLogPort {
 
     private final AccountAccessLogRepository accountAccessLogRepository;
+    private final AccountAccessLogJdbcRepository accountAccessLogJdbcRepository;
     private final AccountAccessLogMapper accountAccessLogMapper;
 
     @Override
@@ -19,4 +24,14 @@ public class AccountAccessLogPersistenceAdapter implements
         AccountAccessLogJpaEntity savedEntity = accountAccessLogRepository.save(jpaEntity);
         return accountAccessLogMapper.toDomainEntity(savedEntity);
     }
+
+    @Override
+    public List<Long> saveAll(List<AccountAccessLog> accountAccessLogs) {
+        return accountAccessLogJdbcRepository.saveAll(accountAccessLogs);
+    }
+
+    @Override
+    public void updateLocation(Long accountAccessLogId, String location) {
+        accountAccessLogRepository.updateLocation(accountAccessLogId, location);
+    }
 }
@@ -3,9 +3,18 @@ package page.clab.api.domain.auth.accountAccessLog.adapter.out.persistence;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 @Repository
 public interface AccountAccessLogRepository extends JpaRepository<AccountAccessLogJpaEntity, Long> {
     Page<AccountAccessLogJpaEntity> findAllByMemberId(String memberId, Pageable pageable);
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE AccountAccessLogJpaEntity a SET a.location = :location WHERE a.id = :id")
+    void updateLocation(@Param("id") Long id, @Param("location") String location);
 }
@@ -0,0 +1,43 @@
+package page.clab.api.domain.auth.accountAccessLog.application.event;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import page.clab.api.domain.auth.accountAccessLog.application.port.out.UpdateAccountAccessLogPort;
+import page.clab.api.global.common.dto.IPInfoResponse;
+import page.clab.api.global.config.IPInfoConfig;
+import page.clab.api.global.util.IPInfoUtil;
+
+/**
+ * 계정 접근 로그가 저장된 후 IPInfo를 조회하여 위치 정보를 보강합니다.
+ * 요청 스레드와 분리되어 실행되므로, IPInfo 응답 지연이 로그인 처리에 영향을 주지 않습니다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class AccountAccessLogLocationEnricher {
+
+    private final UpdateAccountAccessLogPort updateAccountAccessLogPort;
+    private final IPInfoConfig ipInfoConfig;
+
+    @Async
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void handleAccountAccessLogRegistered(AccountAccessLogRegisteredEvent event) {
+        if (!ipInfoConfig.isEnrichmentEnabled() || event.getAccountAccessLogId() == null) {
+            return;
+        }
+        try {
+            IPInfoResponse ipInfo = IPInfoUtil.getIpInfo(event.getIpAddress());
+            if (ipInfo == null || ipInfo.getCountry() == null) {
+                return;
+            }
+            String location = ipInfo.getCity() == null ? ipInfo.getCountry() : ipInfo.getCountry() + ", " + ipInfo.getCity();
+            updateAccountAccessLogPort.updateLocation(event.getAccountAccessLogId(), location);
+        } catch (Exception e) {
+            log.warn("Failed to enrich account access log location: {}", e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,17 @@
+package page.clab.api.domain.auth.accountAccessLog.application.event;
+
+import lombok.Getter;
+import org.springframework.context.ApplicationEvent;
+
+@Getter
+public class AccountAccessLogRegisteredEvent extends ApplicationEvent {
+
+    private final Long accountAccessLogId;
+    private final String ipAddress;
+
+    public AccountAccessLogRegisteredEvent(Object source, Long accountAccessLogId, String ipAddress) {
+        super(source);
+        this.accountAccessLogId = accountAccessLogId;
+        this.ipAddress = ipAddress;
+    }
+}
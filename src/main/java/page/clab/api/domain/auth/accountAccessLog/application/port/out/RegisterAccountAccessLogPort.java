@@ -2,6 +2,10 @@ package page.clab.api.domain.auth.accountAccessLog.application.port.out;
 
 import page.clab.api.domain.auth.accountAccessLog.domain.AccountAccessLog;
 
+import java.util.List;
+
 public interface RegisterAccountAccessLogPort {
     AccountAccessLog save(AccountAccessLog accountAccessLog);
+
+    List<Long> saveAll(List<AccountAccessLog> accountAccessLogs);
 }
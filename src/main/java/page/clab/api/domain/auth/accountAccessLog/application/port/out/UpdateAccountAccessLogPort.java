@@ -0,0 +1,5 @@
+package page.clab.api.domain.auth.accountAccessLog.application.port.out;
+
+public interface UpdateAccountAccessLogPort {
+    void updateLocation(Long accountAccessLogId, String location);
+}
@@ -1,6 +1,5 @@
 package page.clab.api.domain.auth.accountAccessLog.domain;
 
-import io.ipinfo.api.model.IPResponse;
 import jakarta.servlet.http.HttpServletRequest;
 import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
@@ -24,12 +23,12 @@ public class AccountAccessLog {
     private AccountAccessResult accountAccessResult;
     private LocalDateTime accessTime;
 
-    public static AccountAccessLog create(String memberId, HttpServletRequest httpServletRequest, String ipAddress, IPResponse ipResponse, AccountAccessResult accountAccessResult) {
+    public static AccountAccessLog create(String memberId, HttpServletRequest httpServletRequest, String ipAddress, String country, AccountAccessResult accountAccessResult) {
         return AccountAccessLog.builder()
                 .memberId(memberId)
                 .userAgent(httpServletRequest.getHeader("User-Agent"))
                 .ipAddress(ipAddress)
-                .location(ipResponse == null ? "Unknown" : ipResponse.getCountryName() + ", " + ipResponse.getCity())
+                .location(country == null ? "Unknown" : country)
                 .accountAccessResult(accountAccessResult)
                 .accessTime(LocalDateTime.now())
                 .build();
@@ -0,0 +1,43 @@
+package page.clab.api.domain.auth.blacklistIp.adapter.in.redis;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+import page.clab.api.domain.auth.blacklistIp.adapter.out.redis.BlacklistIpChangePublisher;
+import page.clab.api.domain.auth.blacklistIp.application.service.BlacklistIpSnapshotManager;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 다른 노드에서 블랙리스트 IP가 변경되었을 때 로컬 스냅샷을 갱신합니다.
+ * IP 하나가 추가된 경우에는 그 IP만 스냅샷에 더하고, 그 밖의 변경은 전체 목록을 다시 불러옵니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class BlacklistIpChangeSubscriber implements MessageListener {
+
+    private final RedisMessageListenerContainer redisMessageListenerContainer;
+    private final BlacklistIpSnapshotManager blacklistIpSnapshotManager;
+
+    @PostConstruct
+    public void subscribe() {
+        redisMessageListenerContainer.addMessageListener(this, new ChannelTopic(BlacklistIpChangePublisher.CHANNEL));
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String[] parts = new String(message.getBody(), StandardCharsets.UTF_8).split(BlacklistIpChangePublisher.SEPARATOR, 2);
+        if (blacklistIpSnapshotManager.getNodeId().equals(parts[0])) {
+            return;
+        }
+        if (parts.length == 2) {
+            blacklistIpSnapshotManager.add(parts[1]);
+        } else {
+            blacklistIpSnapshotManager.refresh();
+        }
+    }
+}
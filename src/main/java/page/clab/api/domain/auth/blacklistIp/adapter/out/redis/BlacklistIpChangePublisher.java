@@ -0,0 +1,39 @@
+package page.clab.api.domain.auth.blacklistIp.adapter.out.redis;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+import page.clab.api.domain.auth.blacklistIp.application.port.out.PublishBlacklistIpChangePort;
+
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class BlacklistIpChangePublisher implements PublishBlacklistIpChangePort {
+
+    public static final String CHANNEL = "blacklist-ip:changed";
+    public static final String SEPARATOR = " ";
+
+    private final RedisTemplate<String, String> redisTemplate;
+
+    @Override
+    public void publishChange(String nodeId) {
+        try {
+            redisTemplate.convertAndSend(CHANNEL, nodeId);
+        } catch (Exception e) {
+            log.warn("Failed to publish blacklist IP change: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 추가된 IP 하나만 전달하여, 다른 노드가 전체 목록을 다시 조회하지 않고 스냅샷에 더하도록 합니다.
+     */
+    @Override
+    public void publishAdded(String nodeId, String ipAddress) {
+        try {
+            redisTemplate.convertAndSend(CHANNEL, nodeId + SEPARATOR + ipAddress);
+        } catch (Exception e) {
+            log.warn("Failed to publish blacklist IP addition: {}", e.getMessage());
+        }
+    }
+}
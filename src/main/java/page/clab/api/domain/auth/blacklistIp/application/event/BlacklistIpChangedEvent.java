@@ -0,0 +1,22 @@
+package page.clab.api.domain.auth.blacklistIp.application.event;
+
+import lombok.Getter;
+import org.springframework.context.ApplicationEvent;
+
+@Getter
+public class BlacklistIpChangedEvent extends ApplicationEvent {
+
+    /**
+     * 새로 추가된 IP. 삭제나 초기화처럼 전체 목록을 다시 불러와야 하는 변경이면 null입니다.
+     */
+    private final String addedIpAddress;
+
+    public BlacklistIpChangedEvent(Object source) {
+        this(source, null);
+    }
+
+    public BlacklistIpChangedEvent(Object source, String addedIpAddress) {
+        super(source);
+        this.addedIpAddress = addedIpAddress;
+    }
+}
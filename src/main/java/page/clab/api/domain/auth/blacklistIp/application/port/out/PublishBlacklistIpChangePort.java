@@ -0,0 +1,7 @@
+package page.clab.api.domain.auth.blacklistIp.application.port.out;
+
+public interface PublishBlacklistIpChangePort {
+    void publishChange(String nodeId);
+
+    void publishAdded(String nodeId, String ipAddress);
+}
@@ -2,9 +2,11 @@ package page.clab.api.domain.auth.blacklistIp.application.service;
 
 import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import page.clab.api.domain.auth.blacklistIp.application.dto.request.BlacklistIpRequestDto;
+import page.clab.api.domain.auth.blacklistIp.application.event.BlacklistIpChangedEvent;
 import page.clab.api.domain.auth.blacklistIp.application.port.in.RegisterBlacklistIpUseCase;
 import page.clab.api.domain.auth.blacklistIp.application.port.out.RegisterBlacklistIpPort;
 import page.clab.api.domain.auth.blacklistIp.application.port.out.RetrieveBlacklistIpPort;
@@ -19,6 +21,7 @@ public class BlacklistIpRegisterService implements RegisterBlacklistIpUseCase {
     private final RegisterBlacklistIpPort registerBlacklistIpPort;
     private final RetrieveBlacklistIpPort retrieveBlacklistIpPort;
     private final SlackService slackService;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional
     @Override
@@ -29,6 +32,7 @@ public class BlacklistIpRegisterService implements RegisterBlacklistIpUseCase {
                 .orElseGet(() -> {
                     BlacklistIp blacklistIp = BlacklistIpRequestDto.toEntity(requestDto);
                     registerBlacklistIpPort.save(blacklistIp);
+                    eventPublisher.publishEvent(new BlacklistIpChangedEvent(this, ipAddress));
                     slackService.sendSecurityAlertNotification(request, SecurityAlertType.BLACKLISTED_IP_ADDED, "Added IP: " + ipAddress);
                     return ipAddress;
                 });
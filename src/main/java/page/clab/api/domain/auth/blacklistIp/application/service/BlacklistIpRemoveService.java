@@ -2,8 +2,10 @@ package page.clab.api.domain.auth.blacklistIp.application.service;
 
 import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import page.clab.api.domain.auth.blacklistIp.application.event.BlacklistIpChangedEvent;
 import page.clab.api.domain.auth.blacklistIp.application.port.in.RemoveBlacklistIpUseCase;
 import page.clab.api.domain.auth.blacklistIp.application.port.out.RemoveBlacklistIpPort;
 import page.clab.api.domain.auth.blacklistIp.application.port.out.RetrieveBlacklistIpPort;
@@ -18,12 +20,14 @@ public class BlacklistIpRemoveService implements RemoveBlacklistIpUseCase {
     private final RetrieveBlacklistIpPort retrieveBlacklistIpPort;
     private final RemoveBlacklistIpPort removeBlacklistIpPort;
     private final SlackService slackService;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional
     @Override
     public String removeBlacklistIp(HttpServletRequest request, String ipAddress) {
         BlacklistIp blacklistIp = retrieveBlacklistIpPort.findByIpAddressOrThrow(ipAddress);
         removeBlacklistIpPort.delete(blacklistIp);
+        eventPublisher.publishEvent(new BlacklistIpChangedEvent(this));
         slackService.sendSecurityAlertNotification(request, SecurityAlertType.BLACKLISTED_IP_REMOVED, "Deleted IP: " + ipAddress);
         return blacklistIp.getIpAddress();
     }
@@ -2,8 +2,10 @@ package page.clab.api.domain.auth.blacklistIp.application.service;
 
 import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import page.clab.api.domain.auth.blacklistIp.application.event.BlacklistIpChangedEvent;
 import page.clab.api.domain.auth.blacklistIp.application.port.in.ResetBlacklistIpsUseCase;
 import page.clab.api.domain.auth.blacklistIp.application.port.out.RemoveBlacklistIpPort;
 import page.clab.api.domain.auth.blacklistIp.application.port.out.RetrieveBlacklistIpPort;
@@ -20,6 +22,7 @@ public class BlacklistIpResetService implements ResetBlacklistIpsUseCase {
     private final RetrieveBlacklistIpPort retrieveBlacklistIpPort;
     private final RemoveBlacklistIpPort removeBlacklistIpPort;
     private final SlackService slackService;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional
     @Override
@@ -29,6 +32,7 @@ public class BlacklistIpResetService implements ResetBlacklistIpsUseCase {
                 .map(BlacklistIp::getIpAddress)
                 .toList();
         removeBlacklistIpPort.deleteAll();
+        eventPublisher.publishEvent(new BlacklistIpChangedEvent(this));
         slackService.sendSecurityAlertNotification(request, SecurityAlertType.BLACKLISTED_IP_REMOVED, "Deleted IP: ALL");
         return blacklistedIps;
     }
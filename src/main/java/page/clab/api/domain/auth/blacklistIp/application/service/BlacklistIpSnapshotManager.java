@@ -0,0 +1,81 @@
+package page.clab.api.domain.auth.blacklistIp.application.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import page.clab.api.domain.auth.blacklistIp.application.event.BlacklistIpChangedEvent;
+import page.clab.api.domain.auth.blacklistIp.application.port.out.PublishBlacklistIpChangePort;
+import page.clab.api.domain.auth.blacklistIp.application.port.out.RetrieveBlacklistIpPort;
+import page.clab.api.domain.auth.blacklistIp.domain.BlacklistIpSnapshot;
+
+import java.util.UUID;
+
+/**
+ * 블랙리스트 IP 스냅샷을 메모리에 유지하고, 변경 시 스냅샷을 교체합니다.
+ * 요청 처리 중에는 DB 조회 없이 현재 스냅샷만 참조합니다.
+ * 스냅샷은 싱글톤 초기화가 끝나는 시점, 즉 요청을 받기 전에 채워지며,
+ * 놓친 변경 알림이 있더라도 5분마다 전체 목록을 다시 불러와 맞춥니다.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class BlacklistIpSnapshotManager implements SmartInitializingSingleton {
+
+    private final String nodeId = UUID.randomUUID().toString();
+
+    private final RetrieveBlacklistIpPort retrieveBlacklistIpPort;
+    private final PublishBlacklistIpChangePort publishBlacklistIpChangePort;
+
+    private volatile BlacklistIpSnapshot snapshot = BlacklistIpSnapshot.empty();
+
+    public boolean isBlacklisted(String ipAddress) {
+        return snapshot.contains(ipAddress);
+    }
+
+    public String getNodeId() {
+        return nodeId;
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        refresh();
+    }
+
+    @Scheduled(cron = "0 */5 * * * *")
+    public void scheduledRefresh() {
+        try {
+            refresh();
+        } catch (Exception e) {
+            log.warn("Failed to reload blacklist IP snapshot: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * IP 하나가 추가된 경우에는 DB를 다시 조회하지 않고 그 IP만 스냅샷에 더한 뒤 다른 노드에 알립니다.
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void handleBlacklistIpChanged(BlacklistIpChangedEvent event) {
+        String addedIpAddress = event.getAddedIpAddress();
+        if (addedIpAddress != null) {
+            add(addedIpAddress);
+            publishBlacklistIpChangePort.publishAdded(nodeId, addedIpAddress);
+        } else {
+            refresh();
+            publishBlacklistIpChangePort.publishChange(nodeId);
+        }
+    }
+
+    public synchronized void add(String ipAddress) {
+        snapshot = snapshot.withIpAddress(ipAddress);
+    }
+
+    public synchronized void refresh() {
+        BlacklistIpSnapshot newSnapshot = BlacklistIpSnapshot.of(retrieveBlacklistIpPort.findAll());
+        snapshot = newSnapshot;
+        log.debug("Blacklist IP snapshot refreshed: {} entries", newSnapshot.size());
+    }
+}
@@ -0,0 +1,78 @@
+package page.clab.api.domain.auth.blacklistIp.domain;
+
+import page.clab.api.global.util.IpRangeTrie;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * 특정 시점의 블랙리스트 IP 목록을 담는 불변 스냅샷입니다.
+ * 단일 IP와 CIDR 대역은 라디스 트리로, IP 형식이 아닌 항목은 문자열 비교로 확인합니다.
+ */
+public class BlacklistIpSnapshot {
+
+    private static final BlacklistIpSnapshot EMPTY = new BlacklistIpSnapshot(Set.of(), new IpRangeTrie<>(), Set.of());
+
+    private final Set<String> ipAddresses;
+    private final IpRangeTrie<Boolean> ipRangeTrie;
+    private final Set<String> unparsedEntries;
+
+    private BlacklistIpSnapshot(Set<String> ipAddresses, IpRangeTrie<Boolean> ipRangeTrie, Set<String> unparsedEntries) {
+        this.ipAddresses = ipAddresses;
+        this.ipRangeTrie = ipRangeTrie;
+        this.unparsedEntries = unparsedEntries;
+    }
+
+    public static BlacklistIpSnapshot empty() {
+        return EMPTY;
+    }
+
+    public static BlacklistIpSnapshot of(Collection<BlacklistIp> blacklistIps) {
+        return ofIpAddresses(blacklistIps.stream()
+                .map(BlacklistIp::getIpAddress)
+                .collect(Collectors.toSet()));
+    }
+
+    private static BlacklistIpSnapshot ofIpAddresses(Set<String> ipAddresses) {
+        IpRangeTrie<Boolean> ipRangeTrie = new IpRangeTrie<>();
+        Set<String> unparsedEntries = new HashSet<>();
+        Set<String> entries = new HashSet<>();
+        for (String ipAddress : ipAddresses) {
+            if (ipAddress == null || ipAddress.isBlank()) {
+                continue;
+            }
+            entries.add(ipAddress);
+            try {
+                ipRangeTrie.insert(ipAddress, Boolean.TRUE);
+            } catch (IllegalArgumentException e) {
+                unparsedEntries.add(ipAddress);
+            }
+        }
+        return new BlacklistIpSnapshot(Set.copyOf(entries), ipRangeTrie, Set.copyOf(unparsedEntries));
+    }
+
+    /**
+     * 현재 스냅샷에 IP 하나를 더한 새 스냅샷을 만듭니다. DB는 조회하지 않습니다.
+     */
+    public BlacklistIpSnapshot withIpAddress(String ipAddress) {
+        if (ipAddress == null || ipAddresses.contains(ipAddress)) {
+            return this;
+        }
+        Set<String> newIpAddresses = new HashSet<>(ipAddresses);
+        newIpAddresses.add(ipAddress);
+        return ofIpAddresses(newIpAddresses);
+    }
+
+    public boolean contains(String ipAddress) {
+        if (ipAddress == null) {
+            return false;
+        }
+        return ipRangeTrie.contains(ipAddress) || unparsedEntries.contains(ipAddress);
+    }
+
+    public int size() {
+        return ipRangeTrie.size() + unparsedEntries.size();
+    }
+}
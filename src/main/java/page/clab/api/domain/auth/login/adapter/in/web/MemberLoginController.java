@@ -17,8 +17,10 @@ import page.clab.api.domain.auth.login.application.exception.LoginFailedExceptio
 import page.clab.api.domain.auth.login.application.exception.MemberLockedException;
 import page.clab.api.domain.auth.login.application.port.in.ManageLoginUseCase;
 import page.clab.api.global.common.dto.ApiResponse;
+import page.clab.api.global.common.ratelimit.annotation.RateLimit;
 
 @RestController
+@RateLimit("login")
 @RequestMapping("/api/v1/login")
 @Tag(name = "Authentication - Login", description = "로그인")
 public class MemberLoginController {
@@ -20,8 +20,10 @@ import page.clab.api.domain.auth.login.application.exception.LoginFailedExceptio
 import page.clab.api.domain.auth.login.application.exception.MemberLockedException;
 import page.clab.api.domain.auth.login.application.port.in.ManageLoginUseCase;
 import page.clab.api.global.common.dto.ApiResponse;
+import page.clab.api.global.common.ratelimit.annotation.RateLimit;
 
 @RestController
+@RateLimit("login")
 @RequestMapping("/api/v1/login/authenticator")
 @Tag(name = "Authentication - Two Factor Authentication", description = "2단계 인증")
 public class TwoFactorAuthenticationController {
@@ -1,15 +1,44 @@
 package page.clab.api.domain.auth.login.adapter.out.persistence;
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.stereotype.Component;
 import page.clab.api.domain.auth.login.application.port.out.RegisterRedisTokenPort;
 import page.clab.api.domain.auth.login.application.port.out.RemoveRedisTokenPort;
 import page.clab.api.domain.auth.login.application.port.out.RetrieveRedisTokenPort;
 import page.clab.api.domain.auth.login.domain.RedisToken;
+import page.clab.api.domain.memberManagement.member.domain.Role;
 
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
 
+/**
+ * 로그인 세션을 보조 인덱스 없이 직접 키로 저장합니다.
+ * <ul>
+ *     <li>token:access:{액세스 토큰 해시} - 세션 해시 (요청마다 HGETALL 한 번으로 조회)</li>
+ *     <li>token:refresh:{리프레시 토큰 해시} - 세션 해시의 키</li>
+ *     <li>token:member:{회원 ID} - 회원의 세션 해시 키 집합</li>
+ * </ul>
+ * 세 키는 하나의 MULTI 트랜잭션으로 함께 쓰고 지우며, 모두 같은 만료 시간을 가집니다.
+ * 토큰 원문 대신 SHA-256 해시를 키로 사용하여 키 이름에 토큰이 노출되지 않도록 합니다.
+ */
 @Component
 @RequiredArgsConstructor
 public class RedisTokenPersistenceAdapter implements
@@ -17,35 +46,188 @@ public class RedisTokenPersistenceAdapter implements
         RetrieveRedisTokenPort,
         RemoveRedisTokenPort {
 
-    private final RedisTokenRepository redisTokenRepository;
+    private static final String ACCESS_KEY_PREFIX = "token:access:";
+    private static final String REFRESH_KEY_PREFIX = "token:refresh:";
+    private static final String MEMBER_KEY_PREFIX = "token:member:";
+    private static final Duration TIME_TO_LIVE = Duration.ofDays(14);
+
+    private static final String ID = "id";
+    private static final String MEMBER_ID = "memberId";
+    private static final String ROLE = "role";
+    private static final String IP = "ip";
+    private static final String ACCESS_TOKEN = "accessToken";
+    private static final String REFRESH_TOKEN = "refreshToken";
+
+    private final StringRedisTemplate redisTemplate;
 
     @Override
     public RedisToken save(RedisToken redisToken) {
-        return redisTokenRepository.save(redisToken);
+        String sessionKey = accessKey(redisToken.getAccessToken());
+        String refreshKey = refreshKey(redisToken.getRefreshToken());
+        String memberKey = MEMBER_KEY_PREFIX + redisToken.getMemberId();
+        Map<String, String> fields = new LinkedHashMap<>();
+        fields.put(ID, redisToken.getId().toString());
+        fields.put(MEMBER_ID, redisToken.getMemberId());
+        fields.put(ROLE, redisToken.getRole().name());
+        fields.put(IP, Objects.toString(redisToken.getIp(), ""));
+        fields.put(ACCESS_TOKEN, redisToken.getAccessToken());
+        fields.put(REFRESH_TOKEN, redisToken.getRefreshToken());
+
+        executeInTransaction(operations -> {
+            operations.opsForHash().putAll(sessionKey, fields);
+            operations.expire(sessionKey, TIME_TO_LIVE);
+            operations.opsForValue().set(refreshKey, sessionKey, TIME_TO_LIVE);
+            operations.opsForSet().add(memberKey, sessionKey);
+            operations.expire(memberKey, TIME_TO_LIVE);
+        });
+        return redisToken;
     }
 
     @Override
     public Optional<RedisToken> findByAccessToken(String accessToken) {
-        return redisTokenRepository.findByAccessToken(accessToken);
+        Map<Object, Object> fields = redisTemplate.opsForHash().entries(accessKey(accessToken));
+        return Optional.ofNullable(toRedisToken(fields));
     }
 
     @Override
     public Optional<RedisToken> findByRefreshToken(String refreshToken) {
-        return redisTokenRepository.findByRefreshToken(refreshToken);
+        String sessionKey = redisTemplate.opsForValue().get(refreshKey(refreshToken));
+        if (sessionKey == null) {
+            return Optional.empty();
+        }
+        Map<Object, Object> fields = redisTemplate.opsForHash().entries(sessionKey);
+        return Optional.ofNullable(toRedisToken(fields));
+    }
+
+    /**
+     * 회원별 세션 집합을 순회하여 모든 세션을 조회합니다. 만료된 세션의 키는 집합에서 함께 정리합니다.
+     */
+    @Override
+    public List<RedisToken> findAll() {
+        List<String> memberKeys = new ArrayList<>();
+        ScanOptions options = ScanOptions.scanOptions().match(MEMBER_KEY_PREFIX + "*").count(1000).build();
+        try (Cursor<String> cursor = redisTemplate.scan(options)) {
+            cursor.forEachRemaining(memberKeys::add);
+        }
+        List<RedisToken> redisTokens = new ArrayList<>();
+        for (String memberKey : memberKeys) {
+            Set<String> sessionKeys = redisTemplate.opsForSet().members(memberKey);
+            if (sessionKeys == null || sessionKeys.isEmpty()) {
+                continue;
+            }
+            List<String> orderedSessionKeys = new ArrayList<>(sessionKeys);
+            List<RedisToken> sessions = findAllBySessionKeys(orderedSessionKeys);
+            List<String> expiredSessionKeys = new ArrayList<>();
+            for (int i = 0; i < orderedSessionKeys.size(); i++) {
+                if (sessions.get(i) == null) {
+                    expiredSessionKeys.add(orderedSessionKeys.get(i));
+                } else {
+                    redisTokens.add(sessions.get(i));
+                }
+            }
+            if (!expiredSessionKeys.isEmpty()) {
+                redisTemplate.opsForSet().remove(memberKey, expiredSessionKeys.toArray());
+            }
+        }
+        return redisTokens;
     }
 
     @Override
     public void delete(RedisToken redisToken) {
-        redisTokenRepository.delete(redisToken);
+        String sessionKey = accessKey(redisToken.getAccessToken());
+        String refreshKey = refreshKey(redisToken.getRefreshToken());
+        String memberKey = MEMBER_KEY_PREFIX + redisToken.getMemberId();
+        executeInTransaction(operations -> {
+            operations.delete(List.of(sessionKey, refreshKey));
+            operations.opsForSet().remove(memberKey, sessionKey);
+        });
     }
 
     @Override
     public void deleteByMemberId(String memberId) {
-        redisTokenRepository.deleteById(memberId);
+        String memberKey = MEMBER_KEY_PREFIX + memberId;
+        Set<String> sessionKeys = redisTemplate.opsForSet().members(memberKey);
+        List<String> keys = new ArrayList<>();
+        keys.add(memberKey);
+        if (sessionKeys != null && !sessionKeys.isEmpty()) {
+            List<String> orderedSessionKeys = new ArrayList<>(sessionKeys);
+            keys.addAll(orderedSessionKeys);
+            findAllBySessionKeys(orderedSessionKeys).stream()
+                    .filter(Objects::nonNull)
+                    .map(redisToken -> refreshKey(redisToken.getRefreshToken()))
+                    .forEach(keys::add);
+        }
+        redisTemplate.delete(keys);
     }
 
-    @Override
-    public List<RedisToken> findAll() {
-        return (List<RedisToken>) redisTokenRepository.findAll();
+    /**
+     * 여러 세션 해시를 파이프라인으로 한 번에 읽습니다. 만료된 세션은 같은 위치에 null로 반환합니다.
+     */
+    @SuppressWarnings("unchecked")
+    private List<RedisToken> findAllBySessionKeys(List<String> sessionKeys) {
+        List<Object> results = redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            for (String sessionKey : sessionKeys) {
+                connection.hashCommands().hGetAll(sessionKey.getBytes(StandardCharsets.UTF_8));
+            }
+            return null;
+        });
+        List<RedisToken> redisTokens = new ArrayList<>(sessionKeys.size());
+        for (Object result : results) {
+            redisTokens.add(toRedisToken((Map<Object, Object>) result));
+        }
+        return redisTokens;
+    }
+
+    /**
+     * 명령들을 MULTI/EXEC로 묶어 파이프라인으로 한 번에 전송합니다.
+     */
+    private void executeInTransaction(TransactionCommands commands) {
+        redisTemplate.executePipelined(new SessionCallback<Object>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public <K, V> Object execute(RedisOperations<K, V> operations) throws DataAccessException {
+                RedisOperations<String, String> stringOperations = (RedisOperations<String, String>) operations;
+                stringOperations.multi();
+                commands.apply(stringOperations);
+                stringOperations.exec();
+                return null;
+            }
+        });
+    }
+
+    private static RedisToken toRedisToken(Map<Object, Object> fields) {
+        if (fields == null || fields.get(ACCESS_TOKEN) == null) {
+            return null;
+        }
+        return RedisToken.builder()
+                .id(UUID.fromString(fields.get(ID).toString()))
+                .memberId(fields.get(MEMBER_ID).toString())
+                .role(Role.valueOf(fields.get(ROLE).toString()))
+                .ip(Objects.toString(fields.get(IP), ""))
+                .accessToken(fields.get(ACCESS_TOKEN).toString())
+                .refreshToken(fields.get(REFRESH_TOKEN).toString())
+                .build();
+    }
+
+    private static String accessKey(String accessToken) {
+        return ACCESS_KEY_PREFIX + hash(accessToken);
+    }
+
+    private static String refreshKey(String refreshToken) {
+        return REFRESH_KEY_PREFIX + hash(refreshToken);
+    }
+
+    private static String hash(String token) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(token.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 algorithm is not available", e);
+        }
+    }
+
+    @FunctionalInterface
+    private interface TransactionCommands {
+        void apply(RedisOperations<String, String> operations);
     }
 }
@@ -1,15 +0,0 @@
-package page.clab.api.domain.auth.login.adapter.out.persistence;
-
-import org.springframework.data.repository.CrudRepository;
-import org.springframework.stereotype.Repository;
-import page.clab.api.domain.auth.login.domain.RedisToken;
-
-import java.util.Optional;
-
-@Repository
-public interface RedisTokenRepository extends CrudRepository<RedisToken, String> {
-
-    Optional<RedisToken> findByAccessToken(String accessToken);
-
-    Optional<RedisToken> findByRefreshToken(String refreshToken);
-}
@@ -0,0 +1,180 @@
+package page.clab.api.domain.auth.login.application.service;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import page.clab.api.domain.auth.accountAccessLog.domain.AccountAccessLog;
+import page.clab.api.domain.auth.accountAccessLog.domain.AccountAccessResult;
+import page.clab.api.external.auth.accountAccessLog.application.port.ExternalRegisterAccountAccessLogUseCase;
+import page.clab.api.external.memberManagement.member.application.port.ExternalUpdateMemberUseCase;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 로그인 과정의 부가 기록(계정 접근 로그, 마지막 로그인 시각)을 로그인 트랜잭션에서 분리하여 모아서 저장합니다.
+ * 기록은 크기가 제한된 버퍼에 쌓이고, 백그라운드 작업자가 batch-size개씩 꺼내 JDBC 배치로 저장합니다.
+ * 버퍼가 가득 찼거나 종료 중이면 호출한 스레드에서 바로 저장하므로 기록이 버려지지 않으며,
+ * 종료 시에는 버퍼에 남은 기록을 모두 저장한 뒤 작업자를 멈춥니다.
+ * 접근 로그와 마지막 로그인 시각은 서로 독립적으로 저장하고, 배치가 실패하면 한 건씩 다시 저장하여
+ * 잘못된 기록 하나 때문에 같은 배치의 다른 기록이 버려지지 않도록 합니다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class LoginAuditWriter {
+
+    private final ExternalRegisterAccountAccessLogUseCase externalRegisterAccountAccessLogUseCase;
+    private final ExternalUpdateMemberUseCase externalUpdateMemberUseCase;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${security.login-audit.buffer-capacity:4096}")
+    private int bufferCapacity;
+
+    @Value("${security.login-audit.batch-size:200}")
+    private int batchSize;
+
+    @Value("${security.login-audit.flush-interval-millis:200}")
+    private long flushIntervalMillis;
+
+    private BlockingQueue<LoginAuditEntry> buffer;
+    private Thread worker;
+    private volatile boolean closed;
+
+    @PostConstruct
+    public void start() {
+        buffer = new ArrayBlockingQueue<>(bufferCapacity);
+        worker = new Thread(this::runWorker, "login-audit-writer");
+        worker.setDaemon(true);
+        worker.start();
+    }
+
+    /**
+     * 새 기록을 받지 않고, 작업자가 처리 중인 묶음을 마친 뒤 버퍼에 남은 기록을 모두 저장합니다.
+     */
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        closed = true;
+        worker.join(TimeUnit.SECONDS.toMillis(10));
+        flushRemaining();
+    }
+
+    /**
+     * 계정 접근 로그를 기록합니다.
+     * @param updateLastLoginTime 로그인에 성공하여 마지막 로그인 시각도 갱신해야 하면 true
+     */
+    public void record(HttpServletRequest request, String memberId, AccountAccessResult accountAccessResult, boolean updateLastLoginTime) {
+        AccountAccessLog accountAccessLog = externalRegisterAccountAccessLogUseCase.createAccountAccessLog(request, memberId, accountAccessResult);
+        LoginAuditEntry entry = new LoginAuditEntry(accountAccessLog, updateLastLoginTime);
+        if (closed || !buffer.offer(entry)) {
+            meterRegistry.counter("login.audit.sync-fallback").increment();
+            write(List.of(entry));
+            return;
+        }
+        if (closed) {
+            flushRemaining();
+        }
+    }
+
+    private void runWorker() {
+        List<LoginAuditEntry> batch = new ArrayList<>(batchSize);
+        while (!closed) {
+            try {
+                LoginAuditEntry first = buffer.poll(flushIntervalMillis, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                buffer.drainTo(batch, batchSize - 1);
+                write(batch);
+                batch.clear();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    private void flushRemaining() {
+        List<LoginAuditEntry> batch = new ArrayList<>(batchSize);
+        while (buffer.drainTo(batch, batchSize) > 0) {
+            write(batch);
+            batch.clear();
+        }
+    }
+
+    private void write(List<LoginAuditEntry> entries) {
+        List<AccountAccessLog> accountAccessLogs = new ArrayList<>(entries.size());
+        Map<String, LocalDateTime> lastLoginTimes = new HashMap<>();
+        for (LoginAuditEntry entry : entries) {
+            AccountAccessLog accountAccessLog = entry.getAccountAccessLog();
+            accountAccessLogs.add(accountAccessLog);
+            if (entry.isUpdateLastLoginTime()) {
+                lastLoginTimes.merge(accountAccessLog.getMemberId(), accountAccessLog.getAccessTime(),
+                        (current, candidate) -> current.isAfter(candidate) ? current : candidate);
+            }
+        }
+        writeAccountAccessLogs(accountAccessLogs);
+        writeLastLoginTimes(lastLoginTimes);
+    }
+
+    private void writeAccountAccessLogs(List<AccountAccessLog> accountAccessLogs) {
+        try {
+            externalRegisterAccountAccessLogUseCase.registerAccountAccessLogs(accountAccessLogs);
+            meterRegistry.counter("login.audit.written").increment(accountAccessLogs.size());
+            return;
+        } catch (Exception e) {
+            log.warn("Failed to write {} account access logs in a batch, retrying one by one: {}", accountAccessLogs.size(), e.getMessage());
+        }
+        for (AccountAccessLog accountAccessLog : accountAccessLogs) {
+            try {
+                externalRegisterAccountAccessLogUseCase.registerAccountAccessLogs(List.of(accountAccessLog));
+                meterRegistry.counter("login.audit.written").increment();
+            } catch (Exception e) {
+                log.error("Failed to write account access log of {}: {}", accountAccessLog.getMemberId(), e.getMessage(), e);
+                meterRegistry.counter("login.audit.failed").increment();
+            }
+        }
+    }
+
+    private void writeLastLoginTimes(Map<String, LocalDateTime> lastLoginTimes) {
+        if (lastLoginTimes.isEmpty()) {
+            return;
+        }
+        try {
+            externalUpdateMemberUseCase.updateLastLoginTimes(lastLoginTimes);
+            return;
+        } catch (Exception e) {
+            log.warn("Failed to update {} last login times in a batch, retrying one by one: {}", lastLoginTimes.size(), e.getMessage());
+        }
+        lastLoginTimes.forEach((memberId, lastLoginTime) -> {
+            try {
+                externalUpdateMemberUseCase.updateLastLoginTimes(Map.of(memberId, lastLoginTime));
+            } catch (Exception e) {
+                log.error("Failed to update last login time of {}: {}", memberId, e.getMessage(), e);
+                meterRegistry.counter("login.audit.last-login.failed").increment();
+            }
+        });
+    }
+
+    @Getter
+    @AllArgsConstructor
+    private static class LoginAuditEntry {
+
+        private final AccountAccessLog accountAccessLog;
+        private final boolean updateLastLoginTime;
+    }
+}
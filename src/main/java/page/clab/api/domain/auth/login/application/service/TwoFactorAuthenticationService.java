@@ -16,7 +16,6 @@ import page.clab.api.domain.auth.login.application.exception.MemberLockedExcepti
 import page.clab.api.domain.auth.login.application.port.in.ManageAuthenticatorUseCase;
 import page.clab.api.domain.auth.login.application.port.in.ManageLoginUseCase;
 import page.clab.api.domain.memberManagement.member.application.dto.shared.MemberLoginInfoDto;
-import page.clab.api.external.auth.accountAccessLog.application.port.ExternalRegisterAccountAccessLogUseCase;
 import page.clab.api.external.auth.accountLockInfo.application.ExternalManageAccountLockUseCase;
 import page.clab.api.external.auth.redisToken.application.port.ExternalManageRedisTokenUseCase;
 import page.clab.api.external.memberManagement.member.application.port.ExternalRetrieveMemberUseCase;
@@ -34,7 +33,7 @@ public class TwoFactorAuthenticationService implements ManageLoginUseCase {
     private final ManageAuthenticatorUseCase manageAuthenticatorUseCase;
     private final ExternalManageAccountLockUseCase externalManageAccountLockUseCase;
     private final ExternalRetrieveMemberUseCase externalRetrieveMemberUseCase;
-    private final ExternalRegisterAccountAccessLogUseCase externalRegisterAccountAccessLogUseCase;
+    private final LoginAuditWriter loginAuditWriter;
     private final ExternalManageRedisTokenUseCase externalManageRedisTokenUseCase;
     private final SlackService slackService;
     private final JwtTokenProvider jwtTokenProvider;
@@ -57,11 +56,11 @@ public class TwoFactorAuthenticationService implements ManageLoginUseCase {
 
     private void verifyTwoFactorAuthentication(String memberId, String totp, HttpServletRequest request) throws MemberLockedException, LoginFailedException {
         if (!manageAuthenticatorUseCase.isAuthenticatorValid(memberId, totp)) {
-            externalRegisterAccountAccessLogUseCase.registerAccountAccessLog(request, memberId, AccountAccessResult.FAILURE);
+            loginAuditWriter.record(request, memberId, AccountAccessResult.FAILURE, false);
             externalManageAccountLockUseCase.handleLoginFailure(request, memberId);
             throw new LoginFailedException("잘못된 인증번호입니다.");
         }
-        externalRegisterAccountAccessLogUseCase.registerAccountAccessLog(request, memberId, AccountAccessResult.TOTP);
+        loginAuditWriter.record(request, memberId, AccountAccessResult.TOTP, false);
     }
 
     private TokenInfo generateAndSaveToken(MemberLoginInfoDto memberInfo) {
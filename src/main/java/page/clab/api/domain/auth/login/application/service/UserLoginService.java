@@ -20,11 +20,9 @@ import page.clab.api.domain.auth.login.application.exception.MemberLockedExcepti
 import page.clab.api.domain.auth.login.application.port.in.ManageAuthenticatorUseCase;
 import page.clab.api.domain.auth.login.application.port.in.ManageLoginUseCase;
 import page.clab.api.domain.memberManagement.member.application.dto.shared.MemberLoginInfoDto;
-import page.clab.api.external.auth.accountAccessLog.application.port.ExternalRegisterAccountAccessLogUseCase;
 import page.clab.api.external.auth.accountLockInfo.application.ExternalManageAccountLockUseCase;
 import page.clab.api.external.auth.redisToken.application.port.ExternalManageRedisTokenUseCase;
 import page.clab.api.external.memberManagement.member.application.port.ExternalRetrieveMemberUseCase;
-import page.clab.api.external.memberManagement.member.application.port.ExternalUpdateMemberUseCase;
 import page.clab.api.global.auth.jwt.JwtTokenProvider;
 import page.clab.api.global.util.HttpReqResUtil;
 
@@ -39,8 +37,7 @@ public class UserLoginService implements ManageLoginUseCase {
     private final ManageAuthenticatorUseCase manageAuthenticatorUseCase;
     private final ExternalManageAccountLockUseCase externalManageAccountLockUseCase;
     private final ExternalRetrieveMemberUseCase externalRetrieveMemberUseCase;
-    private final ExternalUpdateMemberUseCase externalUpdateMemberUseCase;
-    private final ExternalRegisterAccountAccessLogUseCase registerAccountAccessLogUseCase;
+    private final LoginAuditWriter loginAuditWriter;
     private final ExternalManageRedisTokenUseCase manageRedisTokenUseCase;
 
     @Qualifier("loginAuthenticationManager")
@@ -51,9 +48,8 @@ public class UserLoginService implements ManageLoginUseCase {
     @Override
     public LoginResult login(HttpServletRequest request, LoginRequestDto requestDto) throws LoginFailedException, MemberLockedException {
         authenticateAndCheckStatus(request, requestDto);
-        registerAccountAccessLog(request, requestDto.getId(), true);
+        loginAuditWriter.record(request, requestDto.getId(), AccountAccessResult.SUCCESS, true);
         MemberLoginInfoDto loginMember = externalRetrieveMemberUseCase.getMemberLoginInfoById(requestDto.getId());
-        externalUpdateMemberUseCase.updateLastLoginTime(requestDto.getId());
         return generateLoginResult(loginMember);
     }
 
@@ -61,8 +57,7 @@ public class UserLoginService implements ManageLoginUseCase {
     @Override
     public LoginResult guestLogin(HttpServletRequest request) {
         MemberLoginInfoDto guestMember = externalRetrieveMemberUseCase.getGuestMemberLoginInfo();
-        registerAccountAccessLogUseCase.registerAccountAccessLog(request, guestMember.getMemberId(), AccountAccessResult.SUCCESS);
-        externalUpdateMemberUseCase.updateLastLoginTime(guestMember.getMemberId());
+        loginAuditWriter.record(request, guestMember.getMemberId(), AccountAccessResult.SUCCESS, true);
         return generateLoginResult(guestMember);
     }
 
@@ -73,17 +68,12 @@ public class UserLoginService implements ManageLoginUseCase {
             loginAuthenticationManager.authenticate(authenticationToken);
             externalManageAccountLockUseCase.handleAccountLockInfo(loginRequestDto.getId());
         } catch (BadCredentialsException e) {
-            registerAccountAccessLog(httpServletRequest, loginRequestDto.getId(), false);
+            loginAuditWriter.record(httpServletRequest, loginRequestDto.getId(), AccountAccessResult.FAILURE, false);
             externalManageAccountLockUseCase.handleLoginFailure(httpServletRequest, loginRequestDto.getId());
             throw new LoginFailedException();
         }
     }
 
-    private void registerAccountAccessLog(HttpServletRequest request, String memberId, boolean isSuccess) {
-        AccountAccessResult result = isSuccess ? AccountAccessResult.SUCCESS : AccountAccessResult.FAILURE;
-        registerAccountAccessLogUseCase.registerAccountAccessLog(request, memberId, result);
-    }
-
     private LoginResult generateLoginResult(MemberLoginInfoDto loginMember) {
         String memberId = loginMember.getMemberId();
         String header;
@@ -1,6 +1,13 @@
 package page.clab.api.domain.auth.redisIpAccessMonitor.adapter.out.persistence;
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
 import org.springframework.stereotype.Component;
 import page.clab.api.domain.auth.redisIpAccessMonitor.application.port.out.ClearIpAccessMonitorPort;
 import page.clab.api.domain.auth.redisIpAccessMonitor.application.port.out.RegisterIpAccessMonitorPort;
@@ -8,10 +15,24 @@ import page.clab.api.domain.auth.redisIpAccessMonitor.application.port.out.Remov
 import page.clab.api.domain.auth.redisIpAccessMonitor.application.port.out.RetrieveIpAccessMonitorPort;
 import page.clab.api.domain.auth.redisIpAccessMonitor.domain.RedisIpAccessMonitor;
 
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
-import java.util.stream.StreamSupport;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
 
+/**
+ * IP별 비정상 접근 횟수를 Redis 해시(ip-access-monitor:{ip})에 보관합니다.
+ * 횟수 증가, 만료 시간 갱신, 차단 IP 정렬 집합 등록을 하나의 Lua 스크립트로 처리하므로,
+ * 같은 IP에서 동시에 들어온 요청도 누락 없이 집계되며 요청당 한 번의 왕복만 발생합니다.
+ * 차단 기준을 넘은 IP는 마지막 접근 시각을 점수로 하는 정렬 집합(ip-access-monitor:blocked)에서 최신순으로 조회합니다.
+ */
 @Component
 @RequiredArgsConstructor
 public class RedisIpAccessMonitorAdapter implements
@@ -20,32 +41,135 @@ public class RedisIpAccessMonitorAdapter implements
         RemoveIpAccessMonitorPort,
         ClearIpAccessMonitorPort {
 
-    private final RedisIpAccessMonitorRepository repository;
+    private static final String KEY_PREFIX = "ip-access-monitor:";
+    private static final String BLOCKED_KEY = KEY_PREFIX + "blocked";
+    private static final long TTL_SECONDS = 60 * 5;
+
+    private static final RedisScript<Long> INCREASE_ATTEMPTS_SCRIPT = new DefaultRedisScript<>(
+            "local attempts = redis.call('HINCRBY', KEYS[1], 'attempts', 1) " +
+                    "redis.call('HSET', KEYS[1], 'lastAttempt', ARGV[1]) " +
+                    "redis.call('EXPIRE', KEYS[1], ARGV[2]) " +
+                    "if attempts >= tonumber(ARGV[3]) then " +
+                    "    redis.call('ZADD', KEYS[2], ARGV[1], ARGV[4]) " +
+                    "end " +
+                    "redis.call('ZREMRANGEBYSCORE', KEYS[2], '-inf', '(' .. ARGV[5]) " +
+                    "return attempts",
+            Long.class
+    );
+
+    private final StringRedisTemplate redisTemplate;
+
+    @Value("${security.ip-attempt.max-attempts}")
+    private int maxAttempts;
+
+    @Override
+    public long increaseAttempts(String ipAddress) {
+        long now = System.currentTimeMillis();
+        Long attempts = redisTemplate.execute(
+                INCREASE_ATTEMPTS_SCRIPT,
+                List.of(KEY_PREFIX + ipAddress, BLOCKED_KEY),
+                String.valueOf(now),
+                String.valueOf(TTL_SECONDS),
+                String.valueOf(maxAttempts),
+                ipAddress,
+                String.valueOf(expiredBefore(now))
+        );
+        return attempts == null ? 0 : attempts;
+    }
 
     @Override
     public Optional<RedisIpAccessMonitor> findById(String ipAddress) {
-        return repository.findById(ipAddress);
+        Map<Object, Object> fields = redisTemplate.opsForHash().entries(KEY_PREFIX + ipAddress);
+        return Optional.ofNullable(toMonitor(ipAddress, fields));
+    }
+
+    @Override
+    public List<RedisIpAccessMonitor> findAll() {
+        List<String> ipAddresses = new ArrayList<>();
+        ScanOptions options = ScanOptions.scanOptions().match(KEY_PREFIX + "*").count(1000).build();
+        try (Cursor<String> cursor = redisTemplate.scan(options)) {
+            cursor.forEachRemaining(key -> {
+                if (!BLOCKED_KEY.equals(key)) {
+                    ipAddresses.add(key.substring(KEY_PREFIX.length()));
+                }
+            });
+        }
+        return findAllByIds(ipAddresses);
+    }
+
+    @Override
+    public List<RedisIpAccessMonitor> findBlocked(long offset, int limit) {
+        Set<String> ipAddresses = redisTemplate.opsForZSet()
+                .reverseRangeByScore(BLOCKED_KEY, expiredBefore(System.currentTimeMillis()), Double.POSITIVE_INFINITY, offset, limit);
+        if (ipAddresses == null || ipAddresses.isEmpty()) {
+            return List.of();
+        }
+        return findAllByIds(new ArrayList<>(ipAddresses)).stream()
+                .filter(RedisIpAccessMonitor::isBlocked)
+                .toList();
+    }
+
+    @Override
+    public long countBlocked() {
+        Long count = redisTemplate.opsForZSet().count(BLOCKED_KEY, expiredBefore(System.currentTimeMillis()), Double.POSITIVE_INFINITY);
+        return count == null ? 0 : count;
     }
 
     @Override
     public void deleteById(String ipAddress) {
-        repository.findById(ipAddress)
-                .ifPresent(repository::delete);
+        redisTemplate.delete(KEY_PREFIX + ipAddress);
+        redisTemplate.opsForZSet().remove(BLOCKED_KEY, ipAddress);
     }
 
     @Override
     public void deleteAll() {
-        repository.deleteAll();
+        List<String> keys = new ArrayList<>();
+        ScanOptions options = ScanOptions.scanOptions().match(KEY_PREFIX + "*").count(1000).build();
+        try (Cursor<String> cursor = redisTemplate.scan(options)) {
+            cursor.forEachRemaining(keys::add);
+        }
+        if (!keys.isEmpty()) {
+            redisTemplate.delete(keys);
+        }
     }
 
-    public List<RedisIpAccessMonitor> findAll() {
-        return StreamSupport
-                .stream(repository.findAll().spliterator(), false)
+    /**
+     * 여러 IP의 해시를 파이프라인으로 한 번에 읽습니다. 그사이 만료된 IP는 결과에서 제외됩니다.
+     */
+    @SuppressWarnings("unchecked")
+    private List<RedisIpAccessMonitor> findAllByIds(List<String> ipAddresses) {
+        if (ipAddresses.isEmpty()) {
+            return List.of();
+        }
+        List<Object> results = redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            for (String ipAddress : ipAddresses) {
+                connection.hashCommands().hGetAll((KEY_PREFIX + ipAddress).getBytes(StandardCharsets.UTF_8));
+            }
+            return null;
+        });
+        List<RedisIpAccessMonitor> monitors = new ArrayList<>();
+        for (int i = 0; i < ipAddresses.size(); i++) {
+            monitors.add(toMonitor(ipAddresses.get(i), (Map<Object, Object>) results.get(i)));
+        }
+        return monitors.stream()
+                .filter(Objects::nonNull)
                 .toList();
     }
 
-    @Override
-    public void save(RedisIpAccessMonitor redisIpAccessMonitor) {
-        repository.save(redisIpAccessMonitor);
+    private RedisIpAccessMonitor toMonitor(String ipAddress, Map<Object, Object> fields) {
+        if (fields == null || fields.get("attempts") == null) {
+            return null;
+        }
+        Object lastAttempt = fields.get("lastAttempt");
+        return RedisIpAccessMonitor.builder()
+                .ipAddress(ipAddress)
+                .attempts(Integer.parseInt(fields.get("attempts").toString()))
+                .lastAttempt(lastAttempt == null ? null : LocalDateTime.ofInstant(Instant.ofEpochMilli(Long.parseLong(lastAttempt.toString())), ZoneId.systemDefault()))
+                .maxAttempts(maxAttempts)
+                .build();
+    }
+
+    private static long expiredBefore(long now) {
+        return now - TimeUnit.SECONDS.toMillis(TTL_SECONDS);
     }
 }
@@ -1,7 +1,12 @@
 package page.clab.api.domain.auth.redisIpAccessMonitor.application.port.out;
 
-import page.clab.api.domain.auth.redisIpAccessMonitor.domain.RedisIpAccessMonitor;
-
 public interface RegisterIpAccessMonitorPort {
-    void save(RedisIpAccessMonitor redisIpAccessMonitor);
+
+    /**
+     * IP의 비정상 접근 횟수를 원자적으로 1 증가시키고 만료 시간을 갱신합니다.
+     * 차단 기준 횟수에 도달한 IP는 차단 IP 목록에 등록됩니다.
+     * @param ipAddress 비정상 접근한 IP 주소
+     * @return 증가한 뒤의 접근 횟수
+     */
+    long increaseAttempts(String ipAddress);
 }
@@ -10,4 +10,8 @@ public interface RetrieveIpAccessMonitorPort {
     Optional<RedisIpAccessMonitor> findById(String ipAddress);
 
     List<RedisIpAccessMonitor> findAll();
+
+    List<RedisIpAccessMonitor> findBlocked(long offset, int limit);
+
+    long countBlocked();
 }
@@ -9,9 +9,7 @@ import page.clab.api.domain.auth.redisIpAccessMonitor.application.port.out.Retri
 import page.clab.api.domain.auth.redisIpAccessMonitor.domain.RedisIpAccessMonitor;
 import page.clab.api.global.common.dto.PagedResponseDto;
 
-import java.util.Comparator;
 import java.util.List;
-import java.util.Objects;
 
 @Service
 @RequiredArgsConstructor
@@ -22,12 +20,8 @@ public class AbnormalAccessIpsRetrieveService implements RetrieveAbnormalAccessI
     @Override
     @Transactional(readOnly = true)
     public PagedResponseDto<RedisIpAccessMonitor> retrieveAbnormalAccessIps(Pageable pageable) {
-        List<RedisIpAccessMonitor> allMonitors = retrieveIpAccessMonitorPort.findAll();
-        List<RedisIpAccessMonitor> filteredMonitors = allMonitors.stream()
-                .filter(Objects::nonNull)
-                .filter(RedisIpAccessMonitor::isBlocked)
-                .sorted(Comparator.comparing(RedisIpAccessMonitor::getLastAttempt).reversed())
-                .toList();
-        return new PagedResponseDto<>(filteredMonitors, pageable, filteredMonitors.size());
+        long totalItems = retrieveIpAccessMonitorPort.countBlocked();
+        List<RedisIpAccessMonitor> blockedMonitors = retrieveIpAccessMonitorPort.findBlocked(pageable.getOffset(), pageable.getPageSize());
+        return new PagedResponseDto<>(blockedMonitors, (int) totalItems, pageable);
     }
 }
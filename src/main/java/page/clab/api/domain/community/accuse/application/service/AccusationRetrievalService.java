@@ -14,11 +14,10 @@ import page.clab.api.domain.community.accuse.domain.AccuseStatus;
 import page.clab.api.domain.community.accuse.domain.AccuseTarget;
 import page.clab.api.domain.community.accuse.domain.TargetType;
 import page.clab.api.domain.memberManagement.member.application.dto.shared.MemberBasicInfoDto;
-import page.clab.api.external.memberManagement.member.application.port.ExternalRetrieveMemberUseCase;
+import page.clab.api.external.memberManagement.member.application.loader.MemberInfoLoader;
 import page.clab.api.global.common.dto.PagedResponseDto;
 
 import java.util.List;
-import java.util.Objects;
 
 @Service
 @RequiredArgsConstructor
@@ -26,7 +25,7 @@ public class AccusationRetrievalService implements RetrieveAccusationUseCase {
 
     private final RetrieveAccusePort retrieveAccusePort;
     private final RetrieveAccuseTargetPort retrieveAccuseByTargetPort;
-    private final ExternalRetrieveMemberUseCase externalRetrieveMemberUseCase;
+    private final MemberInfoLoader memberInfoLoader;
 
     @Transactional(readOnly = true)
     @Override
@@ -37,18 +36,21 @@ public class AccusationRetrievalService implements RetrieveAccusationUseCase {
     }
 
     private List<AccuseResponseDto> convertTargetsToResponseDtos(Page<AccuseTarget> accuseTargets) {
-        return accuseTargets.stream()
-                .map(accuseTarget -> {
-                    List<Accuse> accuses = retrieveAccusePort.findByTargetOrderByCreatedAtDesc(accuseTarget.getTargetType(), accuseTarget.getTargetReferenceId());
-                    if (accuses.isEmpty()) {
-                        return null;
-                    }
+        List<List<Accuse>> accusesByTarget = accuseTargets.stream()
+                .map(accuseTarget -> retrieveAccusePort.findByTargetOrderByCreatedAtDesc(accuseTarget.getTargetType(), accuseTarget.getTargetReferenceId()))
+                .filter(accuses -> !accuses.isEmpty())
+                .toList();
+        memberInfoLoader.prepareBasicInfos(accusesByTarget.stream()
+                .flatMap(List::stream)
+                .map(Accuse::getMemberId)
+                .toList());
+        return accusesByTarget.stream()
+                .map(accuses -> {
                     List<MemberBasicInfoDto> members = accuses.stream()
-                            .map(accuse -> externalRetrieveMemberUseCase.getMemberBasicInfoById(accuse.getMemberId()))
+                            .map(accuse -> memberInfoLoader.getBasicInfo(accuse.getMemberId()))
                             .toList();
                     return AccuseResponseDto.toDto(accuses.getFirst(), members);
                 })
-                .filter(Objects::nonNull)
                 .toList();
     }
 }
@@ -14,6 +14,7 @@ import page.clab.api.domain.community.board.application.port.in.RetrieveBoardsBy
 import page.clab.api.domain.community.board.domain.BoardCategory;
 import page.clab.api.global.common.dto.ApiResponse;
 import page.clab.api.global.common.dto.PagedResponseDto;
+import page.clab.api.global.common.ratelimit.annotation.RateLimit;
 import page.clab.api.global.exception.InvalidColumnException;
 import page.clab.api.global.exception.SortingArgumentException;
 import page.clab.api.global.util.PageableUtils;
@@ -32,6 +33,7 @@ public class BoardsByCategoryRetrievalController {
     @Operation(summary = "[G] 커뮤니티 게시글 카테고리별 조회", description = "ROLE_GUEST 이상의 권한이 필요함<br>" +
             "DTO의 필드명을 기준으로 정렬 가능하며, 정렬 방향은 오름차순(asc)과 내림차순(desc)이 가능함")
     @PreAuthorize("hasRole('GUEST')")
+    @RateLimit("board-search")
     @GetMapping("/category")
     public ApiResponse<PagedResponseDto<BoardCategoryResponseDto>> retrieveBoardsByCategory(
             @RequestParam(name = "category") BoardCategory category,
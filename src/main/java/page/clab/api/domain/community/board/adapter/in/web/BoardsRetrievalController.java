@@ -12,7 +12,9 @@ import org.springframework.web.bind.annotation.RestController;
 import page.clab.api.domain.community.board.application.dto.response.BoardListResponseDto;
 import page.clab.api.domain.community.board.application.port.in.RetrieveBoardUseCase;
 import page.clab.api.global.common.dto.ApiResponse;
+import page.clab.api.global.common.dto.PageCursor;
 import page.clab.api.global.common.dto.PagedResponseDto;
+import page.clab.api.global.common.ratelimit.annotation.RateLimit;
 import page.clab.api.global.exception.InvalidColumnException;
 import page.clab.api.global.exception.SortingArgumentException;
 import page.clab.api.global.util.PageableUtils;
@@ -29,17 +31,23 @@ public class BoardsRetrievalController {
     private final PageableUtils pageableUtils;
 
     @Operation(summary = "[G] 커뮤니티 게시글 목록 조회", description = "ROLE_GUEST 이상의 권한이 필요함<br>" +
-            "DTO의 필드명을 기준으로 정렬 가능하며, 정렬 방향은 오름차순(asc)과 내림차순(desc)이 가능함")
+            "DTO의 필드명을 기준으로 정렬 가능하며, 정렬 방향은 오름차순(asc)과 내림차순(desc)이 가능함<br>" +
+            "cursor를 전달하면 커서 기반으로 조회하며(첫 페이지는 빈 값), 이때 page는 무시되고 첫 번째 정렬 기준만 사용됨<br>" +
+            "다음 페이지는 응답의 nextCursor로 조회함")
     @PreAuthorize("hasRole('GUEST')")
+    @RateLimit("board-search")
     @GetMapping("")
     public ApiResponse<PagedResponseDto<BoardListResponseDto>> retrieveBoards(
             @RequestParam(name = "page", defaultValue = "0") int page,
             @RequestParam(name = "size", defaultValue = "20") int size,
             @RequestParam(name = "sortBy", defaultValue = "createdAt") List<String> sortBy,
-            @RequestParam(name = "sortDirection", defaultValue = "desc") List<String> sortDirection
+            @RequestParam(name = "sortDirection", defaultValue = "desc") List<String> sortDirection,
+            @RequestParam(name = "cursor", required = false) String cursor
     ) throws SortingArgumentException, InvalidColumnException {
         Pageable pageable = pageableUtils.createPageable(page, size, sortBy, sortDirection, BoardListResponseDto.class);
-        PagedResponseDto<BoardListResponseDto> boards = retrieveBoardUseCase.retrieveBoards(pageable);
+        PagedResponseDto<BoardListResponseDto> boards = cursor != null
+                ? retrieveBoardUseCase.retrieveBoardsByCursor(PageCursor.decode(cursor), pageable)
+                : retrieveBoardUseCase.retrieveBoards(pageable);
         return ApiResponse.success(boards);
     }
 }
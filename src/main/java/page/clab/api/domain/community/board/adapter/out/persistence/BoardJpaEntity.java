@@ -18,6 +18,7 @@ import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.hibernate.annotations.ColumnDefault;
 import org.hibernate.annotations.SQLDelete;
 import org.hibernate.annotations.SQLRestriction;
 import page.clab.api.domain.community.board.domain.BoardCategory;
@@ -68,6 +69,10 @@ public class BoardJpaEntity extends BaseEntity {
     @Column(nullable = false)
     private boolean wantAnonymous;
 
+    @ColumnDefault("0")
+    @Column(name = "comment_count", nullable = false, insertable = false, updatable = false)
+    private Long commentCount;
+
     @Column(name = "is_deleted", nullable = false)
     private Boolean isDeleted;
 }
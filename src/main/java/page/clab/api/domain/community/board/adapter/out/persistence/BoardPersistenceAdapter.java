@@ -3,18 +3,22 @@ package page.clab.api.domain.community.board.adapter.out.persistence;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Component;
 import page.clab.api.domain.community.board.application.port.out.RegisterBoardPort;
 import page.clab.api.domain.community.board.application.port.out.RetrieveBoardPort;
+import page.clab.api.domain.community.board.application.port.out.UpdateBoardCommentCountPort;
 import page.clab.api.domain.community.board.domain.Board;
 import page.clab.api.domain.community.board.domain.BoardCategory;
+import page.clab.api.global.common.dto.PageCursor;
 import page.clab.api.global.exception.NotFoundException;
 
 @Component
 @RequiredArgsConstructor
 public class BoardPersistenceAdapter implements
         RegisterBoardPort,
-        RetrieveBoardPort {
+        RetrieveBoardPort,
+        UpdateBoardCommentCountPort {
 
     private final BoardRepository boardRepository;
     private final BoardMapper boardMapper;
@@ -26,6 +30,21 @@ public class BoardPersistenceAdapter implements
         return boardMapper.toDomain(savedEntity);
     }
 
+    @Override
+    public void increaseCommentCount(Long boardId) {
+        boardRepository.addCommentCount(boardId, 1);
+    }
+
+    @Override
+    public void decreaseCommentCount(Long boardId) {
+        boardRepository.addCommentCount(boardId, -1);
+    }
+
+    @Override
+    public int reconcileCommentCounts() {
+        return boardRepository.reconcileCommentCounts();
+    }
+
     @Override
     public Board findByIdOrThrow(Long boardId) {
         return boardRepository.findById(boardId)
@@ -63,4 +82,10 @@ public class BoardPersistenceAdapter implements
         return boardRepository.findAll(pageable)
                 .map(boardMapper::toDomain);
     }
+
+    @Override
+    public Slice<Board> findAllByCursor(PageCursor cursor, Pageable pageable) {
+        return boardRepository.findAllByCursor(cursor, pageable)
+                .map(boardMapper::toDomain);
+    }
 }
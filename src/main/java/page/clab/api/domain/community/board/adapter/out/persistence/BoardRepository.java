@@ -5,13 +5,14 @@ import java.util.Optional;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import page.clab.api.domain.community.board.domain.BoardCategory;
 
 @Repository
-public interface BoardRepository extends JpaRepository<BoardJpaEntity, Long> {
+public interface BoardRepository extends JpaRepository<BoardJpaEntity, Long>, BoardRepositoryCustom {
 
     @Query("SELECT b FROM BoardJpaEntity b WHERE b.memberId = ?1 AND b.isDeleted = false")
     Page<BoardJpaEntity> findAllByMemberIdAndIsDeletedFalse(String memberId, Pageable pageable);
@@ -25,4 +26,15 @@ public interface BoardRepository extends JpaRepository<BoardJpaEntity, Long> {
 
     @Query(value = "SELECT * FROM board b WHERE b.id = :boardId", nativeQuery = true)
     Optional<BoardJpaEntity> findByIdRegardlessOfDeletion(@Param("boardId") Long boardId);
+
+    @Modifying
+    @Query(value = "UPDATE board SET comment_count = comment_count + :delta WHERE id = :boardId", nativeQuery = true)
+    int addCommentCount(@Param("boardId") Long boardId, @Param("delta") long delta);
+
+    @Modifying
+    @Query(value = "UPDATE board b SET comment_count = c.actual_count " +
+            "FROM (SELECT b2.id AS board_id, COUNT(c2.id) AS actual_count FROM board b2 " +
+            "LEFT JOIN comment c2 ON c2.board_id = b2.id AND c2.is_deleted = false GROUP BY b2.id) c " +
+            "WHERE b.id = c.board_id AND b.comment_count <> c.actual_count", nativeQuery = true)
+    int reconcileCommentCounts();
 }
@@ -0,0 +1,10 @@
+package page.clab.api.domain.community.board.adapter.out.persistence;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import page.clab.api.global.common.dto.PageCursor;
+
+public interface BoardRepositoryCustom {
+
+    Slice<BoardJpaEntity> findAllByCursor(PageCursor cursor, Pageable pageable);
+}
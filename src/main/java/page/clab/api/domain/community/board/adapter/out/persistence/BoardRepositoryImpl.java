@@ -0,0 +1,33 @@
+package page.clab.api.domain.community.board.adapter.out.persistence;
+
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.stereotype.Repository;
+import page.clab.api.global.common.dto.PageCursor;
+import page.clab.api.global.util.OrderSpecifierUtil;
+import page.clab.api.global.util.PaginationUtils;
+
+import java.util.List;
+
+@Repository
+@RequiredArgsConstructor
+public class BoardRepositoryImpl implements BoardRepositoryCustom {
+
+    private final JPAQueryFactory queryFactory;
+
+    @Override
+    public Slice<BoardJpaEntity> findAllByCursor(PageCursor cursor, Pageable pageable) {
+        QBoardJpaEntity board = QBoardJpaEntity.boardJpaEntity;
+
+        List<BoardJpaEntity> boards = queryFactory
+                .selectFrom(board)
+                .where(OrderSpecifierUtil.getCursorCondition(pageable, board, board.id, cursor))
+                .orderBy(OrderSpecifierUtil.getCursorOrderSpecifiers(pageable, board, board.id))
+                .limit(pageable.getPageSize() + 1)
+                .fetch();
+
+        return PaginationUtils.toSlice(boards, pageable);
+    }
+}
@@ -2,8 +2,10 @@ package page.clab.api.domain.community.board.application.port.out;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import page.clab.api.domain.community.board.domain.Board;
 import page.clab.api.domain.community.board.domain.BoardCategory;
+import page.clab.api.global.common.dto.PageCursor;
 
 public interface RetrieveBoardPort {
 
@@ -13,6 +15,8 @@ public interface RetrieveBoardPort {
 
     Page<Board> findAll(Pageable pageable);
 
+    Slice<Board> findAllByCursor(PageCursor cursor, Pageable pageable);
+
     Page<Board> findAllByCategory(BoardCategory category, Pageable pageable);
 
     Page<Board> findAllByIsDeletedTrue(Pageable pageable);
@@ -0,0 +1,10 @@
+package page.clab.api.domain.community.board.application.port.out;
+
+public interface UpdateBoardCommentCountPort {
+
+    void increaseCommentCount(Long boardId);
+
+    void decreaseCommentCount(Long boardId);
+
+    int reconcileCommentCounts();
+}
@@ -0,0 +1,29 @@
+package page.clab.api.domain.community.board.application.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import page.clab.api.domain.community.board.application.port.out.UpdateBoardCommentCountPort;
+
+/**
+ * 게시글의 댓글 수 컬럼을 실제 댓글 수와 주기적으로 맞추는 작업입니다.
+ * 댓글 수는 댓글 등록/삭제 시 증감되지만, 게시글 삭제에 따른 일괄 삭제 등 증감을 거치지 않는 소프트 삭제로 어긋날 수 있습니다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class BoardCommentCountReconciler {
+
+    private final UpdateBoardCommentCountPort updateBoardCommentCountPort;
+
+    @Scheduled(cron = "0 30 3 * * *")
+    @Transactional
+    public void reconcileCommentCounts() {
+        int reconciled = updateBoardCommentCountPort.reconcileCommentCounts();
+        if (reconciled > 0) {
+            log.info("Reconciled comment counts of {} boards", reconciled);
+        }
+    }
+}
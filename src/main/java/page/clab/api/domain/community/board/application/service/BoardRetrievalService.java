@@ -4,6 +4,7 @@ import com.drew.lang.annotations.NotNull;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import page.clab.api.domain.community.board.application.dto.response.BoardListResponseDto;
@@ -11,38 +12,48 @@ import page.clab.api.domain.community.board.application.port.in.RetrieveBoardUse
 import page.clab.api.domain.community.board.application.port.out.RetrieveBoardPort;
 import page.clab.api.domain.community.board.domain.Board;
 import page.clab.api.domain.memberManagement.member.application.dto.shared.MemberDetailedInfoDto;
-import page.clab.api.external.community.comment.application.port.ExternalRetrieveCommentUseCase;
-import page.clab.api.external.memberManagement.member.application.port.ExternalRetrieveMemberUseCase;
+import page.clab.api.external.memberManagement.member.application.loader.MemberInfoLoader;
+import page.clab.api.global.common.dto.PageCursor;
 import page.clab.api.global.common.dto.PagedResponseDto;
+import page.clab.api.global.util.PaginationUtils;
 
 @Service
 @RequiredArgsConstructor
 public class BoardRetrievalService implements RetrieveBoardUseCase {
 
     private final RetrieveBoardPort retrieveBoardPort;
-    private final ExternalRetrieveCommentUseCase externalRetrieveCommentUseCase;
-    private final ExternalRetrieveMemberUseCase externalRetrieveMemberUseCase;
+    private final MemberInfoLoader memberInfoLoader;
 
     @Transactional
     @Override
     public PagedResponseDto<BoardListResponseDto> retrieveBoards(Pageable pageable) {
         Page<Board> boards = retrieveBoardPort.findAll(pageable);
+        memberInfoLoader.prepareDetailedInfos(boards.map(Board::getMemberId).getContent());
         return new PagedResponseDto<>(boards.map(board ->
                 mapToBoardListResponseDto(board, getMemberDetailedInfoByBoard(board))));
     }
 
+    @Transactional(readOnly = true)
+    @Override
+    public PagedResponseDto<BoardListResponseDto> retrieveBoardsByCursor(PageCursor cursor, Pageable pageable) {
+        Slice<Board> boards = retrieveBoardPort.findAllByCursor(cursor, pageable);
+        memberInfoLoader.prepareDetailedInfos(boards.map(Board::getMemberId).getContent());
+        String nextCursor = PaginationUtils.createNextCursor(boards, Board::getId);
+        return new PagedResponseDto<>(boards.map(board ->
+                mapToBoardListResponseDto(board, getMemberDetailedInfoByBoard(board))), cursor != null, nextCursor);
+    }
+
     @Override
     public Board findByIdOrThrow(Long boardId) {
         return retrieveBoardPort.findByIdOrThrow(boardId);
     }
 
     private MemberDetailedInfoDto getMemberDetailedInfoByBoard(Board board) {
-        return externalRetrieveMemberUseCase.getMemberDetailedInfoById(board.getMemberId());
+        return memberInfoLoader.getDetailedInfo(board.getMemberId());
     }
 
     @NotNull
     private BoardListResponseDto mapToBoardListResponseDto(Board board, MemberDetailedInfoDto memberInfo) {
-        Long commentCount = externalRetrieveCommentUseCase.countByBoardId(board.getId());
-        return BoardListResponseDto.toDto(board, memberInfo, commentCount);
+        return BoardListResponseDto.toDto(board, memberInfo, board.getCommentCount());
     }
 }
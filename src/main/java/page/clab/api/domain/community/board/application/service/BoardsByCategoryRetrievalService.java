@@ -11,8 +11,7 @@ import page.clab.api.domain.community.board.application.port.out.RetrieveBoardPo
 import page.clab.api.domain.community.board.domain.Board;
 import page.clab.api.domain.community.board.domain.BoardCategory;
 import page.clab.api.domain.memberManagement.member.application.dto.shared.MemberDetailedInfoDto;
-import page.clab.api.external.community.comment.application.port.ExternalRetrieveCommentUseCase;
-import page.clab.api.external.memberManagement.member.application.port.ExternalRetrieveMemberUseCase;
+import page.clab.api.external.memberManagement.member.application.loader.MemberInfoLoader;
 import page.clab.api.global.common.dto.PagedResponseDto;
 
 @Service
@@ -20,20 +19,18 @@ import page.clab.api.global.common.dto.PagedResponseDto;
 public class BoardsByCategoryRetrievalService implements RetrieveBoardsByCategoryUseCase {
 
     private final RetrieveBoardPort retrieveBoardPort;
-    private final ExternalRetrieveMemberUseCase externalRetrieveMemberUseCase;
-    private final ExternalRetrieveCommentUseCase externalRetrieveCommentUseCase;
+    private final MemberInfoLoader memberInfoLoader;
 
     @Transactional
     @Override
     public PagedResponseDto<BoardCategoryResponseDto> retrieveBoardsByCategory(BoardCategory category, Pageable pageable) {
         Page<Board> boards = retrieveBoardPort.findAllByCategory(category, pageable);
-        return new PagedResponseDto<>(boards.map(board -> {
-            long commentCount = externalRetrieveCommentUseCase.countByBoardId(board.getId());
-            return  BoardCategoryResponseDto.toDto(board, getMemberDetailedInfoByBoard(board), commentCount);
-        }));
+        memberInfoLoader.prepareDetailedInfos(boards.map(Board::getMemberId).getContent());
+        return new PagedResponseDto<>(boards.map(board ->
+                BoardCategoryResponseDto.toDto(board, getMemberDetailedInfoByBoard(board), board.getCommentCount())));
     }
 
     private MemberDetailedInfoDto getMemberDetailedInfoByBoard(Board board) {
-        return externalRetrieveMemberUseCase.getMemberDetailedInfoById(board.getMemberId());
+        return memberInfoLoader.getDetailedInfo(board.getMemberId());
     }
 }
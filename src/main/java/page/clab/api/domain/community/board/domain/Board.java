@@ -31,6 +31,7 @@ public class Board {
     private List<UploadedFile> uploadedFiles;
     private String imageUrl;
     private boolean wantAnonymous;
+    private Long commentCount;
     private Boolean isDeleted;
     private LocalDateTime createdAt;
 
@@ -13,6 +13,7 @@ import org.springframework.web.bind.annotation.RestController;
 import page.clab.api.domain.community.comment.application.dto.response.CommentResponseDto;
 import page.clab.api.domain.community.comment.application.port.in.RetrieveCommentUseCase;
 import page.clab.api.global.common.dto.ApiResponse;
+import page.clab.api.global.common.dto.PageCursor;
 import page.clab.api.global.common.dto.PagedResponseDto;
 import page.clab.api.global.exception.InvalidColumnException;
 import page.clab.api.global.exception.SortingArgumentException;
@@ -30,7 +31,9 @@ public class CommentRetrievalController {
     private final PageableUtils pageableUtils;
 
     @Operation(summary = "[U] 댓글 목록 조회", description = "ROLE_USER 이상의 권한이 필요함<br>" +
-            "DTO의 필드명을 기준으로 정렬 가능하며, 정렬 방향은 오름차순(asc)과 내림차순(desc)이 가능함")
+            "DTO의 필드명을 기준으로 정렬 가능하며, 정렬 방향은 오름차순(asc)과 내림차순(desc)이 가능함<br>" +
+            "cursor를 전달하면 커서 기반으로 조회하며(첫 페이지는 빈 값), 이때 page는 무시되고 첫 번째 정렬 기준만 사용됨<br>" +
+            "다음 페이지는 응답의 nextCursor로 조회함")
     @PreAuthorize("hasRole('USER')")
     @GetMapping("/{boardId}")
     public ApiResponse<PagedResponseDto<CommentResponseDto>> retrieveComments(
@@ -38,10 +41,13 @@ public class CommentRetrievalController {
             @RequestParam(name = "page", defaultValue = "0") int page,
             @RequestParam(name = "size", defaultValue = "20") int size,
             @RequestParam(name = "sortBy", defaultValue = "createdAt") List<String> sortBy,
-            @RequestParam(name = "sortDirection", defaultValue = "desc") List<String> sortDirection
+            @RequestParam(name = "sortDirection", defaultValue = "desc") List<String> sortDirection,
+            @RequestParam(name = "cursor", required = false) String cursor
     ) throws SortingArgumentException, InvalidColumnException {
         Pageable pageable = pageableUtils.createPageable(page, size, sortBy, sortDirection, CommentResponseDto.class);
-        PagedResponseDto<CommentResponseDto> comments = retrieveCommentUseCase.retrieveComments(boardId, pageable);
+        PagedResponseDto<CommentResponseDto> comments = cursor != null
+                ? retrieveCommentUseCase.retrieveCommentsByCursor(boardId, PageCursor.decode(cursor), pageable)
+                : retrieveCommentUseCase.retrieveComments(boardId, pageable);
         return ApiResponse.success(comments);
     }
 }
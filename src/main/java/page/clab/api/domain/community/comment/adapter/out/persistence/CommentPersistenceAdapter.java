@@ -3,10 +3,12 @@ package page.clab.api.domain.community.comment.adapter.out.persistence;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Component;
 import page.clab.api.domain.community.comment.application.port.out.RegisterCommentPort;
 import page.clab.api.domain.community.comment.application.port.out.RetrieveCommentPort;
 import page.clab.api.domain.community.comment.domain.Comment;
+import page.clab.api.global.common.dto.PageCursor;
 import page.clab.api.global.exception.NotFoundException;
 
 import java.util.List;
@@ -61,6 +63,12 @@ public class CommentPersistenceAdapter implements
                 .map(commentMapper::toDomain);
     }
 
+    @Override
+    public Slice<Comment> findAllByBoardIdAndParentIsNull(Long boardId, PageCursor cursor, Pageable pageable) {
+        return commentRepository.findAllByBoardIdAndParentIsNullAndCursor(boardId, cursor, pageable)
+                .map(commentMapper::toDomain);
+    }
+
     @Override
     public Page<Comment> findAllByWriterId(String memberId, Pageable pageable) {
         return commentRepository.findAllByWriterId(memberId, pageable)
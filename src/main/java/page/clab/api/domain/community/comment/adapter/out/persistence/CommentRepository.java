@@ -10,7 +10,7 @@ import org.springframework.stereotype.Repository;
 import java.util.List;
 
 @Repository
-public interface CommentRepository extends JpaRepository<CommentJpaEntity, Long> {
+public interface CommentRepository extends JpaRepository<CommentJpaEntity, Long>, CommentRepositoryCustom {
 
     @Query("SELECT c FROM CommentJpaEntity c WHERE c.boardId = ?1 AND c.parent.id IS NULL")
     Page<CommentJpaEntity> findAllByBoardIdAndParentIsNull(Long boardId, Pageable pageable);
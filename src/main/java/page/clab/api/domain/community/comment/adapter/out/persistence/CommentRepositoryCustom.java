@@ -0,0 +1,10 @@
+package page.clab.api.domain.community.comment.adapter.out.persistence;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import page.clab.api.global.common.dto.PageCursor;
+
+public interface CommentRepositoryCustom {
+
+    Slice<CommentJpaEntity> findAllByBoardIdAndParentIsNullAndCursor(Long boardId, PageCursor cursor, Pageable pageable);
+}
@@ -0,0 +1,37 @@
+package page.clab.api.domain.community.comment.adapter.out.persistence;
+
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.stereotype.Repository;
+import page.clab.api.global.common.dto.PageCursor;
+import page.clab.api.global.util.OrderSpecifierUtil;
+import page.clab.api.global.util.PaginationUtils;
+
+import java.util.List;
+
+@Repository
+@RequiredArgsConstructor
+public class CommentRepositoryImpl implements CommentRepositoryCustom {
+
+    private final JPAQueryFactory queryFactory;
+
+    @Override
+    public Slice<CommentJpaEntity> findAllByBoardIdAndParentIsNullAndCursor(Long boardId, PageCursor cursor, Pageable pageable) {
+        QCommentJpaEntity comment = QCommentJpaEntity.commentJpaEntity;
+
+        List<CommentJpaEntity> comments = queryFactory
+                .selectFrom(comment)
+                .where(
+                        comment.boardId.eq(boardId),
+                        comment.parent.isNull(),
+                        OrderSpecifierUtil.getCursorCondition(pageable, comment, comment.id, cursor)
+                )
+                .orderBy(OrderSpecifierUtil.getCursorOrderSpecifiers(pageable, comment, comment.id))
+                .limit(pageable.getPageSize() + 1)
+                .fetch();
+
+        return PaginationUtils.toSlice(comments, pageable);
+    }
+}
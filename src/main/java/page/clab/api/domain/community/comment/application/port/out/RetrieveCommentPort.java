@@ -2,7 +2,9 @@ package page.clab.api.domain.community.comment.application.port.out;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import page.clab.api.domain.community.comment.domain.Comment;
+import page.clab.api.global.common.dto.PageCursor;
 
 import java.util.List;
 import java.util.Optional;
@@ -17,6 +19,8 @@ public interface RetrieveCommentPort {
 
     Page<Comment> findAllByBoardIdAndParentIsNull(Long boardId, Pageable pageable);
 
+    Slice<Comment> findAllByBoardIdAndParentIsNull(Long boardId, PageCursor cursor, Pageable pageable);
+
     Page<Comment> findAllByWriterId(String memberId, Pageable pageable);
 
     List<Comment> findByBoardId(Long boardId);
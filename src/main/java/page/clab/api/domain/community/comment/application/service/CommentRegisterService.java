@@ -11,6 +11,7 @@ import page.clab.api.domain.community.comment.application.port.out.RegisterComme
 import page.clab.api.domain.community.comment.application.port.out.RetrieveCommentPort;
 import page.clab.api.domain.community.comment.domain.Comment;
 import page.clab.api.external.community.board.application.port.ExternalRetrieveBoardUseCase;
+import page.clab.api.external.community.board.application.port.ExternalUpdateBoardUseCase;
 import page.clab.api.external.memberManagement.member.application.port.ExternalRetrieveMemberUseCase;
 import page.clab.api.external.memberManagement.notification.application.port.ExternalSendNotificationUseCase;
 
@@ -21,6 +22,7 @@ public class CommentRegisterService implements RegisterCommentUseCase {
     private final RegisterCommentPort registerCommentPort;
     private final RetrieveCommentPort retrieveCommentPort;
     private final ExternalRetrieveBoardUseCase externalRetrieveBoardUseCase;
+    private final ExternalUpdateBoardUseCase externalUpdateBoardUseCase;
     private final ExternalRetrieveMemberUseCase externalRetrieveMemberUseCase;
     private final ExternalSendNotificationUseCase externalSendNotificationUseCase;
 
@@ -40,7 +42,9 @@ public class CommentRegisterService implements RegisterCommentUseCase {
         if (parent != null) {
             parent.addChildComment(comment);
         }
-        return registerCommentPort.save(comment);
+        Comment savedComment = registerCommentPort.save(comment);
+        externalUpdateBoardUseCase.increaseCommentCount(board.getId());
+        return savedComment;
     }
 
     private Comment findParentComment(Long parentId) {
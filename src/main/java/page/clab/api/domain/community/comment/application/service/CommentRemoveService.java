@@ -7,6 +7,7 @@ import page.clab.api.domain.community.comment.application.port.in.RemoveCommentU
 import page.clab.api.domain.community.comment.application.port.out.RegisterCommentPort;
 import page.clab.api.domain.community.comment.application.port.out.RetrieveCommentPort;
 import page.clab.api.domain.community.comment.domain.Comment;
+import page.clab.api.external.community.board.application.port.ExternalUpdateBoardUseCase;
 import page.clab.api.external.memberManagement.member.application.port.ExternalRetrieveMemberUseCase;
 import page.clab.api.global.exception.PermissionDeniedException;
 
@@ -17,14 +18,19 @@ public class CommentRemoveService implements RemoveCommentUseCase {
     private final RetrieveCommentPort retrieveCommentPort;
     private final RegisterCommentPort registerCommentPort;
     private final ExternalRetrieveMemberUseCase externalRetrieveMemberUseCase;
+    private final ExternalUpdateBoardUseCase externalUpdateBoardUseCase;
 
     @Transactional
     @Override
     public Long removeComment(Long commentId) throws PermissionDeniedException {
         Comment comment = retrieveCommentPort.findByIdOrThrow(commentId);
         comment.validateAccessPermission(externalRetrieveMemberUseCase.getCurrentMemberDetailedInfo());
+        boolean wasDeleted = comment.getIsDeleted();
         comment.delete();
         registerCommentPort.save(comment);
+        if (!wasDeleted) {
+            externalUpdateBoardUseCase.decreaseCommentCount(comment.getBoardId());
+        }
         return comment.getBoardId();
     }
 }
@@ -4,6 +4,7 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import page.clab.api.domain.community.comment.application.dto.response.CommentResponseDto;
@@ -11,9 +12,13 @@ import page.clab.api.domain.community.comment.application.port.in.RetrieveCommen
 import page.clab.api.domain.community.comment.application.port.out.RetrieveCommentPort;
 import page.clab.api.domain.community.comment.domain.Comment;
 import page.clab.api.domain.memberManagement.member.application.dto.shared.MemberDetailedInfoDto;
+import page.clab.api.external.memberManagement.member.application.loader.MemberInfoLoader;
 import page.clab.api.external.memberManagement.member.application.port.ExternalRetrieveMemberUseCase;
+import page.clab.api.global.common.dto.PageCursor;
 import page.clab.api.global.common.dto.PagedResponseDto;
+import page.clab.api.global.util.PaginationUtils;
 
+import java.util.ArrayList;
 import java.util.List;
 
 @Service
@@ -22,6 +27,7 @@ public class CommentRetrievalService implements RetrieveCommentUseCase {
 
     private final RetrieveCommentPort retrieveCommentPort;
     private final ExternalRetrieveMemberUseCase externalRetrieveMemberUseCase;
+    private final MemberInfoLoader memberInfoLoader;
 
     @Transactional(readOnly = true)
     @Override
@@ -29,6 +35,16 @@ public class CommentRetrievalService implements RetrieveCommentUseCase {
         return getAllComments(boardId, pageable);
     }
 
+    @Transactional(readOnly = true)
+    @Override
+    public PagedResponseDto<CommentResponseDto> retrieveCommentsByCursor(Long boardId, PageCursor cursor, Pageable pageable) {
+        String currentMemberId = externalRetrieveMemberUseCase.getCurrentMemberId();
+        Slice<Comment> comments = retrieveCommentPort.findAllByBoardIdAndParentIsNull(boardId, cursor, pageable);
+        memberInfoLoader.prepareDetailedInfos(collectWriterIds(comments.getContent(), new ArrayList<>()));
+        String nextCursor = PaginationUtils.createNextCursor(comments, Comment::getId);
+        return new PagedResponseDto<>(comments.map(comment -> toCommentResponseDtoWithMemberInfo(comment, currentMemberId)), cursor != null, nextCursor);
+    }
+
     @Override
     public Comment findByIdOrThrow(Long commentId) {
         return retrieveCommentPort.findByIdOrThrow(commentId);
@@ -38,6 +54,7 @@ public class CommentRetrievalService implements RetrieveCommentUseCase {
     public PagedResponseDto<CommentResponseDto> getAllComments(Long boardId, Pageable pageable) {
         String currentMemberId = externalRetrieveMemberUseCase.getCurrentMemberId();
         Page<Comment> comments = retrieveCommentPort.findAllByBoardIdAndParentIsNull(boardId, pageable);
+        memberInfoLoader.prepareDetailedInfos(collectWriterIds(comments.getContent(), new ArrayList<>()));
         List<CommentResponseDto> commentDtos = comments.stream()
                 .map(comment -> toCommentResponseDtoWithMemberInfo(comment, currentMemberId))
                 .toList();
@@ -47,7 +64,7 @@ public class CommentRetrievalService implements RetrieveCommentUseCase {
     }
 
     private CommentResponseDto toCommentResponseDtoWithMemberInfo(Comment comment, String currentMemberId) {
-        MemberDetailedInfoDto memberInfo = externalRetrieveMemberUseCase.getMemberDetailedInfoById(comment.getWriterId());
+        MemberDetailedInfoDto memberInfo = memberInfoLoader.getDetailedInfo(comment.getWriterId());
         List<CommentResponseDto> childrenDtos = comment.getChildren().stream()
                 .map(child -> toCommentResponseDtoWithMemberInfo(child, currentMemberId))
                 .toList();
@@ -55,6 +72,14 @@ public class CommentRetrievalService implements RetrieveCommentUseCase {
         return CommentResponseDto.toDto(comment, memberInfo, isOwner, childrenDtos);
     }
 
+    private List<String> collectWriterIds(List<Comment> comments, List<String> writerIds) {
+        for (Comment comment : comments) {
+            writerIds.add(comment.getWriterId());
+            collectWriterIds(comment.getChildren(), writerIds);
+        }
+        return writerIds;
+    }
+
     private int getNumberOfCurrentPageComments(Page<Comment> comments, List<CommentResponseDto> commentDtos) {
         return comments.getNumberOfElements() +
                 commentDtos.stream()
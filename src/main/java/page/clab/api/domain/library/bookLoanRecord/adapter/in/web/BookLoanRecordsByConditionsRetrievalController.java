@@ -13,6 +13,7 @@ import page.clab.api.domain.library.bookLoanRecord.application.dto.response.Book
 import page.clab.api.domain.library.bookLoanRecord.application.port.in.RetrieveBookLoanRecordsByConditionsUseCase;
 import page.clab.api.domain.library.bookLoanRecord.domain.BookLoanStatus;
 import page.clab.api.global.common.dto.ApiResponse;
+import page.clab.api.global.common.dto.PageCursor;
 import page.clab.api.global.common.dto.PagedResponseDto;
 import page.clab.api.global.exception.InvalidColumnException;
 import page.clab.api.global.exception.SortingArgumentException;
@@ -32,7 +33,9 @@ public class BookLoanRecordsByConditionsRetrievalController {
     @Operation(summary = "[G] 도서 대출 내역 조회(도서 ID, 대출자 ID, 대출 상태 기준)", description = "ROLE_GUEST 이상의 권한이 필요함<br>" +
             "3개의 파라미터를 자유롭게 조합하여 필터링 가능<br>" +
             "도서 ID, 대출자 ID, 대출 가능 여부 중 하나라도 입력하지 않으면 전체 조회됨<br>" +
-            "DTO의 필드명을 기준으로 정렬 가능하며, 정렬 방향은 오름차순(asc)과 내림차순(desc)이 가능함")
+            "DTO의 필드명을 기준으로 정렬 가능하며, 정렬 방향은 오름차순(asc)과 내림차순(desc)이 가능함<br>" +
+            "cursor를 전달하면 커서 기반으로 조회하며(첫 페이지는 빈 값), 이때 page는 무시되고 첫 번째 정렬 기준만 사용됨<br>" +
+            "다음 페이지는 응답의 nextCursor로 조회함")
     @PreAuthorize("hasRole('GUEST')")
     @GetMapping("/conditions")
     public ApiResponse<PagedResponseDto<BookLoanRecordResponseDto>> retrieveBookLoanRecordsByConditions(
@@ -42,11 +45,13 @@ public class BookLoanRecordsByConditionsRetrievalController {
             @RequestParam(name = "page", defaultValue = "0") int page,
             @RequestParam(name = "size", defaultValue = "20") int size,
             @RequestParam(name = "sortBy", defaultValue = "borrowedAt") List<String> sortBy,
-            @RequestParam(name = "sortDirection", defaultValue = "desc") List<String> sortDirection
+            @RequestParam(name = "sortDirection", defaultValue = "desc") List<String> sortDirection,
+            @RequestParam(name = "cursor", required = false) String cursor
     ) throws SortingArgumentException, InvalidColumnException {
         Pageable pageable = pageableUtils.createPageable(page, size, sortBy, sortDirection, BookLoanRecordResponseDto.class);
-        PagedResponseDto<BookLoanRecordResponseDto> bookLoanRecords =
-                retrieveBookLoanRecordsByConditionsUseCase.retrieveBookLoanRecords(bookId, borrowerId, status, pageable);
+        PagedResponseDto<BookLoanRecordResponseDto> bookLoanRecords = cursor != null
+                ? retrieveBookLoanRecordsByConditionsUseCase.retrieveBookLoanRecordsByCursor(bookId, borrowerId, status, PageCursor.decode(cursor), pageable)
+                : retrieveBookLoanRecordsByConditionsUseCase.retrieveBookLoanRecords(bookId, borrowerId, status, pageable);
         return ApiResponse.success(bookLoanRecords);
     }
 }
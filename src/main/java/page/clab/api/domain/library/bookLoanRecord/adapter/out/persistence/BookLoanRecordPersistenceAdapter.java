@@ -3,6 +3,7 @@ package page.clab.api.domain.library.bookLoanRecord.adapter.out.persistence;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Component;
 import page.clab.api.domain.library.bookLoanRecord.application.dto.response.BookLoanRecordOverdueResponseDto;
 import page.clab.api.domain.library.bookLoanRecord.application.dto.response.BookLoanRecordResponseDto;
@@ -10,6 +11,7 @@ import page.clab.api.domain.library.bookLoanRecord.application.port.out.Register
 import page.clab.api.domain.library.bookLoanRecord.application.port.out.RetrieveBookLoanRecordPort;
 import page.clab.api.domain.library.bookLoanRecord.domain.BookLoanRecord;
 import page.clab.api.domain.library.bookLoanRecord.domain.BookLoanStatus;
+import page.clab.api.global.common.dto.PageCursor;
 import page.clab.api.global.exception.NotFoundException;
 
 import java.util.Optional;
@@ -42,6 +44,11 @@ public class BookLoanRecordPersistenceAdapter implements
         return bookLoanRecordRepository.findByConditions(bookId, borrowerId, status, pageable);
     }
 
+    @Override
+    public Slice<BookLoanRecordResponseDto> findByConditions(Long bookId, String borrowerId, BookLoanStatus status, PageCursor cursor, Pageable pageable) {
+        return bookLoanRecordRepository.findByConditionsAndCursor(bookId, borrowerId, status, cursor, pageable);
+    }
+
     @Override
     public Page<BookLoanRecordOverdueResponseDto> findOverdueBookLoanRecords(Pageable pageable) {
         return bookLoanRecordRepository.findOverdueBookLoanRecords(pageable);
@@ -2,13 +2,17 @@ package page.clab.api.domain.library.bookLoanRecord.adapter.out.persistence;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import page.clab.api.domain.library.bookLoanRecord.application.dto.response.BookLoanRecordOverdueResponseDto;
 import page.clab.api.domain.library.bookLoanRecord.application.dto.response.BookLoanRecordResponseDto;
 import page.clab.api.domain.library.bookLoanRecord.domain.BookLoanStatus;
+import page.clab.api.global.common.dto.PageCursor;
 
 public interface BookLoanRecordRepositoryCustom {
 
     Page<BookLoanRecordResponseDto> findByConditions(Long bookId, String borrowerId, BookLoanStatus status, Pageable pageable);
 
+    Slice<BookLoanRecordResponseDto> findByConditionsAndCursor(Long bookId, String borrowerId, BookLoanStatus status, PageCursor cursor, Pageable pageable);
+
     Page<BookLoanRecordOverdueResponseDto> findOverdueBookLoanRecords(Pageable pageable);
 }
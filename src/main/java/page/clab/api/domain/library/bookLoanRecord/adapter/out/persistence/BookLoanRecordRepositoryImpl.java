@@ -7,13 +7,16 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Repository;
 import page.clab.api.domain.library.book.adapter.out.persistence.QBookJpaEntity;
 import page.clab.api.domain.library.bookLoanRecord.application.dto.response.BookLoanRecordOverdueResponseDto;
 import page.clab.api.domain.library.bookLoanRecord.application.dto.response.BookLoanRecordResponseDto;
 import page.clab.api.domain.library.bookLoanRecord.domain.BookLoanStatus;
 import page.clab.api.domain.memberManagement.member.adapter.out.persistence.QMemberJpaEntity;
+import page.clab.api.global.common.dto.PageCursor;
 import page.clab.api.global.util.OrderSpecifierUtil;
+import page.clab.api.global.util.PaginationUtils;
 
 import java.time.LocalDateTime;
 import java.util.List;
@@ -69,6 +72,44 @@ public class BookLoanRecordRepositoryImpl implements BookLoanRecordRepositoryCus
         return new PageImpl<>(results, pageable, total);
     }
 
+    @Override
+    public Slice<BookLoanRecordResponseDto> findByConditionsAndCursor(Long bookId, String borrowerId, BookLoanStatus status, PageCursor cursor, Pageable pageable) {
+        QBookLoanRecordJpaEntity bookLoanRecord = QBookLoanRecordJpaEntity.bookLoanRecordJpaEntity;
+        QBookJpaEntity book = QBookJpaEntity.bookJpaEntity;
+        QMemberJpaEntity member = QMemberJpaEntity.memberJpaEntity;
+
+        BooleanBuilder builder = new BooleanBuilder();
+        if (bookId != null) builder.and(bookLoanRecord.bookId.eq(bookId));
+        if (borrowerId != null && !borrowerId.trim().isEmpty()) builder.and(bookLoanRecord.borrowerId.eq(borrowerId));
+        if (status != null) builder.and(bookLoanRecord.status.eq(status));
+        builder.and(OrderSpecifierUtil.getCursorCondition(pageable, bookLoanRecord, bookLoanRecord.id, cursor));
+
+        List<BookLoanRecordResponseDto> results = queryFactory
+                .select(Projections.constructor(
+                        BookLoanRecordResponseDto.class,
+                        bookLoanRecord.id,
+                        bookLoanRecord.bookId,
+                        book.title,
+                        book.imageUrl,
+                        bookLoanRecord.borrowerId,
+                        member.name.as("borrowerName"),
+                        bookLoanRecord.borrowedAt,
+                        bookLoanRecord.returnedAt,
+                        bookLoanRecord.dueDate,
+                        bookLoanRecord.loanExtensionCount,
+                        bookLoanRecord.status
+                ))
+                .from(bookLoanRecord)
+                .leftJoin(book).on(bookLoanRecord.bookId.eq(book.id))
+                .leftJoin(member).on(bookLoanRecord.borrowerId.eq(member.id))
+                .where(builder)
+                .limit(pageable.getPageSize() + 1)
+                .orderBy(OrderSpecifierUtil.getCursorOrderSpecifiers(pageable, bookLoanRecord, bookLoanRecord.id))
+                .fetch();
+
+        return PaginationUtils.toSlice(results, pageable);
+    }
+
     @Override
     public Page<BookLoanRecordOverdueResponseDto> findOverdueBookLoanRecords(Pageable pageable) {
         QBookLoanRecordJpaEntity bookLoanRecord = QBookLoanRecordJpaEntity.bookLoanRecordJpaEntity;
@@ -2,10 +2,12 @@ package page.clab.api.domain.library.bookLoanRecord.application.port.out;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import page.clab.api.domain.library.bookLoanRecord.application.dto.response.BookLoanRecordOverdueResponseDto;
 import page.clab.api.domain.library.bookLoanRecord.application.dto.response.BookLoanRecordResponseDto;
 import page.clab.api.domain.library.bookLoanRecord.domain.BookLoanRecord;
 import page.clab.api.domain.library.bookLoanRecord.domain.BookLoanStatus;
+import page.clab.api.global.common.dto.PageCursor;
 
 import java.util.Optional;
 
@@ -15,6 +17,8 @@ public interface RetrieveBookLoanRecordPort {
 
     Page<BookLoanRecordResponseDto> findByConditions(Long bookId, String borrowerId, BookLoanStatus status, Pageable pageable);
 
+    Slice<BookLoanRecordResponseDto> findByConditions(Long bookId, String borrowerId, BookLoanStatus status, PageCursor cursor, Pageable pageable);
+
     Page<BookLoanRecordOverdueResponseDto> findOverdueBookLoanRecords(Pageable pageable);
 
     Optional<BookLoanRecord> findByBookIdAndReturnedAtIsNullAndStatus(Long bookId, BookLoanStatus bookLoanStatus);
@@ -3,13 +3,16 @@ package page.clab.api.domain.library.bookLoanRecord.application.service;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import page.clab.api.domain.library.bookLoanRecord.application.dto.response.BookLoanRecordResponseDto;
 import page.clab.api.domain.library.bookLoanRecord.application.port.in.RetrieveBookLoanRecordsByConditionsUseCase;
 import page.clab.api.domain.library.bookLoanRecord.application.port.out.RetrieveBookLoanRecordPort;
 import page.clab.api.domain.library.bookLoanRecord.domain.BookLoanStatus;
+import page.clab.api.global.common.dto.PageCursor;
 import page.clab.api.global.common.dto.PagedResponseDto;
+import page.clab.api.global.util.PaginationUtils;
 
 @Service
 @RequiredArgsConstructor
@@ -23,4 +26,12 @@ public class BookLoanRecordsByConditionsRetrievalService implements RetrieveBook
         Page<BookLoanRecordResponseDto> bookLoanRecords = retrieveBookLoanRecordPort.findByConditions(bookId, borrowerId, status, pageable);
         return new PagedResponseDto<>(bookLoanRecords);
     }
+
+    @Transactional(readOnly = true)
+    @Override
+    public PagedResponseDto<BookLoanRecordResponseDto> retrieveBookLoanRecordsByCursor(Long bookId, String borrowerId, BookLoanStatus status, PageCursor cursor, Pageable pageable) {
+        Slice<BookLoanRecordResponseDto> bookLoanRecords = retrieveBookLoanRecordPort.findByConditions(bookId, borrowerId, status, cursor, pageable);
+        String nextCursor = PaginationUtils.createNextCursor(bookLoanRecords, BookLoanRecordResponseDto::getBookLoanRecordId);
+        return new PagedResponseDto<>(bookLoanRecords, cursor != null, nextCursor);
+    }
 }
@@ -0,0 +1,27 @@
+package page.clab.api.domain.memberManagement.cloud.adapter.out.persistence;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Entity
+@Table(name = "cloud_usage")
+@Getter
+@Builder
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class CloudUsageJpaEntity {
+
+    @Id
+    @Column(name = "member_id")
+    private String memberId;
+
+    @Column(name = "used_bytes", nullable = false)
+    private Long usedBytes;
+}
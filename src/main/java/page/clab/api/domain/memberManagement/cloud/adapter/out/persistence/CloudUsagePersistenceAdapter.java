@@ -0,0 +1,46 @@
+package page.clab.api.domain.memberManagement.cloud.adapter.out.persistence;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import page.clab.api.domain.memberManagement.cloud.application.port.out.RetrieveCloudUsagePort;
+import page.clab.api.domain.memberManagement.cloud.application.port.out.UpdateCloudUsagePort;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+@Component
+@RequiredArgsConstructor
+public class CloudUsagePersistenceAdapter implements
+        RetrieveCloudUsagePort,
+        UpdateCloudUsagePort {
+
+    private final CloudUsageRepository cloudUsageRepository;
+
+    @Override
+    public Optional<Long> findUsageByMemberId(String memberId) {
+        return cloudUsageRepository.findById(memberId)
+                .map(CloudUsageJpaEntity::getUsedBytes);
+    }
+
+    @Override
+    public Map<String, Long> findUsagesByMemberIds(Collection<String> memberIds) {
+        if (memberIds.isEmpty()) {
+            return Map.of();
+        }
+        return cloudUsageRepository.findByMemberIdIn(memberIds)
+                .stream()
+                .collect(Collectors.toMap(CloudUsageJpaEntity::getMemberId, CloudUsageJpaEntity::getUsedBytes));
+    }
+
+    @Override
+    public boolean addUsage(String memberId, long delta) {
+        return cloudUsageRepository.addUsedBytes(memberId, delta) > 0;
+    }
+
+    @Override
+    public void updateUsage(String memberId, long usage) {
+        cloudUsageRepository.upsertUsedBytes(memberId, usage);
+    }
+}
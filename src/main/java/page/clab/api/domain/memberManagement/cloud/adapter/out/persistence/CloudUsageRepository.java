@@ -0,0 +1,25 @@
+package page.clab.api.domain.memberManagement.cloud.adapter.out.persistence;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface CloudUsageRepository extends JpaRepository<CloudUsageJpaEntity, String> {
+
+    List<CloudUsageJpaEntity> findByMemberIdIn(Collection<String> memberIds);
+
+    @Modifying
+    @Query(value = "UPDATE cloud_usage SET used_bytes = GREATEST(used_bytes + :delta, 0) WHERE member_id = :memberId", nativeQuery = true)
+    int addUsedBytes(@Param("memberId") String memberId, @Param("delta") long delta);
+
+    @Modifying
+    @Query(value = "INSERT INTO cloud_usage (member_id, used_bytes) VALUES (:memberId, :usedBytes) " +
+            "ON CONFLICT (member_id) DO UPDATE SET used_bytes = EXCLUDED.used_bytes", nativeQuery = true)
+    void upsertUsedBytes(@Param("memberId") String memberId, @Param("usedBytes") long usedBytes);
+}
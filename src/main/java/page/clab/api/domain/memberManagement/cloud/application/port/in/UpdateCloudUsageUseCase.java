@@ -0,0 +1,5 @@
+package page.clab.api.domain.memberManagement.cloud.application.port.in;
+
+public interface UpdateCloudUsageUseCase {
+    void updateCloudUsageByFile(String savedPath, long sizeDelta);
+}
@@ -0,0 +1,12 @@
+package page.clab.api.domain.memberManagement.cloud.application.port.out;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.Optional;
+
+public interface RetrieveCloudUsagePort {
+
+    Optional<Long> findUsageByMemberId(String memberId);
+
+    Map<String, Long> findUsagesByMemberIds(Collection<String> memberIds);
+}
@@ -0,0 +1,8 @@
+package page.clab.api.domain.memberManagement.cloud.application.port.out;
+
+public interface UpdateCloudUsagePort {
+
+    boolean addUsage(String memberId, long delta);
+
+    void updateUsage(String memberId, long usage);
+}
@@ -0,0 +1,72 @@
+package page.clab.api.domain.memberManagement.cloud.application.service;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import page.clab.api.domain.memberManagement.cloud.application.port.out.RetrieveCloudUsagePort;
+import page.clab.api.domain.memberManagement.cloud.application.port.out.UpdateCloudUsagePort;
+import page.clab.api.global.util.FileSystemUtil;
+
+import java.io.File;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 회원별 클라우드 사용량을 저장해 두고, 파일이 저장/삭제될 때마다 증감하는 사용량 장부입니다.
+ * 용량 검사와 사용량 조회는 디렉토리를 순회하지 않고 장부의 값을 사용하며,
+ * 장부에 기록이 없는 회원만 디렉토리를 순회하여 계산합니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class CloudUsageLedger {
+
+    private final RetrieveCloudUsagePort retrieveCloudUsagePort;
+    private final UpdateCloudUsagePort updateCloudUsagePort;
+
+    @Value("${resource.file.path}")
+    private String filePath;
+
+    public long getUsage(String memberId) {
+        return retrieveCloudUsagePort.findUsageByMemberId(memberId)
+                .orElseGet(() -> calculateUsage(memberId));
+    }
+
+    public Map<String, Long> getUsages(Collection<String> memberIds) {
+        Map<String, Long> usages = new HashMap<>(retrieveCloudUsagePort.findUsagesByMemberIds(memberIds));
+        for (String memberId : memberIds) {
+            usages.computeIfAbsent(memberId, this::calculateUsage);
+        }
+        return usages;
+    }
+
+    /**
+     * 회원의 사용량을 증감합니다.
+     * 장부에 기록이 없으면 변경이 반영된 디렉토리를 순회하여 기록을 새로 만듭니다.
+     * @param memberId 회원 ID
+     * @param delta 증감할 바이트 수
+     */
+    @Transactional
+    public void addUsage(String memberId, long delta) {
+        if (!updateCloudUsagePort.addUsage(memberId, delta)) {
+            recalculate(memberId);
+        }
+    }
+
+    /**
+     * 회원 디렉토리를 순회하여 계산한 사용량으로 장부를 갱신합니다.
+     * @param memberId 회원 ID
+     * @return 계산된 사용량
+     */
+    @Transactional
+    public long recalculate(String memberId) {
+        long usage = Math.max(calculateUsage(memberId), 0);
+        updateCloudUsagePort.updateUsage(memberId, usage);
+        return usage;
+    }
+
+    private long calculateUsage(String memberId) {
+        return FileSystemUtil.calculateDirectorySize(new File(filePath + "/members/" + memberId));
+    }
+}
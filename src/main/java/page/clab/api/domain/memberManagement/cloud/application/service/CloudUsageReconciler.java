@@ -0,0 +1,40 @@
+package page.clab.api.domain.memberManagement.cloud.application.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.File;
+
+/**
+ * 회원 클라우드 사용량 장부를 실제 디렉토리 크기와 주기적으로 맞추는 작업입니다.
+ * 장부는 파일 저장/삭제 시 증감되지만, 서버 외부에서 파일이 변경되는 경우 등으로 어긋날 수 있습니다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class CloudUsageReconciler {
+
+    private final CloudUsageLedger cloudUsageLedger;
+
+    @Value("${resource.file.path}")
+    private String filePath;
+
+    @Scheduled(cron = "0 0 4 * * *")
+    public void reconcileCloudUsages() {
+        File[] memberDirectories = new File(filePath + "/members").listFiles(File::isDirectory);
+        if (memberDirectories == null) {
+            return;
+        }
+        for (File memberDirectory : memberDirectories) {
+            try {
+                cloudUsageLedger.recalculate(memberDirectory.getName());
+            } catch (Exception e) {
+                log.warn("Failed to reconcile cloud usage of {}: {}", memberDirectory.getName(), e.getMessage());
+            }
+        }
+        log.info("Reconciled cloud usages of {} members", memberDirectories.length);
+    }
+}
@@ -1,7 +1,6 @@
 package page.clab.api.domain.memberManagement.cloud.application.service;
 
 import lombok.RequiredArgsConstructor;
-import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
@@ -11,33 +10,21 @@ import page.clab.api.domain.memberManagement.cloud.application.port.in.RetrieveA
 import page.clab.api.domain.memberManagement.member.application.port.out.RetrieveMemberPort;
 import page.clab.api.domain.memberManagement.member.domain.Member;
 import page.clab.api.global.common.dto.PagedResponseDto;
-import page.clab.api.global.util.FileSystemUtil;
 
-import java.io.File;
+import java.util.Map;
 
 @Service
 @RequiredArgsConstructor
 public class CloudUsageRetrievalAllService implements RetrieveAllCloudUsageUseCase {
 
     private final RetrieveMemberPort retrieveMemberPort;
-
-    @Value("${resource.file.path}")
-    private String filePath;
+    private final CloudUsageLedger cloudUsageLedger;
 
     @Override
     @Transactional(readOnly = true)
     public PagedResponseDto<CloudUsageInfo> retrieveAllCloudUsages(Pageable pageable) {
         Page<Member> members = retrieveMemberPort.findAllByOrderByCreatedAtDesc(pageable);
-        return new PagedResponseDto<>(members.map(this::getCloudUsageForMember));
-    }
-
-    private CloudUsageInfo getCloudUsageForMember(Member member) {
-        File directory = getMemberDirectory(member.getId());
-        long usage = FileSystemUtil.calculateDirectorySize(directory);
-        return CloudUsageInfo.create(member.getId(), usage);
-    }
-
-    private File getMemberDirectory(String memberId) {
-        return new File(filePath + "/members/" + memberId);
+        Map<String, Long> usages = cloudUsageLedger.getUsages(members.map(Member::getId).toList());
+        return new PagedResponseDto<>(members.map(member -> CloudUsageInfo.create(member.getId(), usages.get(member.getId()))));
     }
 }
@@ -1,7 +1,6 @@
 package page.clab.api.domain.memberManagement.cloud.application.service;
 
 import lombok.RequiredArgsConstructor;
-import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import page.clab.api.domain.memberManagement.cloud.application.dto.response.CloudUsageInfo;
@@ -10,9 +9,6 @@ import page.clab.api.domain.memberManagement.member.application.port.in.Retrieve
 import page.clab.api.domain.memberManagement.member.application.port.out.RetrieveMemberPort;
 import page.clab.api.domain.memberManagement.member.domain.Member;
 import page.clab.api.global.exception.PermissionDeniedException;
-import page.clab.api.global.util.FileSystemUtil;
-
-import java.io.File;
 
 @Service
 @RequiredArgsConstructor
@@ -20,9 +16,7 @@ public class CloudUsageRetrievalByMemberIdService implements RetrieveCloudUsageB
 
     private final RetrieveMemberUseCase retrieveMemberUseCase;
     private final RetrieveMemberPort retrieveMemberPort;
-
-    @Value("${resource.file.path}")
-    private String filePath;
+    private final CloudUsageLedger cloudUsageLedger;
 
     @Override
     @Transactional(readOnly = true)
@@ -30,12 +24,7 @@ public class CloudUsageRetrievalByMemberIdService implements RetrieveCloudUsageB
         Member currentMember = retrieveMemberUseCase.getCurrentMember();
         Member targetMember = retrieveMemberPort.findByIdOrThrow(memberId);
         targetMember.validateAccessPermissionForCloud(currentMember);
-        File directory = getMemberDirectory(targetMember.getId());
-        long usage = FileSystemUtil.calculateDirectorySize(directory);
+        long usage = cloudUsageLedger.getUsage(targetMember.getId());
         return CloudUsageInfo.create(targetMember.getId(), usage);
     }
-
-    private File getMemberDirectory(String memberId) {
-        return new File(filePath + "/members/" + memberId);
-    }
 }
@@ -0,0 +1,49 @@
+package page.clab.api.domain.memberManagement.cloud.application.service;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import page.clab.api.domain.memberManagement.cloud.application.port.in.UpdateCloudUsageUseCase;
+
+import java.nio.file.InvalidPathException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+@Service
+@RequiredArgsConstructor
+public class CloudUsageUpdateService implements UpdateCloudUsageUseCase {
+
+    private final CloudUsageLedger cloudUsageLedger;
+
+    @Value("${resource.file.path}")
+    private String filePath;
+
+    /**
+     * 저장 경로가 회원 클라우드 디렉토리(members/{memberId}) 하위인 경우에만 해당 회원의 사용량을 증감합니다.
+     * @param savedPath 저장되거나 삭제된 파일의 경로
+     * @param sizeDelta 증감할 바이트 수 (삭제 시 음수)
+     */
+    @Override
+    public void updateCloudUsageByFile(String savedPath, long sizeDelta) {
+        if (savedPath == null || sizeDelta == 0) {
+            return;
+        }
+        String memberId = extractMemberId(savedPath);
+        if (memberId != null) {
+            cloudUsageLedger.addUsage(memberId, sizeDelta);
+        }
+    }
+
+    private String extractMemberId(String savedPath) {
+        try {
+            Path membersDirectory = Paths.get(filePath, "members").toAbsolutePath().normalize();
+            Path path = Paths.get(savedPath).toAbsolutePath().normalize();
+            if (!path.startsWith(membersDirectory) || path.getNameCount() <= membersDirectory.getNameCount() + 1) {
+                return null;
+            }
+            return membersDirectory.relativize(path).getName(0).toString();
+        } catch (InvalidPathException e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package page.clab.api.domain.memberManagement.member.adapter.out.persistence;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Calendar;
+import java.util.List;
+import java.util.Map;
+import java.util.TimeZone;
+
+/**
+ * 회원의 마지막 로그인 시각을 JDBC 배치로 한 번에 갱신합니다.
+ * 이미 더 늦은 시각이 기록된 회원은 갱신하지 않으므로, 배치가 늦게 반영되어도 시각이 되돌아가지 않습니다.
+ */
+@Repository
+public class MemberJdbcRepository {
+
+    private static final String UPDATE_LAST_LOGIN_TIME_SQL =
+            "UPDATE member SET last_login_time = ?, updated_at = ? " +
+                    "WHERE id = ? AND (last_login_time IS NULL OR last_login_time < ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TimeZone jdbcTimeZone;
+
+    public MemberJdbcRepository(
+            JdbcTemplate jdbcTemplate,
+            @Value("${spring.jpa.properties.hibernate.jdbc.time_zone:UTC}") String jdbcTimeZone
+    ) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.jdbcTimeZone = TimeZone.getTimeZone(jdbcTimeZone);
+    }
+
+    public void updateLastLoginTimes(Map<String, LocalDateTime> lastLoginTimes) {
+        List<Map.Entry<String, LocalDateTime>> entries = new ArrayList<>(lastLoginTimes.entrySet());
+        LocalDateTime now = LocalDateTime.now();
+        jdbcTemplate.batchUpdate(UPDATE_LAST_LOGIN_TIME_SQL, new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(PreparedStatement ps, int i) throws SQLException {
+                Map.Entry<String, LocalDateTime> entry = entries.get(i);
+                setTimestamp(ps, 1, entry.getValue());
+                setTimestamp(ps, 2, now);
+                ps.setString(3, entry.getKey());
+                setTimestamp(ps, 4, entry.getValue());
+            }
+
+            @Override
+            public int getBatchSize() {
+                return entries.size();
+            }
+        });
+    }
+
+    private void setTimestamp(PreparedStatement ps, int index, LocalDateTime value) throws SQLException {
+        ps.setTimestamp(index, Timestamp.valueOf(value), Calendar.getInstance(jdbcTimeZone));
+    }
+}
@@ -12,7 +12,10 @@ import page.clab.api.domain.memberManagement.member.domain.Member;
 import page.clab.api.domain.memberManagement.member.domain.Role;
 import page.clab.api.global.exception.NotFoundException;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 @Component
@@ -24,6 +27,7 @@ public class MemberPersistenceAdapter implements
         RetrieveMemberPort {
 
     private final MemberRepository memberRepository;
+    private final MemberJdbcRepository memberJdbcRepository;
     private final MemberMapper memberMapper;
 
     @Override
@@ -55,6 +59,11 @@ public class MemberPersistenceAdapter implements
         return memberMapper.toDomainEntity(updatedEntity);
     }
 
+    @Override
+    public void updateLastLoginTimes(Map<String, LocalDateTime> lastLoginTimes) {
+        memberJdbcRepository.updateLastLoginTimes(lastLoginTimes);
+    }
+
     @Override
     public Page<Member> findByConditions(String id, String name, Pageable pageable) {
         Page<MemberJpaEntity> jpaEntities = memberRepository.findByConditions(id, name, pageable);
@@ -88,6 +97,14 @@ public class MemberPersistenceAdapter implements
                 .toList();
     }
 
+    @Override
+    public List<Member> findByIds(Collection<String> memberIds) {
+        List<MemberJpaEntity> jpaEntities = memberRepository.findByIds(memberIds);
+        return jpaEntities.stream()
+                .map(memberMapper::toDomainEntity)
+                .toList();
+    }
+
     public Page<Member> findMemberRoleInfoByConditions(String memberId, String memberName, Role role, Pageable pageable) {
         Page<MemberJpaEntity> jpaEntities = memberRepository.findMemberRoleInfoByConditions(memberId, memberName, role, pageable);
         return jpaEntities.map(memberMapper::toDomainEntity);
@@ -4,6 +4,9 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import page.clab.api.domain.memberManagement.member.domain.Role;
 
+import java.util.Collection;
+import java.util.List;
+
 public interface MemberRepositoryCustom {
 
     Page<MemberJpaEntity> findByConditions(String id, String name, Pageable pageable);
@@ -11,4 +14,6 @@ public interface MemberRepositoryCustom {
     Page<MemberJpaEntity> findBirthdaysThisMonth(int month, Pageable pageable);
 
     Page<MemberJpaEntity> findMemberRoleInfoByConditions(String memberId, String memberName, Role role, Pageable pageable);
+
+    List<MemberJpaEntity> findByIds(Collection<String> memberIds);
 }
@@ -17,6 +17,7 @@ import page.clab.api.domain.memberManagement.member.domain.Role;
 import page.clab.api.global.util.OrderSpecifierUtil;
 
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 
 @Repository
@@ -108,6 +109,18 @@ public class MemberRepositoryImpl implements MemberRepositoryCustom {
         return new PageImpl<>(members, pageable, totalCount);
     }
 
+    @Override
+    public List<MemberJpaEntity> findByIds(Collection<String> memberIds) {
+        if (memberIds.isEmpty()) {
+            return List.of();
+        }
+        QMemberJpaEntity member = QMemberJpaEntity.memberJpaEntity;
+        return queryFactory
+                .selectFrom(member)
+                .where(member.id.in(memberIds))
+                .fetch();
+    }
+
     private BooleanExpression birthdayInMonth(int month) {
         return QMemberJpaEntity.memberJpaEntity.birth.month().eq(month);
     }
@@ -0,0 +1,15 @@
+package page.clab.api.domain.memberManagement.member.application.event;
+
+import lombok.Getter;
+import org.springframework.context.ApplicationEvent;
+
+@Getter
+public class MemberRoleChangedEvent extends ApplicationEvent {
+
+    private final String memberId;
+
+    public MemberRoleChangedEvent(Object source, String memberId) {
+        super(source);
+        this.memberId = memberId;
+    }
+}
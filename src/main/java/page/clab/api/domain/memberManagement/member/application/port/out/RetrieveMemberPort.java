@@ -5,6 +5,7 @@ import org.springframework.data.domain.Pageable;
 import page.clab.api.domain.memberManagement.member.domain.Member;
 import page.clab.api.domain.memberManagement.member.domain.Role;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -16,6 +17,8 @@ public interface RetrieveMemberPort {
 
     List<Member> findAll();
 
+    List<Member> findByIds(Collection<String> memberIds);
+
     Page<Member> findMemberRoleInfoByConditions(String memberId, String memberName, Role role, Pageable pageable);
 
     Page<Member> findAllByOrderByCreatedAtDesc(Pageable pageable);
@@ -2,6 +2,11 @@ package page.clab.api.domain.memberManagement.member.application.port.out;
 
 import page.clab.api.domain.memberManagement.member.domain.Member;
 
+import java.time.LocalDateTime;
+import java.util.Map;
+
 public interface UpdateMemberPort {
     Member update(Member member);
+
+    void updateLastLoginTimes(Map<String, LocalDateTime> lastLoginTimes);
 }
@@ -2,9 +2,11 @@ package page.clab.api.domain.memberManagement.member.application.service;
 
 import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import page.clab.api.domain.memberManagement.member.application.dto.request.ChangeMemberRoleRequest;
+import page.clab.api.domain.memberManagement.member.application.event.MemberRoleChangedEvent;
 import page.clab.api.domain.memberManagement.member.application.exception.InvalidRoleChangeException;
 import page.clab.api.domain.memberManagement.member.application.port.in.ManageMemberRoleUseCase;
 import page.clab.api.domain.memberManagement.member.application.port.out.RetrieveMemberPort;
@@ -21,6 +23,7 @@ public class MemberRoleManagementService implements ManageMemberRoleUseCase {
     private final RetrieveMemberPort retrieveMemberPort;
     private final UpdateMemberPort updateMemberPort;
     private final SlackService slackService;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional
     @Override
@@ -34,6 +37,7 @@ public class MemberRoleManagementService implements ManageMemberRoleUseCase {
         member.changeRole(newRole);
 
         updateMemberPort.update(member);
+        eventPublisher.publishEvent(new MemberRoleChangedEvent(this, member.getId()));
         slackService.sendSecurityAlertNotification(httpServletRequest, SecurityAlertType.MEMBER_ROLE_CHANGED,
                 String.format("[%s] %s: %s -> %s",
                         member.getId(), member.getName(), oldRole, newRole));
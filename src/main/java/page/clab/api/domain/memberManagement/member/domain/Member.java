@@ -147,10 +147,6 @@ public class Member implements UserDetails {
         setPassword(passwordEncoder.encode(password));
     }
 
-    public void updateLastLoginTime() {
-        lastLoginTime = LocalDateTime.now();
-    }
-
     public void updateLoanSuspensionDate(LocalDateTime loanSuspensionDate) {
         this.loanSuspensionDate = loanSuspensionDate;
     }
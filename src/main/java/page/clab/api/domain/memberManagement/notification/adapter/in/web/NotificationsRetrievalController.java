@@ -12,6 +12,7 @@ import org.springframework.web.bind.annotation.RestController;
 import page.clab.api.domain.memberManagement.notification.application.dto.response.NotificationResponseDto;
 import page.clab.api.domain.memberManagement.notification.application.port.in.RetrieveNotificationsUseCase;
 import page.clab.api.global.common.dto.ApiResponse;
+import page.clab.api.global.common.dto.PageCursor;
 import page.clab.api.global.common.dto.PagedResponseDto;
 import page.clab.api.global.exception.InvalidColumnException;
 import page.clab.api.global.exception.SortingArgumentException;
@@ -29,17 +30,22 @@ public class NotificationsRetrievalController {
     private final PageableUtils pageableUtils;
 
     @Operation(summary = "[G] 나의 알림 조회", description = "ROLE_GUEST 이상의 권한이 필요함<br>" +
-            "DTO의 필드명을 기준으로 정렬 가능하며, 정렬 방향은 오름차순(asc)과 내림차순(desc)이 가능함")
+            "DTO의 필드명을 기준으로 정렬 가능하며, 정렬 방향은 오름차순(asc)과 내림차순(desc)이 가능함<br>" +
+            "cursor를 전달하면 커서 기반으로 조회하며(첫 페이지는 빈 값), 이때 page는 무시되고 첫 번째 정렬 기준만 사용됨<br>" +
+            "다음 페이지는 응답의 nextCursor로 조회함")
     @PreAuthorize("hasRole('GUEST')")
     @GetMapping("")
     public ApiResponse<PagedResponseDto<NotificationResponseDto>> retrieveNotifications(
             @RequestParam(name = "page", defaultValue = "0") int page,
             @RequestParam(name = "size", defaultValue = "20") int size,
             @RequestParam(name = "sortBy", defaultValue = "createdAt") List<String> sortBy,
-            @RequestParam(name = "sortDirection", defaultValue = "desc") List<String> sortDirection
+            @RequestParam(name = "sortDirection", defaultValue = "desc") List<String> sortDirection,
+            @RequestParam(name = "cursor", required = false) String cursor
     ) throws SortingArgumentException, InvalidColumnException {
         Pageable pageable = pageableUtils.createPageable(page, size, sortBy, sortDirection, NotificationResponseDto.class);
-        PagedResponseDto<NotificationResponseDto> notifications = retrieveNotificationsUseCase.retrieveNotifications(pageable);
+        PagedResponseDto<NotificationResponseDto> notifications = cursor != null
+                ? retrieveNotificationsUseCase.retrieveNotificationsByCursor(PageCursor.decode(cursor), pageable)
+                : retrieveNotificationsUseCase.retrieveNotifications(pageable);
         return ApiResponse.success(notifications);
     }
 }
@@ -3,12 +3,15 @@ package page.clab.api.domain.memberManagement.notification.adapter.out.persisten
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Component;
 import page.clab.api.domain.memberManagement.notification.application.port.out.RegisterNotificationPort;
 import page.clab.api.domain.memberManagement.notification.application.port.out.RetrieveNotificationPort;
 import page.clab.api.domain.memberManagement.notification.domain.Notification;
+import page.clab.api.global.common.dto.PageCursor;
 import page.clab.api.global.exception.NotFoundException;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 @Component
@@ -35,6 +38,16 @@ public class NotificationPersistenceAdapter implements
         repository.saveAll(entities);
     }
 
+    /**
+     * 모든 회원에게 같은 알림을 하나의 INSERT ... SELECT 문으로 등록합니다.
+     * 엔티티를 거치지 않으므로 생성/수정 시각은 직접 지정합니다.
+     * @return 등록된 알림 수
+     */
+    @Override
+    public int saveForAllMembers(String content) {
+        return repository.insertForAllMembers(content, LocalDateTime.now());
+    }
+
     @Override
     public Notification findByIdOrThrow(Long id) {
         return repository.findById(id)
@@ -54,4 +67,10 @@ public class NotificationPersistenceAdapter implements
         return repository.findByMemberId(memberId, pageable)
                 .map(mapper::toDomainEntity);
     }
+
+    @Override
+    public Slice<Notification> findByMemberId(String memberId, PageCursor cursor, Pageable pageable) {
+        return repository.findByMemberIdAndCursor(memberId, cursor, pageable)
+                .map(mapper::toDomainEntity);
+    }
 }
@@ -3,12 +3,21 @@ package page.clab.api.domain.memberManagement.notification.adapter.out.persisten
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
-public interface NotificationRepository extends JpaRepository<NotificationJpaEntity, Long> {
+public interface NotificationRepository extends JpaRepository<NotificationJpaEntity, Long>, NotificationRepositoryCustom {
 
     Page<NotificationJpaEntity> findByMemberId(String memberId, Pageable pageable);
 
     List<NotificationJpaEntity> findByMemberId(String memberId);
+
+    @Modifying
+    @Query(value = "INSERT INTO notification (member_id, content, is_deleted, created_at, updated_at) " +
+            "SELECT m.id, :content, false, :createdAt, :createdAt FROM member m WHERE m.is_deleted = false", nativeQuery = true)
+    int insertForAllMembers(@Param("content") String content, @Param("createdAt") LocalDateTime createdAt);
 }
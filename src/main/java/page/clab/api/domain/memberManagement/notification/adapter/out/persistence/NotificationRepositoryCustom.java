@@ -0,0 +1,10 @@
+package page.clab.api.domain.memberManagement.notification.adapter.out.persistence;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import page.clab.api.global.common.dto.PageCursor;
+
+public interface NotificationRepositoryCustom {
+
+    Slice<NotificationJpaEntity> findByMemberIdAndCursor(String memberId, PageCursor cursor, Pageable pageable);
+}
@@ -0,0 +1,36 @@
+package page.clab.api.domain.memberManagement.notification.adapter.out.persistence;
+
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.stereotype.Repository;
+import page.clab.api.global.common.dto.PageCursor;
+import page.clab.api.global.util.OrderSpecifierUtil;
+import page.clab.api.global.util.PaginationUtils;
+
+import java.util.List;
+
+@Repository
+@RequiredArgsConstructor
+public class NotificationRepositoryImpl implements NotificationRepositoryCustom {
+
+    private final JPAQueryFactory queryFactory;
+
+    @Override
+    public Slice<NotificationJpaEntity> findByMemberIdAndCursor(String memberId, PageCursor cursor, Pageable pageable) {
+        QNotificationJpaEntity notification = QNotificationJpaEntity.notificationJpaEntity;
+
+        List<NotificationJpaEntity> notifications = queryFactory
+                .selectFrom(notification)
+                .where(
+                        notification.memberId.eq(memberId),
+                        OrderSpecifierUtil.getCursorCondition(pageable, notification, notification.id, cursor)
+                )
+                .orderBy(OrderSpecifierUtil.getCursorOrderSpecifiers(pageable, notification, notification.id))
+                .limit(pageable.getPageSize() + 1)
+                .fetch();
+
+        return PaginationUtils.toSlice(notifications, pageable);
+    }
+}
@@ -2,8 +2,11 @@ package page.clab.api.domain.memberManagement.notification.application.port.in;
 
 import org.springframework.data.domain.Pageable;
 import page.clab.api.domain.memberManagement.notification.application.dto.response.NotificationResponseDto;
+import page.clab.api.global.common.dto.PageCursor;
 import page.clab.api.global.common.dto.PagedResponseDto;
 
 public interface RetrieveNotificationsUseCase {
     PagedResponseDto<NotificationResponseDto> retrieveNotifications(Pageable pageable);
+
+    PagedResponseDto<NotificationResponseDto> retrieveNotificationsByCursor(PageCursor cursor, Pageable pageable);
 }
@@ -9,4 +9,6 @@ public interface RegisterNotificationPort {
     Notification save(Notification notification);
 
     void saveAll(List<Notification> notifications);
+
+    int saveForAllMembers(String content);
 }
@@ -2,7 +2,9 @@ package page.clab.api.domain.memberManagement.notification.application.port.out;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import page.clab.api.domain.memberManagement.notification.domain.Notification;
+import page.clab.api.global.common.dto.PageCursor;
 
 import java.util.List;
 
@@ -13,4 +15,6 @@ public interface RetrieveNotificationPort {
     List<Notification> findByMemberId(String memberId);
 
     Page<Notification> findByMemberId(String memberId, Pageable pageable);
+
+    Slice<Notification> findByMemberId(String memberId, PageCursor cursor, Pageable pageable);
 }
@@ -3,6 +3,7 @@ package page.clab.api.domain.memberManagement.notification.application.service;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import page.clab.api.domain.memberManagement.notification.application.dto.response.NotificationResponseDto;
@@ -10,7 +11,9 @@ import page.clab.api.domain.memberManagement.notification.application.port.in.Re
 import page.clab.api.domain.memberManagement.notification.application.port.out.RetrieveNotificationPort;
 import page.clab.api.domain.memberManagement.notification.domain.Notification;
 import page.clab.api.external.memberManagement.member.application.port.ExternalRetrieveMemberUseCase;
+import page.clab.api.global.common.dto.PageCursor;
 import page.clab.api.global.common.dto.PagedResponseDto;
+import page.clab.api.global.util.PaginationUtils;
 
 @Service
 @RequiredArgsConstructor
@@ -26,4 +29,13 @@ public class NotificationsRetrievalService implements RetrieveNotificationsUseCa
         Page<Notification> notifications = retrieveNotificationPort.findByMemberId(currentMemberId, pageable);
         return new PagedResponseDto<>(notifications.map(NotificationResponseDto::toDto));
     }
+
+    @Transactional(readOnly = true)
+    @Override
+    public PagedResponseDto<NotificationResponseDto> retrieveNotificationsByCursor(PageCursor cursor, Pageable pageable) {
+        String currentMemberId = externalRetrieveMemberUseCase.getCurrentMemberId();
+        Slice<Notification> notifications = retrieveNotificationPort.findByMemberId(currentMemberId, cursor, pageable);
+        String nextCursor = PaginationUtils.createNextCursor(notifications, Notification::getId);
+        return new PagedResponseDto<>(notifications.map(NotificationResponseDto::toDto), cursor != null, nextCursor);
+    }
 }
@@ -10,7 +10,7 @@ import page.clab.api.domain.members.donation.application.dto.response.DonationRe
 import page.clab.api.domain.members.donation.application.port.in.RetrieveDonationsByConditionsUseCase;
 import page.clab.api.domain.members.donation.application.port.out.RetrieveDonationPort;
 import page.clab.api.domain.members.donation.domain.Donation;
-import page.clab.api.external.memberManagement.member.application.port.ExternalRetrieveMemberUseCase;
+import page.clab.api.external.memberManagement.member.application.loader.MemberInfoLoader;
 import page.clab.api.global.common.dto.PagedResponseDto;
 
 import java.time.LocalDate;
@@ -20,14 +20,15 @@ import java.time.LocalDate;
 public class DonationsByConditionsRetrievalService implements RetrieveDonationsByConditionsUseCase {
 
     private final RetrieveDonationPort retrieveDonationPort;
-    private final ExternalRetrieveMemberUseCase externalRetrieveMemberUseCase;
+    private final MemberInfoLoader memberInfoLoader;
 
     @Transactional(readOnly = true)
     @Override
     public PagedResponseDto<DonationResponseDto> retrieveDonations(String memberId, String name, LocalDate startDate, LocalDate endDate, Pageable pageable) {
         Page<Donation> donations = retrieveDonationPort.findByConditions(memberId, name, startDate, endDate, pageable);
+        memberInfoLoader.prepareBasicInfos(donations.map(Donation::getMemberId).getContent());
         return new PagedResponseDto<>(donations.map(donation -> {
-            MemberBasicInfoDto memberInfo = externalRetrieveMemberUseCase.getMemberBasicInfoById(donation.getMemberId());
+            MemberBasicInfoDto memberInfo = memberInfoLoader.getBasicInfo(donation.getMemberId());
             return DonationResponseDto.toDto(donation, memberInfo.getMemberName());
         }));
     }
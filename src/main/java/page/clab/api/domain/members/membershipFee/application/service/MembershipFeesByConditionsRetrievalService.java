@@ -11,6 +11,7 @@ import page.clab.api.domain.members.membershipFee.application.port.in.RetrieveMe
 import page.clab.api.domain.members.membershipFee.application.port.out.RetrieveMembershipFeePort;
 import page.clab.api.domain.members.membershipFee.domain.MembershipFee;
 import page.clab.api.domain.members.membershipFee.domain.MembershipFeeStatus;
+import page.clab.api.external.memberManagement.member.application.loader.MemberInfoLoader;
 import page.clab.api.external.memberManagement.member.application.port.ExternalRetrieveMemberUseCase;
 import page.clab.api.global.common.dto.PagedResponseDto;
 
@@ -20,17 +21,19 @@ public class MembershipFeesByConditionsRetrievalService implements RetrieveMembe
 
     private final RetrieveMembershipFeePort retrieveMembershipFeePort;
     private final ExternalRetrieveMemberUseCase externalRetrieveMemberUseCase;
+    private final MemberInfoLoader memberInfoLoader;
 
     @Transactional(readOnly = true)
     @Override
     public PagedResponseDto<MembershipFeeResponseDto> retrieveMembershipFees(String memberId, String memberName, String category, MembershipFeeStatus status, Pageable pageable) {
         Page<MembershipFee> membershipFees = retrieveMembershipFeePort.findByConditions(memberId, memberName, category, status, pageable);
+        memberInfoLoader.prepareBasicInfos(membershipFees.map(MembershipFee::getMemberId).getContent());
         boolean currentMemberIsAdmin = externalRetrieveMemberUseCase.getCurrentMemberDetailedInfo().isAdminRole();
         return new PagedResponseDto<>(membershipFees.map(membership -> getMembershipFeeResponseDto(membership, currentMemberIsAdmin)));
     }
 
     private MembershipFeeResponseDto getMembershipFeeResponseDto(MembershipFee membershipFee, boolean isAdminRole) {
-        MemberBasicInfoDto memberInfo = externalRetrieveMemberUseCase.getMemberBasicInfoById(membershipFee.getMemberId());
+        MemberBasicInfoDto memberInfo = memberInfoLoader.getBasicInfo(membershipFee.getMemberId());
         return MembershipFeeResponseDto.toDto(membershipFee, memberInfo.getMemberName(), isAdminRole);
     }
 }
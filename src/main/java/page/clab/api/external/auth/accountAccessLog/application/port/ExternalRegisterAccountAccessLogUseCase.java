@@ -1,8 +1,13 @@
 package page.clab.api.external.auth.accountAccessLog.application.port;
 
 import jakarta.servlet.http.HttpServletRequest;
+import page.clab.api.domain.auth.accountAccessLog.domain.AccountAccessLog;
 import page.clab.api.domain.auth.accountAccessLog.domain.AccountAccessResult;
 
+import java.util.List;
+
 public interface ExternalRegisterAccountAccessLogUseCase {
-    void registerAccountAccessLog(HttpServletRequest request, String memberId, AccountAccessResult accountAccessResult);
+    AccountAccessLog createAccountAccessLog(HttpServletRequest request, String memberId, AccountAccessResult accountAccessResult);
+
+    void registerAccountAccessLogs(List<AccountAccessLog> accountAccessLogs);
 }
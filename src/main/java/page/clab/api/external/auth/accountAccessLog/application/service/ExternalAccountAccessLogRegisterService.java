@@ -1,29 +1,56 @@
 package page.clab.api.external.auth.accountAccessLog.application.service;
 
-import io.ipinfo.api.model.IPResponse;
 import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import page.clab.api.domain.auth.accountAccessLog.application.event.AccountAccessLogRegisteredEvent;
 import page.clab.api.domain.auth.accountAccessLog.application.port.out.RegisterAccountAccessLogPort;
 import page.clab.api.domain.auth.accountAccessLog.domain.AccountAccessLog;
 import page.clab.api.domain.auth.accountAccessLog.domain.AccountAccessResult;
 import page.clab.api.external.auth.accountAccessLog.application.port.ExternalRegisterAccountAccessLogUseCase;
+import page.clab.api.global.common.geoip.application.GeoIpResolver;
 import page.clab.api.global.util.HttpReqResUtil;
-import page.clab.api.global.util.IPInfoUtil;
+
+import java.util.List;
 
 @Service
 @RequiredArgsConstructor
 public class ExternalAccountAccessLogRegisterService implements ExternalRegisterAccountAccessLogUseCase {
 
     private final RegisterAccountAccessLogPort registerAccountAccessLogPort;
+    private final GeoIpResolver geoIpResolver;
+    private final ApplicationEventPublisher eventPublisher;
+
+    /**
+     * 요청 정보로 계정 접근 로그를 만듭니다. 저장은 하지 않습니다.
+     */
+    @Override
+    public AccountAccessLog createAccountAccessLog(HttpServletRequest request, String memberId, AccountAccessResult accountAccessResult) {
+        String clientIpAddress = HttpReqResUtil.getClientIpAddress(request);
+        String country = HttpReqResUtil.isBogonRequest(clientIpAddress) ? null : geoIpResolver.resolveCountry(clientIpAddress);
+        return AccountAccessLog.create(memberId, request, clientIpAddress, country, accountAccessResult);
+    }
 
+    /**
+     * 여러 계정 접근 로그를 한 번의 배치로 저장합니다.
+     */
     @Transactional
     @Override
-    public void registerAccountAccessLog(HttpServletRequest request, String memberId, AccountAccessResult accountAccessResult) {
-        String clientIpAddress = HttpReqResUtil.getClientIpAddressIfServletRequestExist();
-        IPResponse ipResponse = HttpReqResUtil.isBogonRequest(clientIpAddress) ? null : IPInfoUtil.getIpInfo(request);
-        AccountAccessLog accountAccessLog = AccountAccessLog.create(memberId, request, clientIpAddress, ipResponse, accountAccessResult);
-        registerAccountAccessLogPort.save(accountAccessLog);
+    public void registerAccountAccessLogs(List<AccountAccessLog> accountAccessLogs) {
+        if (accountAccessLogs.isEmpty()) {
+            return;
+        }
+        List<Long> savedIds = registerAccountAccessLogPort.saveAll(accountAccessLogs);
+        for (int i = 0; i < savedIds.size(); i++) {
+            publishRegisteredEvent(savedIds.get(i), accountAccessLogs.get(i).getIpAddress());
+        }
+    }
+
+    private void publishRegisteredEvent(Long accountAccessLogId, String clientIpAddress) {
+        if (!HttpReqResUtil.isBogonRequest(clientIpAddress)) {
+            eventPublisher.publishEvent(new AccountAccessLogRegisteredEvent(this, accountAccessLogId, clientIpAddress));
+        }
     }
 }
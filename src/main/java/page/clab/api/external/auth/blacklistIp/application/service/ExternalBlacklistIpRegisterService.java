@@ -1,8 +1,10 @@
 package page.clab.api.external.auth.blacklistIp.application.service;
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import page.clab.api.domain.auth.blacklistIp.application.event.BlacklistIpChangedEvent;
 import page.clab.api.domain.auth.blacklistIp.application.port.out.RegisterBlacklistIpPort;
 import page.clab.api.domain.auth.blacklistIp.domain.BlacklistIp;
 import page.clab.api.external.auth.blacklistIp.application.port.ExternalRegisterBlacklistIpUseCase;
@@ -12,10 +14,12 @@ import page.clab.api.external.auth.blacklistIp.application.port.ExternalRegister
 public class ExternalBlacklistIpRegisterService implements ExternalRegisterBlacklistIpUseCase {
 
     private final RegisterBlacklistIpPort registerBlacklistIpPort;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional
     @Override
     public void save(BlacklistIp blacklistIp) {
         registerBlacklistIpPort.save(blacklistIp);
+        eventPublisher.publishEvent(new BlacklistIpChangedEvent(this, blacklistIp.getIpAddress()));
     }
 }
@@ -3,7 +3,6 @@ package page.clab.api.external.auth.redisIpAccessMonitor.application.service;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 import page.clab.api.domain.auth.redisIpAccessMonitor.application.port.out.RetrieveIpAccessMonitorPort;
 import page.clab.api.domain.auth.redisIpAccessMonitor.domain.RedisIpAccessMonitor;
 import page.clab.api.external.auth.redisIpAccessMonitor.application.port.ExternalCheckIpBlockedUseCase;
@@ -17,7 +16,6 @@ public class ExternalIpAccessMonitorCheckService implements ExternalCheckIpBlock
     @Value("${security.ip-attempt.max-attempts}")
     private int maxAttempts;
 
-    @Transactional(readOnly = true)
     @Override
     public boolean isIpBlocked(String ipAddress) {
         RedisIpAccessMonitor existingAttempt = retrieveIpAccessMonitorPort.findById(ipAddress).orElse(null);
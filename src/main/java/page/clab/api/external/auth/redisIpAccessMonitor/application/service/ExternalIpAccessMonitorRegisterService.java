@@ -2,13 +2,9 @@ package page.clab.api.external.auth.redisIpAccessMonitor.application.service;
 
 import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
-import org.jetbrains.annotations.NotNull;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 import page.clab.api.domain.auth.redisIpAccessMonitor.application.port.out.RegisterIpAccessMonitorPort;
-import page.clab.api.domain.auth.redisIpAccessMonitor.application.port.out.RetrieveIpAccessMonitorPort;
-import page.clab.api.domain.auth.redisIpAccessMonitor.domain.RedisIpAccessMonitor;
 import page.clab.api.external.auth.redisIpAccessMonitor.application.port.ExternalRegisterIpAccessMonitorUseCase;
 import page.clab.api.global.common.slack.application.SlackService;
 import page.clab.api.global.common.slack.domain.SecurityAlertType;
@@ -18,30 +14,19 @@ import page.clab.api.global.common.slack.domain.SecurityAlertType;
 public class ExternalIpAccessMonitorRegisterService implements ExternalRegisterIpAccessMonitorUseCase {
 
     private final RegisterIpAccessMonitorPort registerIpAccessMonitorPort;
-    private final RetrieveIpAccessMonitorPort retrieveIpAccessMonitorPort;
     private final SlackService slackService;
 
     @Value("${security.ip-attempt.max-attempts}")
     private int maxAttempts;
 
-    @Transactional
+    /**
+     * 비정상 접근 횟수를 Redis에서 원자적으로 증가시키고, 차단 기준에 처음 도달한 요청에서만 차단 알림을 보냅니다.
+     */
     @Override
     public void registerIpAccessMonitor(HttpServletRequest request, String ipAddress) {
-        RedisIpAccessMonitor redisIpAccessMonitor = getOrCreateRedisIpAccessMonitor(ipAddress);
-        if (redisIpAccessMonitor.isBlocked()) {
+        long attempts = registerIpAccessMonitorPort.increaseAttempts(ipAddress);
+        if (attempts == maxAttempts) {
             slackService.sendSecurityAlertNotification(request, SecurityAlertType.ABNORMAL_ACCESS_IP_BLOCKED, "Blocked IP: " + ipAddress);
         }
-        registerIpAccessMonitorPort.save(redisIpAccessMonitor);
-    }
-
-    @NotNull
-    private RedisIpAccessMonitor getOrCreateRedisIpAccessMonitor(String ipAddress) {
-        return retrieveIpAccessMonitorPort.findById(ipAddress)
-                .map(attempt -> {
-                    attempt.increaseAttempts();
-                    attempt.updateLastAttempt();
-                    return attempt;
-                })
-                .orElseGet(() -> RedisIpAccessMonitor.create(ipAddress, maxAttempts));
     }
 }
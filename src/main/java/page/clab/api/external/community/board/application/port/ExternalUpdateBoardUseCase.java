@@ -0,0 +1,8 @@
+package page.clab.api.external.community.board.application.port;
+
+public interface ExternalUpdateBoardUseCase {
+
+    void increaseCommentCount(Long boardId);
+
+    void decreaseCommentCount(Long boardId);
+}
@@ -0,0 +1,26 @@
+package page.clab.api.external.community.board.application.service;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import page.clab.api.domain.community.board.application.port.out.UpdateBoardCommentCountPort;
+import page.clab.api.external.community.board.application.port.ExternalUpdateBoardUseCase;
+
+@Service
+@RequiredArgsConstructor
+public class ExternalBoardUpdateService implements ExternalUpdateBoardUseCase {
+
+    private final UpdateBoardCommentCountPort updateBoardCommentCountPort;
+
+    @Transactional
+    @Override
+    public void increaseCommentCount(Long boardId) {
+        updateBoardCommentCountPort.increaseCommentCount(boardId);
+    }
+
+    @Transactional
+    @Override
+    public void decreaseCommentCount(Long boardId) {
+        updateBoardCommentCountPort.decreaseCommentCount(boardId);
+    }
+}
@@ -0,0 +1,5 @@
+package page.clab.api.external.memberManagement.cloud.application.port;
+
+public interface ExternalUpdateCloudUsageUseCase {
+    void updateCloudUsageByFile(String savedPath, long sizeDelta);
+}
@@ -0,0 +1,18 @@
+package page.clab.api.external.memberManagement.cloud.application.service;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import page.clab.api.domain.memberManagement.cloud.application.port.in.UpdateCloudUsageUseCase;
+import page.clab.api.external.memberManagement.cloud.application.port.ExternalUpdateCloudUsageUseCase;
+
+@Service
+@RequiredArgsConstructor
+public class ExternalCloudUsageUpdateService implements ExternalUpdateCloudUsageUseCase {
+
+    private final UpdateCloudUsageUseCase updateCloudUsageUseCase;
+
+    @Override
+    public void updateCloudUsageByFile(String savedPath, long sizeDelta) {
+        updateCloudUsageUseCase.updateCloudUsageByFile(savedPath, sizeDelta);
+    }
+}
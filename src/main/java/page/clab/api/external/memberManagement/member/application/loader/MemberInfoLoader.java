@@ -0,0 +1,119 @@
+package page.clab.api.external.memberManagement.member.application.loader;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.annotation.RequestScope;
+import page.clab.api.domain.memberManagement.member.application.dto.shared.MemberBasicInfoDto;
+import page.clab.api.domain.memberManagement.member.application.dto.shared.MemberDetailedInfoDto;
+import page.clab.api.domain.memberManagement.member.application.dto.shared.MemberReviewInfoDto;
+import page.clab.api.external.memberManagement.member.application.port.ExternalRetrieveMemberUseCase;
+import page.clab.api.global.exception.NotFoundException;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * 목록 조회 시 행마다 회원 정보를 조회하지 않도록, 요청 단위로 회원 ID를 모아 한 번에 조회하는 로더입니다.
+ * prepare 메서드로 필요한 회원 ID를 먼저 등록한 뒤 get 메서드로 꺼내면,
+ * 아직 조회되지 않은 ID들이 하나의 IN 쿼리로 조회되고 결과는 요청이 끝날 때까지 재사용됩니다.
+ */
+@Component
+@RequestScope
+@RequiredArgsConstructor
+public class MemberInfoLoader {
+
+    private final ExternalRetrieveMemberUseCase externalRetrieveMemberUseCase;
+
+    private Batch<MemberBasicInfoDto> basicInfos;
+    private Batch<MemberDetailedInfoDto> detailedInfos;
+    private Batch<MemberReviewInfoDto> reviewInfos;
+
+    public void prepareBasicInfos(Collection<String> memberIds) {
+        basicInfos().prepare(memberIds);
+    }
+
+    public MemberBasicInfoDto getBasicInfo(String memberId) {
+        return basicInfos().get(memberId);
+    }
+
+    public void prepareDetailedInfos(Collection<String> memberIds) {
+        detailedInfos().prepare(memberIds);
+    }
+
+    public MemberDetailedInfoDto getDetailedInfo(String memberId) {
+        return detailedInfos().get(memberId);
+    }
+
+    public void prepareReviewInfos(Collection<String> memberIds) {
+        reviewInfos().prepare(memberIds);
+    }
+
+    public MemberReviewInfoDto getReviewInfo(String memberId) {
+        return reviewInfos().get(memberId);
+    }
+
+    private Batch<MemberBasicInfoDto> basicInfos() {
+        if (basicInfos == null) {
+            basicInfos = new Batch<>(externalRetrieveMemberUseCase::getMemberBasicInfosByIds);
+        }
+        return basicInfos;
+    }
+
+    private Batch<MemberDetailedInfoDto> detailedInfos() {
+        if (detailedInfos == null) {
+            detailedInfos = new Batch<>(externalRetrieveMemberUseCase::getMemberDetailedInfosByIds);
+        }
+        return detailedInfos;
+    }
+
+    private Batch<MemberReviewInfoDto> reviewInfos() {
+        if (reviewInfos == null) {
+            reviewInfos = new Batch<>(externalRetrieveMemberUseCase::getMemberReviewInfosByIds);
+        }
+        return reviewInfos;
+    }
+
+    private static class Batch<T> {
+
+        private final Function<Set<String>, Map<String, T>> batchFunction;
+        private final Set<String> pendingIds = new HashSet<>();
+        private final Map<String, T> loaded = new HashMap<>();
+
+        private Batch(Function<Set<String>, Map<String, T>> batchFunction) {
+            this.batchFunction = batchFunction;
+        }
+
+        private void prepare(Collection<String> memberIds) {
+            for (String memberId : memberIds) {
+                if (memberId != null && !loaded.containsKey(memberId)) {
+                    pendingIds.add(memberId);
+                }
+            }
+        }
+
+        private T get(String memberId) {
+            if (!loaded.containsKey(memberId)) {
+                pendingIds.add(memberId);
+                dispatch();
+            }
+            T value = loaded.get(memberId);
+            if (value == null) {
+                throw new NotFoundException("[Member] id: " + memberId + "에 해당하는 회원이 존재하지 않습니다.");
+            }
+            return value;
+        }
+
+        private void dispatch() {
+            Set<String> memberIds = new HashSet<>(pendingIds);
+            pendingIds.clear();
+            Map<String, T> result = batchFunction.apply(memberIds);
+            for (String memberId : memberIds) {
+                loaded.put(memberId, result.get(memberId));
+            }
+        }
+    }
+}
@@ -10,7 +10,9 @@ import page.clab.api.domain.memberManagement.member.application.dto.shared.Membe
 import page.clab.api.domain.memberManagement.member.domain.Member;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 public interface ExternalRetrieveMemberUseCase {
 
@@ -38,10 +40,14 @@ public interface ExternalRetrieveMemberUseCase {
 
     MemberBasicInfoDto getMemberBasicInfoById(String memberId);
 
+    Map<String, MemberBasicInfoDto> getMemberBasicInfosByIds(Set<String> memberIds);
+
     MemberBasicInfoDto getCurrentMemberBasicInfo();
 
     MemberDetailedInfoDto getMemberDetailedInfoById(String memberId);
 
+    Map<String, MemberDetailedInfoDto> getMemberDetailedInfosByIds(Set<String> memberIds);
+
     MemberDetailedInfoDto getCurrentMemberDetailedInfo();
 
     MemberBorrowerInfoDto getCurrentMemberBorrowerInfo();
@@ -53,4 +59,6 @@ public interface ExternalRetrieveMemberUseCase {
     MemberPositionInfoDto getCurrentMemberPositionInfo();
 
     MemberReviewInfoDto getMemberReviewInfoById(String memberId);
+
+    Map<String, MemberReviewInfoDto> getMemberReviewInfosByIds(Set<String> memberIds);
 }
@@ -1,10 +1,11 @@
 package page.clab.api.external.memberManagement.member.application.port;
 
 import java.time.LocalDateTime;
+import java.util.Map;
 
 public interface ExternalUpdateMemberUseCase {
 
-    void updateLastLoginTime(String id);
+    void updateLastLoginTimes(Map<String, LocalDateTime> lastLoginTimes);
 
     void updateLoanSuspensionDate(String memberId, LocalDateTime loanSuspensionDate);
 }
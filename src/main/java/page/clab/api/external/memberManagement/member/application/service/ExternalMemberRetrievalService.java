@@ -19,7 +19,9 @@ import page.clab.api.global.auth.util.AuthUtil;
 import page.clab.api.global.exception.NotFoundException;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 @Service
@@ -119,6 +121,14 @@ public class ExternalMemberRetrievalService implements ExternalRetrieveMemberUse
         return MemberBasicInfoDto.create(member);
     }
 
+    @Transactional(readOnly = true)
+    @Override
+    public Map<String, MemberBasicInfoDto> getMemberBasicInfosByIds(Set<String> memberIds) {
+        return retrieveMemberPort.findByIds(memberIds)
+                .stream()
+                .collect(Collectors.toMap(Member::getId, MemberBasicInfoDto::create));
+    }
+
     @Transactional(readOnly = true)
     @Override
     public MemberBasicInfoDto getCurrentMemberBasicInfo() {
@@ -134,6 +144,14 @@ public class ExternalMemberRetrievalService implements ExternalRetrieveMemberUse
         return MemberDetailedInfoDto.create(member);
     }
 
+    @Transactional(readOnly = true)
+    @Override
+    public Map<String, MemberDetailedInfoDto> getMemberDetailedInfosByIds(Set<String> memberIds) {
+        return retrieveMemberPort.findByIds(memberIds)
+                .stream()
+                .collect(Collectors.toMap(Member::getId, MemberDetailedInfoDto::create));
+    }
+
     @Transactional(readOnly = true)
     @Override
     public MemberDetailedInfoDto getCurrentMemberDetailedInfo() {
@@ -179,4 +197,12 @@ public class ExternalMemberRetrievalService implements ExternalRetrieveMemberUse
         return MemberReviewInfoDto.create(member);
     }
 
+    @Transactional(readOnly = true)
+    @Override
+    public Map<String, MemberReviewInfoDto> getMemberReviewInfosByIds(Set<String> memberIds) {
+        return retrieveMemberPort.findByIds(memberIds)
+                .stream()
+                .collect(Collectors.toMap(Member::getId, MemberReviewInfoDto::create));
+    }
+
 }
@@ -5,10 +5,12 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import page.clab.api.domain.memberManagement.member.application.port.out.RegisterMemberPort;
 import page.clab.api.domain.memberManagement.member.application.port.out.RetrieveMemberPort;
+import page.clab.api.domain.memberManagement.member.application.port.out.UpdateMemberPort;
 import page.clab.api.domain.memberManagement.member.domain.Member;
 import page.clab.api.external.memberManagement.member.application.port.ExternalUpdateMemberUseCase;
 
 import java.time.LocalDateTime;
+import java.util.Map;
 
 @Service
 @RequiredArgsConstructor
@@ -16,13 +18,15 @@ public class ExternalMemberUpdateService implements ExternalUpdateMemberUseCase
 
     private final RetrieveMemberPort retrieveMemberPort;
     private final RegisterMemberPort registerMemberPort;
+    private final UpdateMemberPort updateMemberPort;
 
     @Transactional
     @Override
-    public void updateLastLoginTime(String memberId) {
-        Member member = retrieveMemberPort.findByIdOrThrow(memberId);
-        member.updateLastLoginTime();
-        registerMemberPort.save(member);
+    public void updateLastLoginTimes(Map<String, LocalDateTime> lastLoginTimes) {
+        if (lastLoginTimes.isEmpty()) {
+            return;
+        }
+        updateMemberPort.updateLastLoginTimes(lastLoginTimes);
     }
 
     @Transactional
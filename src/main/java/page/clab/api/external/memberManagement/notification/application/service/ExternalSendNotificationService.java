@@ -21,10 +21,7 @@ public class ExternalSendNotificationService implements ExternalSendNotification
     @Transactional
     @Override
     public void sendNotificationToAllMembers(String content) {
-        List<Notification> notifications = externalRetrieveMemberUseCase.getMemberIds().stream()
-                .map(memberId -> Notification.create(memberId, content))
-                .toList();
-        registerNotificationPort.saveAll(notifications);
+        registerNotificationPort.saveForAllMembers(content);
     }
 
     @Transactional
@@ -0,0 +1,69 @@
+package page.clab.api.global.auth.filter;
+
+import jakarta.servlet.ServletRequest;
+import lombok.Getter;
+
+import java.util.function.BooleanSupplier;
+
+/**
+ * 요청마다 한 번만 확인한 클라이언트의 접근 정보입니다.
+ * {@link ClientAccessGateFilter}가 요청 속성에 저장하며, 이후 필터들은 IP 조회나 차단 여부 확인을 반복하지 않고 이 값을 참조합니다.
+ * 메모리에서 바로 판단할 수 없는 차단 여부(Redis 조회)는 처음 필요해질 때 한 번만 확인하므로,
+ * 화이트리스트 경로처럼 차단 여부를 보지 않는 요청은 조회하지 않습니다.
+ */
+public final class ClientAccessContext {
+
+    static final String ATTRIBUTE_NAME = ClientAccessContext.class.getName();
+
+    @Getter
+    private final String clientIpAddress;
+
+    @Getter
+    private final String country;
+
+    @Getter
+    private final boolean blacklisted;
+
+    @Getter
+    private final boolean whitelisted;
+
+    private final BooleanSupplier blockedSupplier;
+    private Boolean blocked;
+
+    ClientAccessContext(String clientIpAddress, String country, boolean blacklisted, BooleanSupplier blockedSupplier, boolean whitelisted) {
+        this.clientIpAddress = clientIpAddress;
+        this.country = country;
+        this.blacklisted = blacklisted;
+        this.blockedSupplier = blockedSupplier;
+        this.whitelisted = whitelisted;
+    }
+
+    /**
+     * 요청 속성에 저장된 접근 정보를 꺼냅니다.
+     * @throws IllegalStateException 게이트 필터를 거치지 않은 요청인 경우
+     */
+    public static ClientAccessContext from(ServletRequest request) {
+        Object context = request.getAttribute(ATTRIBUTE_NAME);
+        if (context instanceof ClientAccessContext clientAccessContext) {
+            return clientAccessContext;
+        }
+        throw new IllegalStateException("ClientAccessContext is not resolved for this request");
+    }
+
+    /**
+     * 비정상 접근으로 차단된 IP인지 확인합니다. 처음 호출될 때만 조회하고 결과를 재사용합니다.
+     */
+    public boolean isBlocked() {
+        if (blocked == null) {
+            blocked = blockedSupplier.getAsBoolean();
+        }
+        return blocked;
+    }
+
+    /**
+     * 블랙리스트에 등록되었거나 비정상 접근으로 차단된 IP인지 확인합니다.
+     */
+    public boolean isRestricted() {
+        return blacklisted || isBlocked();
+    }
+}
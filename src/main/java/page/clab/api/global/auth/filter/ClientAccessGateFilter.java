@@ -0,0 +1,49 @@
+package page.clab.api.global.auth.filter;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletRequest;
+import jakarta.servlet.ServletResponse;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.filter.GenericFilterBean;
+import page.clab.api.external.auth.blacklistIp.application.port.ExternalRetrieveBlacklistIpUseCase;
+import page.clab.api.external.auth.redisIpAccessMonitor.application.port.ExternalCheckIpBlockedUseCase;
+import page.clab.api.global.auth.util.IpWhitelistValidator;
+import page.clab.api.global.common.geoip.application.GeoIpResolver;
+import page.clab.api.global.util.HttpReqResUtil;
+
+import java.io.IOException;
+
+/**
+ * 보안 필터 체인의 가장 앞에서 클라이언트 IP, 국가, 블랙리스트 및 화이트리스트 포함 여부를 한 번에 확인합니다.
+ * Redis 조회가 필요한 차단 여부는 이후 필터가 처음 확인할 때 조회합니다.
+ * 결과는 {@link ClientAccessContext}로 요청 속성에 저장되며, 오류 페이지 전달처럼 같은 요청이 다시 체인을 거치는 경우에는 저장된 값을 그대로 사용합니다.
+ */
+@RequiredArgsConstructor
+public class ClientAccessGateFilter extends GenericFilterBean {
+
+    private final GeoIpResolver geoIpResolver;
+    private final IpWhitelistValidator ipWhitelistValidator;
+    private final ExternalCheckIpBlockedUseCase externalCheckIpBlockedUseCase;
+    private final ExternalRetrieveBlacklistIpUseCase externalRetrieveBlacklistIpUseCase;
+
+    @Override
+    public void doFilter(ServletRequest request, ServletResponse response, FilterChain chain) throws IOException, ServletException {
+        if (request.getAttribute(ClientAccessContext.ATTRIBUTE_NAME) == null) {
+            request.setAttribute(ClientAccessContext.ATTRIBUTE_NAME, resolve((HttpServletRequest) request));
+        }
+        chain.doFilter(request, response);
+    }
+
+    private ClientAccessContext resolve(HttpServletRequest request) {
+        String clientIpAddress = HttpReqResUtil.getClientIpAddress(request);
+        return new ClientAccessContext(
+                clientIpAddress,
+                geoIpResolver.resolveCountry(clientIpAddress),
+                externalRetrieveBlacklistIpUseCase.existsByIpAddress(clientIpAddress),
+                () -> externalCheckIpBlockedUseCase.isIpBlocked(clientIpAddress),
+                ipWhitelistValidator.isIpWhitelisted(clientIpAddress)
+        );
+    }
+}
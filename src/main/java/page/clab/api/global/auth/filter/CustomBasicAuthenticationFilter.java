@@ -12,12 +12,8 @@ import org.springframework.security.authentication.UsernamePasswordAuthenticatio
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.web.authentication.www.BasicAuthenticationFilter;
-import page.clab.api.external.auth.blacklistIp.application.port.ExternalRetrieveBlacklistIpUseCase;
-import page.clab.api.external.auth.redisIpAccessMonitor.application.port.ExternalCheckIpBlockedUseCase;
-import page.clab.api.global.auth.util.IpWhitelistValidator;
 import page.clab.api.global.common.slack.application.SlackService;
 import page.clab.api.global.common.slack.domain.SecurityAlertType;
-import page.clab.api.global.util.HttpReqResUtil;
 import page.clab.api.global.util.ResponseUtil;
 import page.clab.api.global.util.WhitelistPathMatcher;
 
@@ -27,22 +23,10 @@ import java.util.Base64;
 @Slf4j
 public class CustomBasicAuthenticationFilter extends BasicAuthenticationFilter {
 
-    private final IpWhitelistValidator ipWhitelistValidator;
     private final SlackService slackService;
-    private final ExternalCheckIpBlockedUseCase externalCheckIpBlockedUseCase;
-    private final ExternalRetrieveBlacklistIpUseCase externalRetrieveBlacklistIpUseCase;
 
-    public CustomBasicAuthenticationFilter(
-            AuthenticationManager authenticationManager,
-            IpWhitelistValidator ipWhitelistValidator,
-            SlackService slackService,
-            ExternalCheckIpBlockedUseCase externalCheckIpBlockedUseCase,
-            ExternalRetrieveBlacklistIpUseCase externalRetrieveBlacklistIpUseCase
-    ) {
+    public CustomBasicAuthenticationFilter(AuthenticationManager authenticationManager, SlackService slackService) {
         super(authenticationManager);
-        this.externalCheckIpBlockedUseCase = externalCheckIpBlockedUseCase;
-        this.externalRetrieveBlacklistIpUseCase = externalRetrieveBlacklistIpUseCase;
-        this.ipWhitelistValidator = ipWhitelistValidator;
         this.slackService = slackService;
     }
 
@@ -54,7 +38,7 @@ public class CustomBasicAuthenticationFilter extends BasicAuthenticationFilter {
             chain.doFilter(request, response);
             return;
         }
-        if (!verifyIpAddressAccess(response)) {
+        if (!verifyIpAddressAccess(request, response)) {
             return;
         }
         if (!authenticateUserCredentials(request, response)) {
@@ -90,13 +74,10 @@ public class CustomBasicAuthenticationFilter extends BasicAuthenticationFilter {
         return true;
     }
 
-    private boolean verifyIpAddressAccess(HttpServletResponse response) throws IOException {
-        String clientIpAddress = HttpReqResUtil.getClientIpAddressIfServletRequestExist();
-        if (!ipWhitelistValidator.isIpWhitelisted(clientIpAddress) ||
-                externalRetrieveBlacklistIpUseCase.existsByIpAddress(clientIpAddress) ||
-                externalCheckIpBlockedUseCase.isIpBlocked(clientIpAddress)
-        ) {
-            log.info("[{}] : 정책에 의해 차단된 IP입니다.", clientIpAddress);
+    private boolean verifyIpAddressAccess(HttpServletRequest request, HttpServletResponse response) throws IOException {
+        ClientAccessContext clientAccessContext = ClientAccessContext.from(request);
+        if (!clientAccessContext.isWhitelisted() || clientAccessContext.isRestricted()) {
+            log.info("[{}] : 정책에 의해 차단된 IP입니다.", clientAccessContext.getClientIpAddress());
             ResponseUtil.sendErrorResponse(response, HttpServletResponse.SC_UNAUTHORIZED);
             return false;
         }
@@ -13,14 +13,13 @@ import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.filter.GenericFilterBean;
 import page.clab.api.domain.auth.blacklistIp.domain.BlacklistIp;
 import page.clab.api.external.auth.blacklistIp.application.port.ExternalRegisterBlacklistIpUseCase;
-import page.clab.api.external.auth.blacklistIp.application.port.ExternalRetrieveBlacklistIpUseCase;
 import page.clab.api.global.common.slack.application.SlackService;
 import page.clab.api.global.common.slack.domain.SecurityAlertType;
-import page.clab.api.global.util.HttpReqResUtil;
 import page.clab.api.global.util.ResponseUtil;
 import page.clab.api.global.util.SecurityPatternChecker;
 
 import java.io.IOException;
+import java.util.Optional;
 
 @RequiredArgsConstructor
 @Slf4j
@@ -29,33 +28,35 @@ public class InvalidEndpointAccessFilter extends GenericFilterBean {
     private final SlackService slackService;
     private final String fileURL;
     private final ExternalRegisterBlacklistIpUseCase externalRegisterBlacklistIpUseCase;
-    private final ExternalRetrieveBlacklistIpUseCase externalRetrieveBlacklistIpUseCase;
 
     @Override
     public void doFilter(ServletRequest request, ServletResponse response, FilterChain chain) throws IOException, ServletException {
         HttpServletRequest httpRequest = (HttpServletRequest) request;
         String path = httpRequest.getRequestURI();
         boolean isUploadedFileAccess = path.startsWith(fileURL);
-        boolean isSuspicious = SecurityPatternChecker.matchesSuspiciousPattern(path);
+        Optional<String> matchedPattern = isUploadedFileAccess ? Optional.empty() : SecurityPatternChecker.findSuspiciousPattern(path);
 
-        if (!isUploadedFileAccess && isSuspicious) {
-            handleSuspiciousAccess(httpRequest, (HttpServletResponse) response);
+        if (matchedPattern.isPresent()) {
+            handleSuspiciousAccess(httpRequest, (HttpServletResponse) response, matchedPattern.get());
         } else {
             chain.doFilter(request, response);
         }
     }
 
-    private void handleSuspiciousAccess(HttpServletRequest request, HttpServletResponse response) throws IOException {
-        String clientIpAddress = HttpReqResUtil.getClientIpAddressIfServletRequestExist();
+    private void handleSuspiciousAccess(HttpServletRequest request, HttpServletResponse response, String matchedPattern) throws IOException {
+        ClientAccessContext clientAccessContext = ClientAccessContext.from(request);
+        String clientIpAddress = clientAccessContext.getClientIpAddress();
         int statusCode = HttpServletResponse.SC_FORBIDDEN;
 
-        logSuspiciousAccess(request, clientIpAddress);
-        sendSecurityAlertIfNotBlacklisted(request, clientIpAddress);
+        logSuspiciousAccess(request, clientIpAddress, matchedPattern);
+        if (!clientAccessContext.isBlacklisted()) {
+            addToBlacklist(request, clientIpAddress, matchedPattern);
+        }
 
         ResponseUtil.sendErrorResponse(response, statusCode);
     }
 
-    private void logSuspiciousAccess(HttpServletRequest request, String clientIpAddress) {
+    private void logSuspiciousAccess(HttpServletRequest request, String clientIpAddress, String matchedPattern) {
         Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
         String id = (authentication == null || authentication.getName() == null) ? "anonymous" : authentication.getName();
         String requestUrl = request.getRequestURI();
@@ -63,20 +64,18 @@ public class InvalidEndpointAccessFilter extends GenericFilterBean {
         int statusCode = HttpServletResponse.SC_FORBIDDEN;
         String message = "서버 내부 파일 및 디렉토리에 대한 접근이 감지되었습니다.";
 
-        log.info("[{}:{}] {} {} {} {}", clientIpAddress, id, requestUrl, httpMethod, statusCode, message);
+        log.info("[{}:{}] {} {} {} {} [{}]", clientIpAddress, id, requestUrl, httpMethod, statusCode, message, matchedPattern);
     }
 
-    private void sendSecurityAlertIfNotBlacklisted(HttpServletRequest request, String clientIpAddress) {
-        if (!externalRetrieveBlacklistIpUseCase.existsByIpAddress(clientIpAddress)) {
-            externalRegisterBlacklistIpUseCase.save(
-                    BlacklistIp.create(clientIpAddress, "서버 내부 파일 및 디렉토리에 대한 접근 시도")
-            );
-            sendSecurityAlerts(request, clientIpAddress);
-        }
+    private void addToBlacklist(HttpServletRequest request, String clientIpAddress, String matchedPattern) {
+        externalRegisterBlacklistIpUseCase.save(
+                BlacklistIp.create(clientIpAddress, "서버 내부 파일 및 디렉토리에 대한 접근 시도")
+        );
+        sendSecurityAlerts(request, clientIpAddress, matchedPattern);
     }
 
-    private void sendSecurityAlerts(HttpServletRequest request, String clientIpAddress) {
-        String abnormalAccessMessage = "서버 내부 파일 및 디렉토리에 대한 접근이 감지되었습니다.";
+    private void sendSecurityAlerts(HttpServletRequest request, String clientIpAddress, String matchedPattern) {
+        String abnormalAccessMessage = "서버 내부 파일 및 디렉토리에 대한 접근이 감지되었습니다.\nMatched Pattern: " + matchedPattern;
         String blacklistAddedMessage = "Added IP: " + clientIpAddress;
 
         slackService.sendSecurityAlertNotification(request, SecurityAlertType.ABNORMAL_ACCESS, abnormalAccessMessage);
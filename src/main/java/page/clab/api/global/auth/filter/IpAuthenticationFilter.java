@@ -1,7 +1,5 @@
 package page.clab.api.global.auth.filter;
 
-import io.ipinfo.api.IPinfo;
-import io.ipinfo.api.model.IPResponse;
 import jakarta.servlet.Filter;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.FilterConfig;
@@ -9,26 +7,18 @@ import jakarta.servlet.ServletException;
 import jakarta.servlet.ServletRequest;
 import jakarta.servlet.ServletResponse;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.beans.factory.annotation.Value;
-import org.springframework.stereotype.Component;
-import page.clab.api.global.config.IPInfoConfig;
-import page.clab.api.global.util.HttpReqResUtil;
 
 import java.io.IOException;
 import java.util.List;
 import java.util.Objects;
 
-@Component
 @Slf4j
 public class IpAuthenticationFilter implements Filter {
 
-    private final IPinfo ipInfo;
+    private final List<String> allowedCountries;
 
-    @Value("${security.access.allowed-countries}")
-    private List<String> allowedCountries;
-
-    public IpAuthenticationFilter(IPInfoConfig ipInfoConfig) {
-        ipInfo = ipInfoConfig.ipInfo();
+    public IpAuthenticationFilter(List<String> allowedCountries) {
+        this.allowedCountries = allowedCountries;
     }
 
     @Override
@@ -38,21 +28,16 @@ public class IpAuthenticationFilter implements Filter {
 
     @Override
     public void doFilter(ServletRequest request, ServletResponse response, FilterChain chain) throws IOException, ServletException {
-        String clientIpAddress = HttpReqResUtil.getClientIpAddressIfServletRequestExist();
-        try {
-            IPResponse ipResponse = ipInfo.lookupIP(clientIpAddress);
-            if (isNonPermittedCountry(ipResponse)) {
-                log.warn("[{}:{}] Access from non-permitted country", clientIpAddress, ipResponse.getCountryName());
-                return;
-            }
-        } catch (Exception e) {
-            log.error("Failed to get IP information.");
+        ClientAccessContext clientAccessContext = ClientAccessContext.from(request);
+        String country = clientAccessContext.getCountry();
+        if (isNonPermittedCountry(country)) {
+            log.warn("[{}:{}] Access from non-permitted country", clientAccessContext.getClientIpAddress(), country);
+            return;
         }
         chain.doFilter(request, response);
     }
 
-    private boolean isNonPermittedCountry(IPResponse ipResponse) {
-        String country = ipResponse.getCountryCode();
+    private boolean isNonPermittedCountry(String country) {
         return Objects.nonNull(country) && !allowedCountries.contains(country);
     }
 
@@ -12,13 +12,11 @@ import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.filter.GenericFilterBean;
 import page.clab.api.domain.auth.login.domain.RedisToken;
-import page.clab.api.external.auth.blacklistIp.application.port.ExternalRetrieveBlacklistIpUseCase;
-import page.clab.api.external.auth.redisIpAccessMonitor.application.port.ExternalCheckIpBlockedUseCase;
 import page.clab.api.external.auth.redisToken.application.port.ExternalManageRedisTokenUseCase;
+import page.clab.api.global.auth.jwt.JwtClaims;
 import page.clab.api.global.auth.jwt.JwtTokenProvider;
 import page.clab.api.global.common.slack.application.SlackService;
 import page.clab.api.global.common.slack.domain.SecurityAlertType;
-import page.clab.api.global.util.HttpReqResUtil;
 import page.clab.api.global.util.ResponseUtil;
 import page.clab.api.global.util.WhitelistPathMatcher;
 
@@ -31,8 +29,6 @@ public class JwtAuthenticationFilter extends GenericFilterBean {
     private final SlackService slackService;
     private final JwtTokenProvider jwtTokenProvider;
     private final ExternalManageRedisTokenUseCase externalManageRedisTokenUseCase;
-    private final ExternalCheckIpBlockedUseCase externalCheckIpBlockedUseCase;
-    private final ExternalRetrieveBlacklistIpUseCase externalRetrieveBlacklistIpUseCase;
 
     @Override
     public void doFilter(ServletRequest request, ServletResponse response, FilterChain chain) throws IOException, ServletException {
@@ -43,19 +39,19 @@ public class JwtAuthenticationFilter extends GenericFilterBean {
             chain.doFilter(request, response);
             return;
         }
-        String clientIpAddress = HttpReqResUtil.getClientIpAddressIfServletRequestExist();
-        if (!verifyIpAddressAccess(httpServletResponse, clientIpAddress)) {
+        ClientAccessContext clientAccessContext = ClientAccessContext.from(request);
+        if (!verifyIpAddressAccess(httpServletResponse, clientAccessContext)) {
             return;
         }
-        if (!authenticateToken(httpServletRequest, httpServletResponse, clientIpAddress)) {
+        if (!authenticateToken(httpServletRequest, httpServletResponse, clientAccessContext.getClientIpAddress())) {
             return;
         }
         chain.doFilter(request, response);
     }
 
-    private boolean verifyIpAddressAccess(HttpServletResponse response, String clientIpAddress) throws IOException {
-        if (externalRetrieveBlacklistIpUseCase.existsByIpAddress(clientIpAddress) || externalCheckIpBlockedUseCase.isIpBlocked(clientIpAddress)) {
-            log.info("[{}] : 서비스 이용이 제한된 IP입니다.", clientIpAddress);
+    private boolean verifyIpAddressAccess(HttpServletResponse response, ClientAccessContext clientAccessContext) throws IOException {
+        if (clientAccessContext.isRestricted()) {
+            log.info("[{}] : 서비스 이용이 제한된 IP입니다.", clientAccessContext.getClientIpAddress());
             ResponseUtil.sendErrorResponse(response, HttpServletResponse.SC_UNAUTHORIZED);
             return false;
         }
@@ -66,8 +62,9 @@ public class JwtAuthenticationFilter extends GenericFilterBean {
         String token = jwtTokenProvider.resolveToken(request);
 
         // 토큰이 존재하고 유효한 경우
-        if (token != null && jwtTokenProvider.validateToken(token)) {
-            RedisToken redisToken = jwtTokenProvider.isRefreshToken(token) ? externalManageRedisTokenUseCase.findByRefreshToken(token) : externalManageRedisTokenUseCase.findByAccessToken(token);
+        JwtClaims claims = token == null ? null : jwtTokenProvider.verifyToken(token);
+        if (claims != null) {
+            RedisToken redisToken = claims.isRefreshToken() ? externalManageRedisTokenUseCase.findByRefreshToken(token) : externalManageRedisTokenUseCase.findByAccessToken(token);
             if (redisToken == null) {
                 log.warn("존재하지 않는 토큰입니다.");
                 ResponseUtil.sendErrorResponse(response, HttpServletResponse.SC_UNAUTHORIZED);
@@ -82,7 +79,7 @@ public class JwtAuthenticationFilter extends GenericFilterBean {
                 ResponseUtil.sendErrorResponse(response, HttpServletResponse.SC_UNAUTHORIZED);
                 return false;
             }
-            Authentication authentication = jwtTokenProvider.getAuthentication(token);
+            Authentication authentication = jwtTokenProvider.getAuthentication(claims);
             SecurityContextHolder.getContext().setAuthentication(authentication);
         }
         return true;
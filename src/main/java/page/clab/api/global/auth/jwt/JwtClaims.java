@@ -0,0 +1,44 @@
+package page.clab.api.global.auth.jwt;
+
+import io.jsonwebtoken.Claims;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.Date;
+
+/**
+ * 서명 검증이 완료된 JWT의 클레임 정보입니다.
+ * 요청마다 토큰을 한 번만 파싱하고, 이후의 검사는 이 객체를 통해 수행합니다.
+ */
+@Getter
+@Builder(access = AccessLevel.PRIVATE)
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class JwtClaims {
+
+    private final String subject;
+    private final String role;
+    private final Date issuedAt;
+    private final Date expiration;
+    private final boolean refreshToken;
+
+    public static JwtClaims of(Claims claims, long refreshTokenDuration) {
+        Date issuedAt = claims.getIssuedAt();
+        Date expiration = claims.getExpiration();
+        boolean isRefreshToken = issuedAt != null && expiration != null
+                && expiration.getTime() - issuedAt.getTime() == refreshTokenDuration;
+        Object role = claims.get("role");
+        return JwtClaims.builder()
+                .subject(claims.getSubject())
+                .role(role == null ? null : role.toString())
+                .issuedAt(issuedAt)
+                .expiration(expiration)
+                .refreshToken(isRefreshToken)
+                .build();
+    }
+
+    public boolean isExpired(long now) {
+        return expiration != null && expiration.getTime() <= now;
+    }
+}
@@ -0,0 +1,48 @@
+package page.clab.api.global.auth.jwt;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.hash.Hashing;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+
+/**
+ * 서명 검증이 끝난 JWT 클레임을 토큰 해시 기준으로 보관하는 캐시입니다.
+ * 항목은 최대 크기와 TTL로 제한되며, 조회 시 토큰 만료 시각이 지났다면 즉시 제거됩니다.
+ */
+@Component
+public class JwtClaimsCache {
+
+    private final Cache<String, JwtClaims> cache;
+
+    public JwtClaimsCache(
+            @Value("${security.jwt.claims-cache.maximum-size:10000}") long maximumSize,
+            @Value("${security.jwt.claims-cache.ttl-seconds:300}") long ttlSeconds
+    ) {
+        this.cache = CacheBuilder.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .build();
+    }
+
+    public JwtClaims get(String token) {
+        String key = hash(token);
+        JwtClaims claims = cache.getIfPresent(key);
+        if (claims != null && claims.isExpired(System.currentTimeMillis())) {
+            cache.invalidate(key);
+            return null;
+        }
+        return claims;
+    }
+
+    public void put(String token, JwtClaims claims) {
+        cache.put(hash(token), claims);
+    }
+
+    private String hash(String token) {
+        return Hashing.sha256().hashString(token, StandardCharsets.UTF_8).toString();
+    }
+}
@@ -2,6 +2,7 @@ package page.clab.api.global.auth.jwt;
 
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.MalformedJwtException;
 import io.jsonwebtoken.UnsupportedJwtException;
@@ -32,15 +33,22 @@ import java.util.Date;
 public class JwtTokenProvider {
 
     private final Key key;
+    private final JwtParser jwtParser;
+    private final JwtClaimsCache jwtClaimsCache;
     private final long accessTokenDuration;
     private final long refreshTokenDuration;
 
     public JwtTokenProvider(
             @Value("${security.jwt.secret-key}") String secretKey,
             @Value("${security.jwt.token-validity-in-seconds.access-token}") long accessTokenDuration,
-            @Value("${security.jwt.token-validity-in-seconds.refresh-token}") long refreshTokenDuration
+            @Value("${security.jwt.token-validity-in-seconds.refresh-token}") long refreshTokenDuration,
+            JwtClaimsCache jwtClaimsCache
     ) {
         this.key = Keys.hmacShaKeyFor(secretKey.getBytes());
+        this.jwtParser = Jwts.parser()
+                .verifyWith((SecretKey) key)
+                .build();
+        this.jwtClaimsCache = jwtClaimsCache;
         this.accessTokenDuration = accessTokenDuration;
         this.refreshTokenDuration = refreshTokenDuration;
     }
@@ -68,30 +76,21 @@ public class JwtTokenProvider {
         return TokenInfo.create(accessToken, refreshToken);
     }
 
-    public boolean isRefreshToken(String token) {
-        try {
-            Claims claims = parseClaims(token);
-            Date issuedAt = claims.getIssuedAt();
-            Date expiration = claims.getExpiration();
-            if (issuedAt != null && expiration != null) {
-                long duration = expiration.getTime() - issuedAt.getTime();
-                return duration == refreshTokenDuration;
-            }
-        } catch (Exception e) {
-            log.debug("Failed to check if the token is a refresh token", e);
+    public Authentication getAuthentication(String token) {
+        JwtClaims claims = jwtClaimsCache.get(token);
+        if (claims == null) {
+            claims = JwtClaims.of(parseClaims(token), refreshTokenDuration);
         }
-        return false;
+        return getAuthentication(claims);
     }
 
-    public Authentication getAuthentication(String token) {
-        Claims claims = parseClaims(token);
-
-        if (claims.get("role") == null) {
+    public Authentication getAuthentication(JwtClaims claims) {
+        if (claims.getRole() == null) {
             throw new TokenValidateException("권한 정보가 없는 토큰입니다.");
         }
 
         Collection<? extends GrantedAuthority> authorities =
-                Arrays.stream(claims.get("role").toString().split(","))
+                Arrays.stream(claims.getRole().split(","))
                         .map(r -> Role.valueOf(r).getKey())
                         .map(SimpleGrantedAuthority::new)
                         .toList();
@@ -108,13 +107,15 @@ public class JwtTokenProvider {
         return null;
     }
 
-    public boolean validateToken(String token) {
+    /**
+     * 토큰의 서명과 만료 여부를 검증하고, 검증된 클레임을 반환합니다.
+     * 이미 검증된 토큰은 캐시에서 조회하므로 서명을 다시 계산하지 않습니다.
+     * @param token 검증하려는 토큰
+     * @return 유효한 토큰이면 검증된 클레임, 그렇지 않으면 null
+     */
+    public JwtClaims verifyToken(String token) {
         try {
-            Jwts.parser()
-                    .verifyWith((SecretKey) key)
-                    .build()
-                    .parseSignedClaims(token);
-            return true;
+            return verify(token);
         } catch (io.jsonwebtoken.security.SecurityException | MalformedJwtException e) {
             log.info("Invalid JWT Token");
         } catch (ExpiredJwtException e) {
@@ -124,15 +125,12 @@ public class JwtTokenProvider {
         } catch (IllegalArgumentException e) {
             log.info("JWT claims string is empty.");
         }
-        return false;
+        return null;
     }
 
     public boolean validateTokenSilently(String token) {
         try {
-            Jwts.parser()
-                    .verifyWith((SecretKey) key)
-                    .build()
-                    .parseSignedClaims(token);
+            verify(token);
             return true;
         } catch (Exception e) {
             return false;
@@ -141,13 +139,22 @@ public class JwtTokenProvider {
 
     public Claims parseClaims(String token) {
         try {
-            return Jwts.parser()
-                    .verifyWith((SecretKey) key)
-                    .build()
-                    .parseSignedClaims(token)
+            return jwtParser.parseSignedClaims(token)
                     .getPayload();
         } catch (ExpiredJwtException e) {
             return e.getClaims();
         }
     }
+
+    private JwtClaims verify(String token) {
+        JwtClaims cached = jwtClaimsCache.get(token);
+        if (cached != null) {
+            return cached;
+        }
+        Claims claims = jwtParser.parseSignedClaims(token)
+                .getPayload();
+        JwtClaims jwtClaims = JwtClaims.of(claims, refreshTokenDuration);
+        jwtClaimsCache.put(token, jwtClaims);
+        return jwtClaims;
+    }
 }
@@ -0,0 +1,55 @@
+package page.clab.api.global.auth.util;
+
+import page.clab.api.global.util.IpRangeTrie;
+
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * 화이트리스트 파일을 한 번 파싱하여 만든 불변 스냅샷입니다.
+ * 단일 IP와 CIDR 대역을 하나의 라디스 트리로 구성하여 확인합니다.
+ */
+public class IpWhitelistSnapshot {
+
+    private static final IpWhitelistSnapshot EMPTY = new IpWhitelistSnapshot(false, new IpRangeTrie<>());
+
+    private final boolean allowAll;
+    private final IpRangeTrie<Boolean> ipRangeTrie;
+
+    private IpWhitelistSnapshot(boolean allowAll, IpRangeTrie<Boolean> ipRangeTrie) {
+        this.allowAll = allowAll;
+        this.ipRangeTrie = ipRangeTrie;
+    }
+
+    public static IpWhitelistSnapshot empty() {
+        return EMPTY;
+    }
+
+    public static IpWhitelistSnapshot of(List<String> whitelistIps) {
+        boolean allowAll = false;
+        IpRangeTrie<Boolean> ipRangeTrie = new IpRangeTrie<>();
+        for (String ip : whitelistIps) {
+            if (Objects.isNull(ip) || ip.isBlank()) {
+                continue;
+            }
+            if ("*".equals(ip)) {
+                allowAll = true;
+                continue;
+            }
+            try {
+                ipRangeTrie.insert(ip, Boolean.TRUE);
+            } catch (IllegalArgumentException ignored) {
+                // 잘못된 IP 및 CIDR 표기는 무시합니다.
+            }
+        }
+        return new IpWhitelistSnapshot(allowAll, ipRangeTrie);
+    }
+
+    public boolean contains(String ipAddress) {
+        return allowAll || ipRangeTrie.contains(ipAddress);
+    }
+
+    public boolean isEmpty() {
+        return !allowAll && ipRangeTrie.isEmpty();
+    }
+}
@@ -1,15 +1,14 @@
 package page.clab.api.global.auth.util;
 
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
-import page.clab.api.global.util.IpAddressUtil;
-
-import java.util.List;
-import java.util.Objects;
 
 @Component
 @RequiredArgsConstructor
+@Slf4j
 public class IpWhitelistValidator {
 
     @Value("${security.whitelist.enabled}")
@@ -17,8 +16,11 @@ public class IpWhitelistValidator {
 
     private final WhitelistFileLoader whitelistFileLoader;
 
+    private volatile IpWhitelistSnapshot snapshot = IpWhitelistSnapshot.empty();
+
     /**
      * 요청된 IP가 화이트리스트에 포함되는지 확인합니다.
+     * 요청 처리 중에는 파일을 다시 읽지 않고, 현재 스냅샷만 참조합니다.
      * @param ipAddress 확인하려는 IP 주소
      * @return IP가 화이트리스트에 포함되면 true, 그렇지 않으면 false
      */
@@ -26,15 +28,21 @@ public class IpWhitelistValidator {
         if (!whitelistEnabled) {
             return true;
         }
+        return snapshot.contains(ipAddress);
+    }
 
-        List<String> whitelistIps = whitelistFileLoader.loadWhitelistIps();
-
-        if (whitelistIps.isEmpty()) {
-            return false;
-        }
-
-        return whitelistIps.stream()
-                .filter(Objects::nonNull)
-                .anyMatch(ip -> "*".equals(ip) || IpAddressUtil.isIpInRange(ipAddress, ip));
+    /**
+     * 화이트리스트 파일을 다시 읽어 스냅샷을 교체합니다.
+     * 파일을 읽지 못하면 관리자가 잠기지 않도록 이전 스냅샷을 그대로 유지합니다.
+     */
+    @PostConstruct
+    public void reload() {
+        whitelistFileLoader.loadWhitelistIps().ifPresentOrElse(
+                whitelistIps -> {
+                    snapshot = IpWhitelistSnapshot.of(whitelistIps);
+                    log.info("IP whitelist reloaded");
+                },
+                () -> log.warn("Keeping the previous IP whitelist because the whitelist file could not be loaded")
+        );
     }
 }
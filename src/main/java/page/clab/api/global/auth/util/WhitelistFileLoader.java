@@ -14,6 +14,7 @@ import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantLock;
 import java.util.stream.Stream;
@@ -31,9 +32,10 @@ public class WhitelistFileLoader {
 
     /**
      * 화이트리스트 YAML 파일에서 IP 목록을 로드합니다.
-     * @return 화이트리스트에 포함된 IP 목록
+     * 파일을 읽거나 파싱하지 못한 경우(편집기가 파일을 저장하는 도중 등)에는 빈 Optional을 반환합니다.
+     * @return 화이트리스트에 포함된 IP 목록, 읽기에 실패하면 빈 Optional
      */
-    public List<String> loadWhitelistIps() {
+    public Optional<List<String>> loadWhitelistIps() {
         fileLock.lock();
         try {
             Path path = Paths.get(whitelistPath);
@@ -45,7 +47,7 @@ public class WhitelistFileLoader {
             return parseWhitelistFile(yaml, path);
         } catch (IOException e) {
             log.error("Failed to load or create IP whitelist", e);
-            return List.of();
+            return Optional.empty();
         } finally {
             fileLock.unlock();
         }
@@ -73,16 +75,16 @@ public class WhitelistFileLoader {
      * YAML 파일을 파싱하여 화이트리스트 IP 목록을 반환합니다.
      * @param yaml Yaml 객체
      * @param path YAML 파일 경로
-     * @return 화이트리스트에 포함된 IP 목록
+     * @return 화이트리스트에 포함된 IP 목록, 파일이 비어 있거나 형식이 올바르지 않으면 빈 Optional
      * @throws IOException 파일 읽기 중 오류 발생 시
      */
-    private List<String> parseWhitelistFile(Yaml yaml, Path path) throws IOException {
+    private Optional<List<String>> parseWhitelistFile(Yaml yaml, Path path) throws IOException {
         try (InputStream inputStream = Files.newInputStream(path)) {
             Map<String, Map<String, List<String>>> data = yaml.load(inputStream);
 
             if (CollectionUtils.isEmpty(data)) {
                 log.warn("YAML file is empty or invalid");
-                return List.of();
+                return Optional.empty();
             }
 
             Map<String, List<String>> whitelist = data.getOrDefault("whitelist", Map.of());
@@ -90,13 +92,13 @@ public class WhitelistFileLoader {
             List<String> fixedIps = whitelist.getOrDefault("fixedIps", List.of());
             List<String> temporaryIps = whitelist.getOrDefault("temporaryIps", List.of());
 
-            return Stream.concat(
+            return Optional.of(Stream.concat(
                     fixedIps != null ? fixedIps.stream() : Stream.empty(),
                     temporaryIps != null ? temporaryIps.stream() : Stream.empty()
-            ).toList();
+            ).toList());
         } catch (Exception e) {
             log.error("Failed to parse IP whitelist", e);
-            return List.of();
+            return Optional.empty();
         }
     }
 }
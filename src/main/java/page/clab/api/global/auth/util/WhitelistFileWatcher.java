@@ -0,0 +1,87 @@
+package page.clab.api.global.auth.util;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+
+/**
+ * 화이트리스트 YAML 파일의 변경을 감지하여 IP 화이트리스트 스냅샷을 다시 불러옵니다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class WhitelistFileWatcher {
+
+    @Value("${security.whitelist.path}")
+    private String whitelistPath;
+
+    private final IpWhitelistValidator ipWhitelistValidator;
+
+    private WatchService watchService;
+
+    @PostConstruct
+    public void start() {
+        Path path = Paths.get(whitelistPath).toAbsolutePath();
+        Path directory = path.getParent();
+        try {
+            Files.createDirectories(directory);
+            watchService = FileSystems.getDefault().newWatchService();
+            directory.register(watchService,
+                    StandardWatchEventKinds.ENTRY_CREATE,
+                    StandardWatchEventKinds.ENTRY_MODIFY,
+                    StandardWatchEventKinds.ENTRY_DELETE);
+        } catch (IOException e) {
+            log.error("Failed to watch IP whitelist file", e);
+            return;
+        }
+        Thread watcherThread = new Thread(() -> watch(path.getFileName()), "whitelist-watcher");
+        watcherThread.setDaemon(true);
+        watcherThread.start();
+    }
+
+    @PreDestroy
+    public void stop() throws IOException {
+        if (watchService != null) {
+            watchService.close();
+        }
+    }
+
+    private void watch(Path fileName) {
+        try {
+            while (true) {
+                WatchKey key = watchService.take();
+                boolean changed = false;
+                for (WatchEvent<?> event : key.pollEvents()) {
+                    if (fileName.equals(event.context())) {
+                        changed = true;
+                    }
+                }
+                if (changed) {
+                    ipWhitelistValidator.reload();
+                }
+                if (!key.reset()) {
+                    log.warn("IP whitelist watch key is no longer valid");
+                    return;
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ClosedWatchServiceException ignored) {
+            // 애플리케이션 종료 시 감시를 중단합니다.
+        }
+    }
+}
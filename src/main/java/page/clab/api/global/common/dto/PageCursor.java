@@ -0,0 +1,73 @@
+package page.clab.api.global.common.dto;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import page.clab.api.global.exception.InvalidCursorException;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * 커서 기반 페이지네이션에서 마지막으로 조회한 행의 (정렬 키, ID) 쌍을 나타냅니다.
+ * 클라이언트에는 URL-safe Base64로 인코딩된 불투명한 문자열로 전달되며,
+ * 정렬 키가 NULL인 행의 커서는 구분자 없이 ID만 담아 NULL 키임을 나타냅니다.
+ */
+@Getter
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class PageCursor {
+
+    private static final char SEPARATOR = ':';
+
+    /**
+     * 마지막 행의 ID.
+     */
+    private final Long id;
+
+    /**
+     * 마지막 행의 정렬 키를 문자열로 표현한 값, 정렬 키가 null이면 null.
+     */
+    private final String key;
+
+    public static PageCursor of(Object key, Long id) {
+        if (key == null) {
+            return new PageCursor(id, null);
+        }
+        String keyString = key instanceof Enum<?> enumKey ? enumKey.name() : key.toString();
+        return new PageCursor(id, keyString);
+    }
+
+    /**
+     * 마지막 행의 정렬 키가 NULL인지 여부.
+     */
+    public boolean isNullKey() {
+        return key == null;
+    }
+
+    /**
+     * 인코딩된 커서를 해석합니다.
+     * @param cursor 인코딩된 커서 문자열
+     * @return 해석된 커서, 커서가 비어 있으면(첫 페이지) null
+     * @throws InvalidCursorException 커서 형식이 올바르지 않은 경우
+     */
+    public static PageCursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = decoded.indexOf(SEPARATOR);
+            if (separator < 0) {
+                return new PageCursor(Long.parseLong(decoded), null);
+            }
+            return new PageCursor(Long.parseLong(decoded.substring(0, separator)), decoded.substring(separator + 1));
+        } catch (IllegalArgumentException e) {
+            throw new InvalidCursorException();
+        }
+    }
+
+    public String encode() {
+        String raw = key == null ? String.valueOf(id) : id + String.valueOf(SEPARATOR) + key;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
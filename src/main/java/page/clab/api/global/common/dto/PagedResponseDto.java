@@ -3,6 +3,7 @@ package page.clab.api.global.common.dto;
 import lombok.Getter;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
 import page.clab.api.global.exception.InvalidColumnException;
 
@@ -53,6 +54,11 @@ public class PagedResponseDto<T> {
      */
     private final List<T> items;
 
+    /**
+     * 다음 페이지를 조회하기 위한 커서. 커서 기반 조회가 아니거나 다음 페이지가 없으면 null.
+     */
+    private final String nextCursor;
+
     /**
      * Page 객체를 사용하여 PagedResponseDto를 생성하는 생성자입니다.
      *
@@ -66,6 +72,7 @@ public class PagedResponseDto<T> {
         this.totalItems = page.getTotalElements();
         this.take = page.getNumberOfElements();
         this.items = page.getContent();
+        this.nextCursor = null;
     }
 
     /**
@@ -83,6 +90,7 @@ public class PagedResponseDto<T> {
         this.totalItems = totalItems;
         this.take = numberOfElements;
         this.items = page.getContent();
+        this.nextCursor = null;
     }
 
     /**
@@ -104,6 +112,7 @@ public class PagedResponseDto<T> {
         this.totalItems = ts.size();
         this.take = size;
         this.items = applySortingIfNecessary(ts, pageable.getSort());
+        this.nextCursor = null;
     }
 
     /**
@@ -121,6 +130,27 @@ public class PagedResponseDto<T> {
         this.totalItems = totalItems;
         this.take = ts.size();
         this.items = ts;
+        this.nextCursor = null;
+    }
+
+    /**
+     * 커서 기반으로 조회한 Slice 객체를 사용하여 PagedResponseDto를 생성하는 생성자입니다.
+     * 전체 아이템 수를 계산하지 않으므로 totalPages와 totalItems는 -1로 설정되며,
+     * 페이지 번호는 커서 기반 조회에서 의미가 없으므로 currentPage는 항상 0입니다.
+     *
+     * @param slice 커서 기반으로 조회된 데이터를 포함하는 Slice 객체
+     * @param hasPrevious 이전 페이지가 있는지 여부 (커서를 전달받았는지 여부)
+     * @param nextCursor 다음 페이지를 조회하기 위한 커서
+     */
+    public PagedResponseDto(Slice<T> slice, boolean hasPrevious, String nextCursor) {
+        this.currentPage = 0;
+        this.hasPrevious = hasPrevious;
+        this.hasNext = slice.hasNext();
+        this.totalPages = -1;
+        this.totalItems = -1;
+        this.take = slice.getNumberOfElements();
+        this.items = slice.getContent();
+        this.nextCursor = nextCursor;
     }
 
     /**
@@ -1,5 +1,8 @@
 package page.clab.api.global.common.email.application;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
 import jakarta.mail.MessagingException;
 import jakarta.mail.internet.MimeMessage;
 import jakarta.mail.internet.MimeUtility;
@@ -7,94 +10,246 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.core.io.ClassPathResource;
+import org.springframework.mail.MailException;
+import org.springframework.mail.MailSendException;
 import org.springframework.mail.javamail.JavaMailSender;
 import org.springframework.mail.javamail.MimeMessageHelper;
-import org.springframework.scheduling.annotation.Async;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
-import page.clab.api.global.common.email.domain.EmailTask;
+import page.clab.api.global.common.email.domain.EmailOutbox;
 import page.clab.api.global.common.email.domain.EmailTemplateType;
 import page.clab.api.global.util.LogSanitizerUtil;
 
 import java.io.File;
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
-import java.util.concurrent.BlockingQueue;
-import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
+/**
+ * 메일을 아웃박스에 저장하고, 저장된 메일을 고정 크기 작업자 풀로 발송합니다.
+ * 작업자 하나는 한 번에 하나의 SMTP 연결로 최대 batch-size개의 메일을 보내며,
+ * 연결당 초당 발송 수가 max-messages-per-second를 넘지 않도록 발송 사이에 대기합니다.
+ * 유휴 작업자가 있을 때만 아웃박스에서 메일을 가져오므로, 발송이 밀려도 메일은 메모리가 아닌 아웃박스에 남습니다.
+ */
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class EmailAsyncService {
 
-    private static final int MAX_BATCH_SIZE = 10;
-    private static final BlockingQueue<EmailTask> emailQueue = new LinkedBlockingQueue<>();
+    private static final String INLINE_IMAGE_TEMPLATE = "clabEmail.html";
+
     private final JavaMailSender javaMailSender;
+    private final EmailOutboxService emailOutboxService;
+    private final MeterRegistry meterRegistry;
 
     @Value("${spring.mail.username}")
     private String sender;
 
-    @Async
-    public void sendEmailAsync(String to, String subject, String content, List<File> files, EmailTemplateType emailTemplateType) throws MessagingException {
+    @Value("${email.outbox.worker-count:2}")
+    private int workerCount;
+
+    @Value("${email.outbox.batch-size:10}")
+    private int batchSize;
+
+    @Value("${email.outbox.max-messages-per-second:5}")
+    private double maxMessagesPerSecond;
+
+    private Semaphore idleWorkers;
+    private ExecutorService executor;
+
+    @PostConstruct
+    public void start() {
+        idleWorkers = new Semaphore(workerCount);
+        AtomicInteger threadNumber = new AtomicInteger();
+        executor = new ThreadPoolExecutor(workerCount, workerCount, 0L, TimeUnit.MILLISECONDS, new SynchronousQueue<>(), runnable -> {
+            Thread thread = new Thread(runnable, "email-outbox-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * 발송 중인 묶음이 끝날 때까지 잠시 기다립니다.
+     * 끝나지 못한 메일은 점유 기한이 지난 뒤 다음 실행에서 다시 발송됩니다.
+     */
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        executor.shutdown();
+        if (!executor.awaitTermination(10, TimeUnit.SECONDS)) {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * 메일을 아웃박스에 저장합니다. 실제 발송은 작업자가 비동기로 수행합니다.
+     * 수신자, 제목, 본문, 템플릿이 모두 같은 메일이 아직 발송 대기 중이면 중복으로 보고 저장하지 않습니다.
+     */
+    public void sendEmailAsync(String to, String subject, String content, List<File> files, EmailTemplateType emailTemplateType) {
         log.debug("Sending email to: {}", LogSanitizerUtil.sanitizeForLog(to));
-        emailQueue.add(new EmailTask(to, subject, content, files, emailTemplateType));
+        List<String> attachmentPaths = files == null ? null : files.stream()
+                .map(File::getAbsolutePath)
+                .toList();
+        String idempotencyKey = createIdempotencyKey(to, subject, content, emailTemplateType);
+        emailOutboxService.enqueue(idempotencyKey, to, subject, content, emailTemplateType, attachmentPaths);
     }
 
-    @Async
-    @Scheduled(fixedRate = 1000)
+    @Scheduled(fixedDelay = 1000)
     public void processEmailQueue() {
-        try {
-            List<EmailTask> batch = new ArrayList<>();
-            EmailTask task;
-            while ((task = emailQueue.poll()) != null) {
-                batch.add(task);
-                if (batch.size() >= MAX_BATCH_SIZE) {
-                    sendBatchEmail(batch);
-                    batch.clear();
-                }
+        while (idleWorkers.tryAcquire()) {
+            List<EmailOutbox> batch;
+            try {
+                batch = emailOutboxService.claim(batchSize);
+            } catch (Exception e) {
+                idleWorkers.release();
+                log.error("Error claiming email outbox: {}", e.getMessage(), e);
+                return;
             }
-            if (!batch.isEmpty()) {
-                sendBatchEmail(batch);
+            if (batch.isEmpty()) {
+                idleWorkers.release();
+                return;
+            }
+            try {
+                executor.execute(() -> {
+                    try {
+                        sendBatchEmail(batch);
+                    } finally {
+                        idleWorkers.release();
+                    }
+                });
+            } catch (RejectedExecutionException e) {
+                idleWorkers.release();
+                log.warn("Email outbox workers are shutting down, {} emails will be retried after their lease expires", batch.size());
+                return;
             }
-        } catch (Exception e) {
-            log.debug("Error processing email queue: {}", e.getMessage(), e);
         }
     }
 
-    public void sendBatchEmail(List<EmailTask> emailTasks) throws MessagingException, IOException {
-        MimeMessage[] mimeMessages = new MimeMessage[emailTasks.size()];
-        for (int i = 0; i < emailTasks.size(); i++) {
-            EmailTask task = emailTasks.get(i);
-            MimeMessage message = javaMailSender.createMimeMessage();
-            MimeMessageHelper messageHelper = new MimeMessageHelper(message, true, "UTF-8");
-            messageHelper.setFrom(sender);
-            messageHelper.setTo(task.getTo());
-            messageHelper.setSubject(task.getSubject());
-            messageHelper.setText(task.getContent(), true);
-
-            setImageInTemplate(messageHelper, task.getTemplateType());
-
-            if (task.getFiles() != null) {
-                for (File file : task.getFiles()) {
-                    messageHelper.addAttachment(MimeUtility.encodeText(file.getName(), "UTF-8", "B"), file);
-                }
+    private void sendBatchEmail(List<EmailOutbox> batch) {
+        long startedAt = System.nanoTime();
+        Map<MimeMessage, EmailOutbox> messages = new LinkedHashMap<>();
+        for (EmailOutbox outbox : batch) {
+            try {
+                messages.put(createMessage(outbox), outbox);
+            } catch (Exception e) {
+                recordFailure(outbox, e);
             }
-            mimeMessages[i] = message;
+        }
+        if (messages.isEmpty()) {
+            return;
         }
 
+        Map<Object, Exception> failedMessages = Map.of();
         try {
-            javaMailSender.send(mimeMessages);
-        } catch (Exception e) {
-            log.error("Error sending batch email: {}", e.getMessage());
+            javaMailSender.send(messages.keySet().toArray(new MimeMessage[0]));
+        } catch (MailSendException e) {
+            failedMessages = e.getFailedMessages().isEmpty() ? allFailed(messages, e) : e.getFailedMessages();
+        } catch (MailException e) {
+            failedMessages = allFailed(messages, e);
+        }
+
+        List<Long> sentIds = new ArrayList<>();
+        for (Map.Entry<MimeMessage, EmailOutbox> entry : messages.entrySet()) {
+            Exception failure = failedMessages.get(entry.getKey());
+            if (failure == null) {
+                sentIds.add(entry.getValue().getId());
+            } else {
+                recordFailure(entry.getValue(), failure);
+            }
+        }
+        if (!sentIds.isEmpty()) {
+            emailOutboxService.markSent(sentIds);
+            meterRegistry.counter("email.outbox.sent").increment(sentIds.size());
+            log.debug("Batch email sent successfully: {}", sentIds.size());
+        }
+        throttle(startedAt, messages.size());
+    }
+
+    private MimeMessage createMessage(EmailOutbox outbox) throws MessagingException, IOException {
+        MimeMessage message = javaMailSender.createMimeMessage();
+        MimeMessageHelper messageHelper = new MimeMessageHelper(message, true, "UTF-8");
+        messageHelper.setFrom(sender);
+        messageHelper.setTo(outbox.getRecipient());
+        messageHelper.setSubject(outbox.getSubject());
+        messageHelper.setText(outbox.getContent(), true);
+
+        setImageInTemplate(messageHelper, outbox.getTemplateType());
+
+        if (outbox.getAttachmentPaths() != null) {
+            for (String attachmentPath : outbox.getAttachmentPaths()) {
+                File file = new File(attachmentPath);
+                if (!file.isFile()) {
+                    throw new IOException("첨부 파일을 찾을 수 없습니다: " + attachmentPath);
+                }
+                messageHelper.addAttachment(MimeUtility.encodeText(file.getName(), "UTF-8", "B"), file);
+            }
         }
-        log.debug("Batch email sent successfully.");
+        return message;
     }
 
     private void setImageInTemplate(MimeMessageHelper messageHelper, EmailTemplateType templateType) throws MessagingException {
-        if (Objects.equals(templateType.getTemplateName(), "clabEmail.html")) {
+        if (Objects.equals(templateType.getTemplateName(), INLINE_IMAGE_TEMPLATE)) {
             messageHelper.addInline("image-1", new ClassPathResource("images/image-1.png"));
         }
     }
+
+    private void recordFailure(EmailOutbox outbox, Exception failure) {
+        try {
+            boolean dead = emailOutboxService.markFailed(outbox.getId(), failure.getMessage());
+            meterRegistry.counter(dead ? "email.outbox.dead" : "email.outbox.failed").increment();
+        } catch (Exception e) {
+            log.error("Failed to record email outbox {} failure: {}", outbox.getId(), e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 하나의 연결로 보낸 메일 수에 맞춰, 연결당 발송 속도가 설정값을 넘지 않도록 남은 시간만큼 대기합니다.
+     */
+    private void throttle(long startedAt, int sentCount) {
+        if (maxMessagesPerSecond <= 0) {
+            return;
+        }
+        long minimumNanos = (long) (sentCount / maxMessagesPerSecond * TimeUnit.SECONDS.toNanos(1));
+        long remainingNanos = minimumNanos - (System.nanoTime() - startedAt);
+        if (remainingNanos <= 0) {
+            return;
+        }
+        try {
+            TimeUnit.NANOSECONDS.sleep(remainingNanos);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static Map<Object, Exception> allFailed(Map<MimeMessage, EmailOutbox> messages, Exception failure) {
+        Map<Object, Exception> failedMessages = new LinkedHashMap<>();
+        messages.keySet().forEach(message -> failedMessages.put(message, failure));
+        return failedMessages;
+    }
+
+    private static String createIdempotencyKey(String to, String subject, String content, EmailTemplateType templateType) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            for (String value : new String[]{templateType.getKey(), to, subject, content}) {
+                digest.update(String.valueOf(value).getBytes(StandardCharsets.UTF_8));
+                digest.update((byte) 0);
+            }
+            return HexFormat.of().formatHex(digest.digest());
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 algorithm is not available", e);
+        }
+    }
 }
@@ -0,0 +1,126 @@
+package page.clab.api.global.common.email.application;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import page.clab.api.global.common.email.dao.EmailOutboxRepository;
+import page.clab.api.global.common.email.domain.EmailOutbox;
+import page.clab.api.global.common.email.domain.EmailTemplateType;
+import page.clab.api.global.util.LogSanitizerUtil;
+import page.clab.api.global.util.StringJsonConverter;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 메일 아웃박스의 상태 전이를 트랜잭션 단위로 처리합니다.
+ * 실패한 메일은 시도 횟수에 따라 지수적으로 늘어나는 간격 뒤에 다시 발송하며,
+ * 최대 시도 횟수를 넘기면 더 이상 발송하지 않는 DEAD 상태로 남깁니다.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class EmailOutboxService {
+
+    private final EmailOutboxRepository emailOutboxRepository;
+    private final StringJsonConverter stringJsonConverter = new StringJsonConverter();
+
+    @Value("${email.outbox.max-attempts:5}")
+    private int maxAttempts;
+
+    @Value("${email.outbox.initial-backoff-seconds:30}")
+    private long initialBackoffSeconds;
+
+    @Value("${email.outbox.max-backoff-seconds:3600}")
+    private long maxBackoffSeconds;
+
+    @Value("${email.outbox.lease-seconds:300}")
+    private long leaseSeconds;
+
+    @Value("${email.outbox.retention-days:30}")
+    private long retentionDays;
+
+    /**
+     * 발송할 메일을 아웃박스에 저장합니다.
+     * 호출한 트랜잭션에 참여하므로, 요청이 롤백되면 메일도 발송되지 않습니다.
+     * 같은 멱등성 키의 메일이 아직 발송 대기 중이거나 발송 중일 때만 중복으로 보고 저장하지 않으며,
+     * 이미 발송이 끝난 메일과 같은 메일은 다시 저장됩니다.
+     * @return 저장했으면 true, 같은 멱등성 키의 메일이 발송 대기 중이면 false
+     */
+    @Transactional
+    public boolean enqueue(String idempotencyKey, String to, String subject, String content, EmailTemplateType templateType, List<String> attachmentPaths) {
+        String serializedAttachmentPaths = attachmentPaths == null ? null : stringJsonConverter.convertToDatabaseColumn(attachmentPaths);
+        int inserted = emailOutboxRepository.insertIfNotQueued(idempotencyKey, to, subject, content, templateType.name(), serializedAttachmentPaths, LocalDateTime.now());
+        if (inserted == 0) {
+            log.debug("Skipping duplicated email to: {}", LogSanitizerUtil.sanitizeForLog(to));
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * 발송 시각이 된 메일을 최대 limit개 가져와 발송 중 상태로 점유합니다.
+     */
+    @Transactional
+    public List<EmailOutbox> claim(int limit) {
+        LocalDateTime now = LocalDateTime.now();
+        List<EmailOutbox> outboxes = emailOutboxRepository.findDueForUpdate(now, limit);
+        for (EmailOutbox outbox : outboxes) {
+            if (outbox.isSending()) {
+                log.warn("Reclaiming email outbox {} whose lease expired", outbox.getId());
+            }
+            outbox.claim(now.plusSeconds(leaseSeconds));
+        }
+        return outboxes;
+    }
+
+    @Transactional
+    public void markSent(Collection<Long> ids) {
+        LocalDateTime now = LocalDateTime.now();
+        emailOutboxRepository.findAllById(ids)
+                .forEach(outbox -> outbox.markSent(now));
+    }
+
+    /**
+     * 발송에 실패한 메일을 재시도 대기 상태로 되돌리거나, 최대 시도 횟수에 도달했으면 DEAD 상태로 남깁니다.
+     * @return DEAD 상태가 되었으면 true
+     */
+    @Transactional
+    public boolean markFailed(Long id, String error) {
+        EmailOutbox outbox = emailOutboxRepository.findById(id).orElse(null);
+        if (outbox == null) {
+            return false;
+        }
+        if (outbox.getAttempts() >= maxAttempts) {
+            outbox.markDead(error);
+            log.error("Gave up sending email outbox {} after {} attempts: {}", id, outbox.getAttempts(), error);
+            return true;
+        }
+        Duration backoff = calculateBackoff(outbox.getAttempts());
+        outbox.markRetry(error, LocalDateTime.now().plus(backoff));
+        log.warn("Failed to send email outbox {} (attempt {}/{}), retrying in {}s: {}", id, outbox.getAttempts(), maxAttempts, backoff.toSeconds(), error);
+        return false;
+    }
+
+    @Scheduled(cron = "0 30 4 * * *")
+    @Transactional
+    public void purgeFinished() {
+        int deleted = emailOutboxRepository.deleteFinishedBefore(LocalDateTime.now().minusDays(retentionDays));
+        if (deleted > 0) {
+            log.info("Purged {} finished email outbox entries", deleted);
+        }
+    }
+
+    private Duration calculateBackoff(int attempts) {
+        long exponent = Math.min(attempts - 1, 30);
+        long seconds = Math.min(initialBackoffSeconds << exponent, maxBackoffSeconds);
+        long jitter = ThreadLocalRandom.current().nextLong(seconds / 5 + 1);
+        return Duration.ofSeconds(seconds + jitter);
+    }
+}
@@ -1,8 +1,8 @@
 package page.clab.api.global.common.email.application;
 
-import jakarta.mail.MessagingException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
 import org.springframework.stereotype.Service;
 import org.thymeleaf.context.Context;
 import org.thymeleaf.spring6.SpringTemplateEngine;
@@ -13,6 +13,7 @@ import page.clab.api.global.common.email.exception.MessageSendingFailedException
 import page.clab.api.global.config.EmailTemplateProperties;
 
 import java.util.List;
+import java.util.Map;
 
 @Service
 @RequiredArgsConstructor
@@ -27,9 +28,10 @@ public class EmailService {
         EmailTemplateProperties.Template template = emailTemplateProperties.getTemplate(EmailTemplateType.ACCOUNT_CREATION);
 
         String subject = template.getSubject();
-        String content = template.getContent()
-                .replace("{{id}}", member.getId())
-                .replace("{{password}}", password);
+        String content = template.render(Map.of(
+                "id", member.getId(),
+                "password", password
+        ));
 
         EmailDto emailDto = EmailDto.create(
                 List.of(member.getEmail()),
@@ -45,8 +47,7 @@ public class EmailService {
         EmailTemplateProperties.Template template = emailTemplateProperties.getTemplate(EmailTemplateType.PASSWORD_RESET_CODE);
 
         String subject = template.getSubject();
-        String content = template.getContent()
-                .replace("{{code}}", code);
+        String content = template.render(Map.of("code", code));
 
         EmailDto emailDto = EmailDto.create(
                 List.of(member.getEmail()),
@@ -62,9 +63,10 @@ public class EmailService {
         EmailTemplateProperties.Template template = emailTemplateProperties.getTemplate(EmailTemplateType.NEW_PASSWORD);
 
         String subject = template.getSubject();
-        String content = template.getContent()
-                .replace("{{id}}", member.getId())
-                .replace("{{password}}", newPassword);
+        String content = template.render(Map.of(
+                "id", member.getId(),
+                "password", newPassword
+        ));
 
         EmailDto emailDto = EmailDto.create(
                 List.of(member.getEmail()),
@@ -80,7 +82,7 @@ public class EmailService {
         try {
             String emailContent = generateEmailContent(emailDto, member.getName());
             emailAsyncService.sendEmailAsync(member.getEmail(), emailDto.getSubject(), emailContent, null, emailDto.getEmailTemplateType());
-        } catch (MessagingException e) {
+        } catch (DataAccessException e) {
             throw new MessageSendingFailedException(member.getEmail() + message);
         }
     }
@@ -0,0 +1,42 @@
+package page.clab.api.global.common.email.dao;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import page.clab.api.global.common.email.domain.EmailOutbox;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface EmailOutboxRepository extends JpaRepository<EmailOutbox, Long> {
+
+    /**
+     * 같은 멱등성 키의 메일이 발송 대기 중이거나 발송 중이 아니면 새 메일을 저장합니다.
+     * 멱등성 키의 유일성은 PENDING, SENDING 상태의 행에만 적용되는 부분 유니크 인덱스로 보장되며,
+     * 충돌하면 예외 없이 아무것도 저장하지 않으므로 호출한 트랜잭션이 롤백되지 않습니다.
+     * @return 저장한 행 수 (0 또는 1)
+     */
+    @Modifying
+    @Query(value = "INSERT INTO email_outbox (idempotency_key, recipient, subject, content, template_type, attachment_paths, " +
+            "status, attempts, next_attempt_at, created_at, updated_at) " +
+            "VALUES (:idempotencyKey, :recipient, :subject, :content, :templateType, :attachmentPaths, 'PENDING', 0, :now, :now, :now) " +
+            "ON CONFLICT (idempotency_key) WHERE status IN ('PENDING', 'SENDING') DO NOTHING", nativeQuery = true)
+    int insertIfNotQueued(@Param("idempotencyKey") String idempotencyKey, @Param("recipient") String recipient,
+                          @Param("subject") String subject, @Param("content") String content,
+                          @Param("templateType") String templateType, @Param("attachmentPaths") String attachmentPaths,
+                          @Param("now") LocalDateTime now);
+
+    /**
+     * 발송 시각이 된 메일을 잠그고 가져옵니다.
+     * 다른 인스턴스가 이미 잠근 행은 건너뛰므로, 여러 인스턴스가 동시에 가져가도 같은 메일이 중복 발송되지 않습니다.
+     * 점유 기한이 지난 발송 중 상태의 메일은 작업자가 결과를 남기지 못하고 종료된 것으로 보고 다시 가져옵니다.
+     */
+    @Query(value = "SELECT * FROM email_outbox WHERE status IN ('PENDING', 'SENDING') AND next_attempt_at <= :now " +
+            "ORDER BY next_attempt_at LIMIT :limit FOR UPDATE SKIP LOCKED", nativeQuery = true)
+    List<EmailOutbox> findDueForUpdate(@Param("now") LocalDateTime now, @Param("limit") int limit);
+
+    @Modifying
+    @Query(value = "DELETE FROM email_outbox WHERE status IN ('SENT', 'DEAD') AND updated_at < :before", nativeQuery = true)
+    int deleteFinishedBefore(@Param("before") LocalDateTime before);
+}
@@ -0,0 +1,121 @@
+package page.clab.api.global.common.email.domain;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Convert;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import page.clab.api.global.common.domain.BaseEntity;
+import page.clab.api.global.util.StringJsonConverter;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 발송할 메일을 보관하는 아웃박스입니다.
+ * 메일은 요청 트랜잭션 안에서 저장되고, 발송 작업자가 발송 시각이 된 메일을 가져가 전송합니다.
+ * 발송 중 상태의 메일은 nextAttemptAt까지 점유되며, 그때까지 결과가 기록되지 않으면 다시 발송 대상이 됩니다.
+ */
+@Entity
+@Table(name = "email_outbox")
+@Getter
+@Builder
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class EmailOutbox extends BaseEntity {
+
+    private static final int MAX_ERROR_LENGTH = 1000;
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    /**
+     * 발송 대기 중이거나 발송 중인 메일 사이에서만 유일합니다 (부분 유니크 인덱스).
+     */
+    @Column(nullable = false)
+    private String idempotencyKey;
+
+    @Column(nullable = false)
+    private String recipient;
+
+    @Column(nullable = false)
+    private String subject;
+
+    @Column(columnDefinition = "TEXT")
+    private String content;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private EmailTemplateType templateType;
+
+    @Convert(converter = StringJsonConverter.class)
+    @Column(columnDefinition = "TEXT")
+    private List<String> attachmentPaths;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private EmailOutboxStatus status;
+
+    @Column(nullable = false)
+    private int attempts;
+
+    @Column(nullable = false)
+    private LocalDateTime nextAttemptAt;
+
+    @Column(length = MAX_ERROR_LENGTH)
+    private String lastError;
+
+    private LocalDateTime sentAt;
+
+    public void claim(LocalDateTime leaseExpiresAt) {
+        this.status = EmailOutboxStatus.SENDING;
+        this.attempts++;
+        this.nextAttemptAt = leaseExpiresAt;
+    }
+
+    /**
+     * 발송이 끝난 메일은 본문에 계정 정보가 포함될 수 있으므로 본문을 비우고, 멱등성 키와 상태만 남깁니다.
+     */
+    public void markSent(LocalDateTime now) {
+        this.status = EmailOutboxStatus.SENT;
+        this.sentAt = now;
+        this.content = null;
+        this.lastError = null;
+    }
+
+    public void markRetry(String error, LocalDateTime nextAttemptAt) {
+        this.status = EmailOutboxStatus.PENDING;
+        this.nextAttemptAt = nextAttemptAt;
+        this.lastError = truncate(error);
+    }
+
+    /**
+     * 더 이상 발송하지 않는 메일도 본문에 계정 정보가 포함될 수 있으므로 본문을 비웁니다.
+     */
+    public void markDead(String error) {
+        this.status = EmailOutboxStatus.DEAD;
+        this.content = null;
+        this.lastError = truncate(error);
+    }
+
+    public boolean isSending() {
+        return this.status == EmailOutboxStatus.SENDING;
+    }
+
+    private static String truncate(String error) {
+        if (error == null || error.length() <= MAX_ERROR_LENGTH) {
+            return error;
+        }
+        return error.substring(0, MAX_ERROR_LENGTH);
+    }
+}
@@ -0,0 +1,17 @@
+package page.clab.api.global.common.email.domain;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public enum EmailOutboxStatus {
+
+    PENDING("PENDING", "발송 대기"),
+    SENDING("SENDING", "발송 중"),
+    SENT("SENT", "발송 완료"),
+    DEAD("DEAD", "발송 포기");
+
+    private final String key;
+    private final String description;
+}
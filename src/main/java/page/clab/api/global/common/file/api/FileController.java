@@ -17,6 +17,7 @@ import page.clab.api.global.common.dto.ApiResponse;
 import page.clab.api.global.common.file.application.FileService;
 import page.clab.api.global.common.file.dto.request.DeleteFileRequestDto;
 import page.clab.api.global.common.file.dto.response.UploadedFileResponseDto;
+import page.clab.api.global.common.ratelimit.annotation.RateLimit;
 import page.clab.api.global.exception.NotFoundException;
 import page.clab.api.global.exception.PermissionDeniedException;
 
@@ -24,6 +25,7 @@ import java.io.IOException;
 import java.util.List;
 
 @RestController
+@RateLimit("file-upload")
 @RequestMapping("/api/v1/files")
 @RequiredArgsConstructor
 @Tag(name = "UploadedFile", description = "파일 업로드")
@@ -0,0 +1,34 @@
+package page.clab.api.global.common.file.api;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestMethod;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import page.clab.api.global.common.file.application.FileDownloadService;
+
+import java.io.IOException;
+
+@RestController
+@RequiredArgsConstructor
+@Tag(name = "UploadedFile", description = "파일 업로드")
+public class FileDownloadController {
+
+    private final FileDownloadService fileDownloadService;
+
+    @Operation(summary = "[G] 업로드된 파일 조회", description = "ROLE_GUEST 이상의 권한이 필요함<br>" +
+            "ETag(If-None-Match), Last-Modified(If-Modified-Since) 조건부 요청과 Range(다중 범위 포함) 요청을 지원함<br>" +
+            "이미지의 경우 size(thumbnail, medium) 파라미터로 파생 이미지를 요청할 수 있으며, 없으면 원본을 반환함")
+    @RequestMapping(value = "${resource.file.url}/**", method = {RequestMethod.GET, RequestMethod.HEAD})
+    public void sendFile(
+            HttpServletRequest request,
+            HttpServletResponse response,
+            @RequestParam(name = "size", required = false) String size
+    ) throws IOException {
+        fileDownloadService.sendFile(request, response, size);
+    }
+}
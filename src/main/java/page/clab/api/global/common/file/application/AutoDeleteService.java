@@ -1,89 +1,197 @@
 package page.clab.api.global.common.file.application;
 
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
+import page.clab.api.external.memberManagement.cloud.application.port.ExternalUpdateCloudUsageUseCase;
 import page.clab.api.global.common.file.dao.UploadFileRepository;
-import page.clab.api.global.common.file.domain.UploadedFile;
+import page.clab.api.global.common.file.dao.UploadedFileRetention;
 
 import java.io.File;
+import java.io.IOException;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.time.Duration;
+import java.time.Instant;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Stream;
 
+/**
+ * 보관 기간이 지났거나 DB에 정보가 없는 파일을 주기적으로 삭제합니다.
+ * 카테고리마다 저장된 파일 정보를 한 번의 쿼리로 읽어 두고 디렉토리를 순회하며 비교하므로,
+ * 디스크의 파일 수와 관계없이 카테고리당 하나의 쿼리만 실행됩니다.
+ * 카테고리는 제한된 크기의 스레드 풀에서 병렬로 처리되며, dry-run 모드에서는 삭제 대상을 집계만 합니다.
+ * 파일 정보를 읽은 뒤에 업로드되거나 생성된 파일은 조회 결과에 없으므로,
+ * 조회 시점에서 grace-minutes 이내에 수정된 파일은 삭제하지 않습니다.
+ */
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class AutoDeleteService {
 
+    private static final List<String> CATEGORY_PATHS = Arrays.asList(
+            "boards", "news", "books", "profiles",
+            "activity-photos", "members", "forms", "attendance"
+    );
+
     private final UploadFileRepository uploadFileRepository;
+    private final ExternalUpdateCloudUsageUseCase externalUpdateCloudUsageUseCase;
+    private final MeterRegistry meterRegistry;
 
     @Value("${resource.file.path}")
     private String filePath;
 
+    @Value("${resource.file.auto-delete.dry-run:false}")
+    private boolean dryRun;
+
+    @Value("${resource.file.auto-delete.parallelism:4}")
+    private int parallelism;
+
+    @Value("${resource.file.auto-delete.batch-size:1000}")
+    private int batchSize;
+
+    @Value("${resource.file.auto-delete.grace-minutes:60}")
+    private long graceMinutes;
+
     @Scheduled(cron = "0 0 0 * * *")
     public void autoDeleteExpiredFiles() {
         LocalDateTime currentDate = LocalDateTime.now();
-        List<String> categoryPaths = Arrays.asList(
-                "boards", "news", "books", "profiles",
-                "activity-photos", "members", "forms", "attendance"
-        );
-
-        categoryPaths.stream()
-                .map(category -> filePath + File.separator + category)
-                .forEach(directoryPath -> deleteUselessFilesInDirectory(new File(directoryPath), currentDate));
+        ExecutorService executor = Executors.newFixedThreadPool(Math.max(1, Math.min(parallelism, CATEGORY_PATHS.size())));
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (String category : CATEGORY_PATHS) {
+                futures.add(executor.submit(() -> deleteUselessFilesInCategory(category, currentDate)));
+            }
+            for (Future<?> future : futures) {
+                awaitQuietly(future);
+            }
+        } finally {
+            executor.shutdown();
+        }
     }
 
-    private void deleteUselessFilesInDirectory(File directory, LocalDateTime currentDate) {
-        if (!directory.exists()) {
+    private void deleteUselessFilesInCategory(String category, LocalDateTime currentDate) {
+        Path directory = Paths.get(filePath, category).toAbsolutePath().normalize();
+        if (!Files.isDirectory(directory)) {
             log.info("Directory does not exist: {}", directory);
             return;
         }
 
-        File[] files = directory.listFiles();
-        if (files == null) {
-            log.info("No files in directory: {}", directory);
+        Instant modifiedCutoff = Instant.now().minus(Duration.ofMinutes(graceMinutes));
+        Map<String, LocalDateTime> expirationDates = getExpirationDates(category);
+        List<Path> uselessFiles = new ArrayList<>();
+        Counter scannedCounter = counter("file.auto-delete.scanned", category);
+        try {
+            Files.walkFileTree(directory, new SimpleFileVisitor<>() {
+                @Override
+                public FileVisitResult visitFile(Path file, BasicFileAttributes attributes) {
+                    scannedCounter.increment();
+                    if (attributes.lastModifiedTime().toInstant().isAfter(modifiedCutoff)) {
+                        return FileVisitResult.CONTINUE;
+                    }
+                    if (isUseless(file, expirationDates, currentDate)) {
+                        uselessFiles.add(file);
+                    }
+                    return FileVisitResult.CONTINUE;
+                }
+
+                @Override
+                public FileVisitResult visitFileFailed(Path file, IOException e) {
+                    log.warn("Failed to visit file: {}", file);
+                    return FileVisitResult.CONTINUE;
+                }
+            });
+        } catch (IOException e) {
+            log.error("Failed to walk directory: {}", directory, e);
             return;
         }
 
-        for (File file : files) {
-            if (file.isDirectory()) {
-                deleteUselessFilesInDirectory(file, currentDate);
-            } else {
-                checkAndDeleteFileIfExpired(file, currentDate);
-                checkAndDeleteFileIfInformationDoesNotExistInDB(file);
-            }
-        }
+        deleteInBatches(category, uselessFiles);
     }
 
-    private void checkAndDeleteFileIfExpired(File file, LocalDateTime currentDate) {
-        UploadedFile uploadedFile = uploadFileRepository.findBySavedPath(file.getAbsolutePath());
-        if (uploadedFile == null) {
-            log.info("No matching UploadedFile record in DB for file: {}", file.getAbsolutePath());
-            return;
+    private Map<String, LocalDateTime> getExpirationDates(String category) {
+        String savedPathPrefix = filePath + File.separator + category + File.separator;
+        List<UploadedFileRetention> uploadedFiles = uploadFileRepository.findAllBySavedPathStartingWith(savedPathPrefix);
+        Map<String, LocalDateTime> expirationDates = new HashMap<>(uploadedFiles.size() * 2);
+        for (UploadedFileRetention uploadedFile : uploadedFiles) {
+            LocalDateTime expirationDate = uploadedFile.getStoragePeriod() == null
+                    ? LocalDateTime.MAX
+                    : uploadedFile.getCreatedAt().plusDays(uploadedFile.getStoragePeriod());
+            expirationDates.put(normalize(uploadedFile.getSavedPath()), expirationDate);
+            Stream.of(uploadedFile.getThumbnailPath(), uploadedFile.getMediumPath())
+                    .filter(Objects::nonNull)
+                    .forEach(derivativePath -> expirationDates.put(normalize(derivativePath), expirationDate));
         }
+        return expirationDates;
+    }
 
-        LocalDateTime expirationDate = uploadedFile.getCreatedAt().plusDays(uploadedFile.getStoragePeriod());
-        if (currentDate.isAfter(expirationDate)) {
-            deleteFile(file);
-        }
+    private boolean isUseless(Path file, Map<String, LocalDateTime> expirationDates, LocalDateTime currentDate) {
+        LocalDateTime expirationDate = expirationDates.get(file.toAbsolutePath().normalize().toString());
+        return expirationDate == null || currentDate.isAfter(expirationDate);
     }
 
-    private void checkAndDeleteFileIfInformationDoesNotExistInDB(File file) {
-        UploadedFile uploadedFile = uploadFileRepository.findBySavedPath(file.getAbsolutePath());
-        if (uploadedFile == null) {
-            deleteFile(file);
+    private void deleteInBatches(String category, List<Path> uselessFiles) {
+        Counter deletedCounter = counter("file.auto-delete.deleted", category);
+        int total = uselessFiles.size();
+        for (int from = 0; from < total; from += batchSize) {
+            int to = Math.min(from + batchSize, total);
+            for (Path file : uselessFiles.subList(from, to)) {
+                if (dryRun || deleteFile(file.toFile())) {
+                    deletedCounter.increment();
+                }
+            }
+            log.info("[{}] {} {}/{} useless files", category, dryRun ? "Found" : "Processed", to, total);
         }
     }
 
-    private void deleteFile(File file) {
+    private boolean deleteFile(File file) {
+        long size = file.length();
         boolean deleted = file.delete();
         if (deleted) {
             log.info("Deleted unknown file: {}", file.getAbsolutePath());
+            externalUpdateCloudUsageUseCase.updateCloudUsageByFile(file.getAbsolutePath(), -size);
         } else {
             log.error("Failed to delete unknown file: {}", file.getAbsolutePath());
         }
+        return deleted;
+    }
+
+    private Counter counter(String name, String category) {
+        return Counter.builder(name)
+                .tag("category", category)
+                .tag("dry-run", String.valueOf(dryRun))
+                .register(meterRegistry);
+    }
+
+    private String normalize(String savedPath) {
+        return Paths.get(savedPath).toAbsolutePath().normalize().toString();
+    }
+
+    private void awaitQuietly(Future<?> future) {
+        try {
+            future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            log.error("Failed to delete useless files", e.getCause());
+        }
     }
 }
@@ -0,0 +1,106 @@
+package page.clab.api.global.common.file.application;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import lombok.EqualsAndHashCode;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import page.clab.api.domain.activity.activitygroup.application.event.GroupMemberChangedEvent;
+import page.clab.api.domain.memberManagement.member.application.event.MemberDeletedEvent;
+import page.clab.api.domain.memberManagement.member.application.event.MemberRoleChangedEvent;
+
+import java.time.Duration;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BooleanSupplier;
+
+/**
+ * 회원별 파일 접근 허용 여부를 짧은 시간 동안 보관하는 캐시입니다.
+ * 활동 그룹 멤버 변경, 권한 변경, 회원 삭제 이벤트가 커밋되면 해당 회원의 항목을 모두 제거하며,
+ * 그 밖의 변경은 TTL이 지나면 반영됩니다.
+ * 회원별 세대 번호를 두어, 계산 도중 제거가 일어난 경우 계산 결과를 캐시에 남기지 않습니다.
+ */
+@Component
+public class FileAccessDecisionCache {
+
+    private final Cache<Key, Boolean> decisions;
+    private final ConcurrentMap<String, AtomicLong> generations = new ConcurrentHashMap<>();
+
+    public FileAccessDecisionCache(
+            @Value("${resource.file.access-cache.max-entries:10000}") long maxEntries,
+            @Value("${resource.file.access-cache.ttl-seconds:60}") long ttlSeconds
+    ) {
+        this.decisions = CacheBuilder.newBuilder()
+                .maximumSize(maxEntries)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .build();
+    }
+
+    /**
+     * 캐시된 접근 허용 여부를 반환하고, 없거나 만료된 경우 계산하여 저장합니다.
+     * @param memberId 요청한 회원 ID
+     * @param url 요청한 파일 URL
+     * @param loader 접근 허용 여부를 계산하는 함수
+     * @return 접근 허용 여부
+     */
+    public boolean isAccessible(String memberId, String url, BooleanSupplier loader) {
+        Key key = new Key(memberId, url);
+        Boolean cached = decisions.getIfPresent(key);
+        if (cached != null) {
+            return cached;
+        }
+
+        long generation = generationOf(memberId).get();
+        boolean accessible = loader.getAsBoolean();
+        decisions.put(key, accessible);
+        if (generationOf(memberId).get() != generation) {
+            decisions.invalidate(key);
+        }
+        return accessible;
+    }
+
+    /**
+     * 회원의 세대 번호를 먼저 올린 뒤 항목을 제거하므로,
+     * 제거 전에 시작된 계산의 결과는 저장 직후 세대 확인에서 버려지거나 이 제거에 함께 지워집니다.
+     */
+    public void evict(String memberId) {
+        generationOf(memberId).incrementAndGet();
+        decisions.asMap().keySet().removeIf(key -> key.memberId.equals(memberId));
+    }
+
+    public void clear() {
+        generations.values().forEach(AtomicLong::incrementAndGet);
+        decisions.invalidateAll();
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void handleGroupMemberChanged(GroupMemberChangedEvent event) {
+        evict(event.getMemberId());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void handleMemberRoleChanged(MemberRoleChangedEvent event) {
+        evict(event.getMemberId());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void handleMemberDeleted(MemberDeletedEvent event) {
+        evict(event.getMemberId());
+    }
+
+    private AtomicLong generationOf(String memberId) {
+        return generations.computeIfAbsent(memberId, key -> new AtomicLong());
+    }
+
+    @EqualsAndHashCode
+    @RequiredArgsConstructor
+    private static class Key {
+
+        private final String memberId;
+        private final String url;
+    }
+}
@@ -0,0 +1,247 @@
+package page.clab.api.global.common.file.application;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpRange;
+import org.springframework.http.MediaType;
+import org.springframework.http.MediaTypeFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.util.MimeTypeUtils;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.util.UriUtils;
+import page.clab.api.global.common.file.domain.ImageDerivativeSize;
+import page.clab.api.global.util.FileUtil;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.InvalidPathException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 업로드된 파일을 조건부 요청(ETag, Last-Modified)과 범위 요청(Range)을 지원하여 전송합니다.
+ * 본문은 서블릿 컨테이너가 sendfile을 지원하면 컨테이너에 위임하고, 그렇지 않으면 FileChannel.transferTo로 복사 없이 전송합니다.
+ * ETag는 DB를 조회하지 않도록 파일 크기와 나노초 단위 수정 시각으로 만듭니다.
+ * 저장된 파일은 제자리에서 수정되지 않고 교체될 때 수정 시각이 바뀌므로, 이 값을 강한 ETag로 사용합니다.
+ */
+@Service
+public class FileDownloadService {
+
+    private static final String SENDFILE_SUPPORT_ATTRIBUTE = "org.apache.tomcat.sendfile.support";
+    private static final String SENDFILE_FILENAME_ATTRIBUTE = "org.apache.tomcat.sendfile.filename";
+    private static final String SENDFILE_START_ATTRIBUTE = "org.apache.tomcat.sendfile.start";
+    private static final String SENDFILE_END_ATTRIBUTE = "org.apache.tomcat.sendfile.end";
+
+    private static final CacheControl CACHE_CONTROL = CacheControl.maxAge(Duration.ofDays(1))
+            .mustRevalidate()
+            .cachePrivate();
+
+    @Value("${resource.file.path}")
+    private String filePath;
+
+    @Value("${resource.file.url}")
+    private String fileURL;
+
+    public void sendFile(HttpServletRequest request, HttpServletResponse response, String size) throws IOException {
+        String requestPath = request.getRequestURI().substring(request.getContextPath().length());
+        Path originalPath = resolveOriginalPath(requestPath);
+        if (originalPath == null) {
+            response.sendError(HttpServletResponse.SC_NOT_FOUND);
+            return;
+        }
+        Path targetPath = resolveTargetPath(originalPath, ImageDerivativeSize.fromKey(size));
+        if (!Files.isRegularFile(targetPath) || !Files.isReadable(targetPath)) {
+            response.sendError(HttpServletResponse.SC_NOT_FOUND);
+            return;
+        }
+
+        BasicFileAttributes attributes = Files.readAttributes(targetPath, BasicFileAttributes.class);
+        long length = attributes.size();
+        long lastModified = attributes.lastModifiedTime().toMillis();
+        String etag = createEtag(length, attributes.lastModifiedTime().to(TimeUnit.NANOSECONDS));
+
+        response.setHeader(HttpHeaders.ACCEPT_RANGES, "bytes");
+        response.setHeader(HttpHeaders.CACHE_CONTROL, CACHE_CONTROL.getHeaderValue());
+        if (new ServletWebRequest(request, response).checkNotModified(etag, lastModified)) {
+            return;
+        }
+
+        String contentType = MediaTypeFactory.getMediaType(targetPath.getFileName().toString())
+                .orElse(MediaType.APPLICATION_OCTET_STREAM)
+                .toString();
+        boolean headRequest = HttpMethod.HEAD.matches(request.getMethod());
+
+        List<HttpRange> ranges;
+        try {
+            ranges = isRangeApplicable(request, etag, lastModified)
+                    ? HttpRange.parseRanges(request.getHeader(HttpHeaders.RANGE))
+                    : List.of();
+            validateRanges(ranges, length);
+        } catch (IllegalArgumentException e) {
+            response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes */" + length);
+            response.sendError(HttpServletResponse.SC_REQUESTED_RANGE_NOT_SATISFIABLE);
+            return;
+        }
+
+        if (ranges.isEmpty()) {
+            response.setContentType(contentType);
+            response.setContentLengthLong(length);
+            if (!headRequest) {
+                writeRegion(request, response, targetPath, 0, length);
+            }
+        } else if (ranges.size() == 1) {
+            long start = ranges.getFirst().getRangeStart(length);
+            long end = ranges.getFirst().getRangeEnd(length);
+            response.setStatus(HttpServletResponse.SC_PARTIAL_CONTENT);
+            response.setContentType(contentType);
+            response.setHeader(HttpHeaders.CONTENT_RANGE, contentRange(start, end, length));
+            response.setContentLengthLong(end - start + 1);
+            if (!headRequest) {
+                writeRegion(request, response, targetPath, start, end - start + 1);
+            }
+        } else {
+            writeMultipleRegions(response, targetPath, contentType, ranges, length, headRequest);
+        }
+    }
+
+    private Path resolveOriginalPath(String requestPath) {
+        if (!requestPath.startsWith(fileURL + "/")) {
+            return null;
+        }
+        String relativePath = UriUtils.decode(requestPath.substring(fileURL.length() + 1), StandardCharsets.UTF_8);
+        try {
+            return FileUtil.validateFilePath(relativePath, filePath);
+        } catch (InvalidPathException e) {
+            return null;
+        }
+    }
+
+    private Path resolveTargetPath(Path originalPath, ImageDerivativeSize size) {
+        if (size == null) {
+            return originalPath;
+        }
+        Path derivativePath = Paths.get(size.resolvePath(originalPath.toString()));
+        return Files.isRegularFile(derivativePath) ? derivativePath : originalPath;
+    }
+
+    private String createEtag(long length, long lastModifiedNanos) {
+        return "\"" + Long.toHexString(length) + "-" + Long.toHexString(lastModifiedNanos) + "\"";
+    }
+
+    /**
+     * If-Range 헤더가 없거나 현재 파일의 ETag(강한 비교) 또는 수정 시각과 일치하는 경우에만 Range 헤더를 적용합니다.
+     */
+    private boolean isRangeApplicable(HttpServletRequest request, String etag, long lastModified) {
+        if (request.getHeader(HttpHeaders.RANGE) == null) {
+            return false;
+        }
+        String ifRange = request.getHeader(HttpHeaders.IF_RANGE);
+        if (ifRange == null) {
+            return true;
+        }
+        if (ifRange.startsWith("\"") || ifRange.startsWith("W/")) {
+            return !etag.startsWith("W/") && ifRange.equals(etag);
+        }
+        try {
+            long ifRangeTime = request.getDateHeader(HttpHeaders.IF_RANGE);
+            return ifRangeTime >= 0 && Instant.ofEpochMilli(lastModified).getEpochSecond() == Instant.ofEpochMilli(ifRangeTime).getEpochSecond();
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+    }
+
+    /**
+     * 모든 범위가 파일 안에 있는지, 범위의 합이 파일 크기를 넘지 않는지 확인합니다.
+     * 겹치는 범위를 반복 요청하여 응답을 부풀리는 것을 막기 위한 검사입니다.
+     */
+    private void validateRanges(List<HttpRange> ranges, long length) {
+        long total = 0;
+        for (HttpRange range : ranges) {
+            total += range.getRangeEnd(length) - range.getRangeStart(length) + 1;
+        }
+        if (ranges.size() > 1 && total > length) {
+            throw new IllegalArgumentException("The sum of all ranges (" + total + ") should be less than the file length (" + length + ")");
+        }
+    }
+
+    private void writeMultipleRegions(HttpServletResponse response, Path targetPath, String contentType, List<HttpRange> ranges, long length, boolean headRequest) throws IOException {
+        String boundary = MimeTypeUtils.generateMultipartBoundaryString();
+        List<byte[]> partHeaders = new ArrayList<>();
+        long contentLength = 0;
+        for (HttpRange range : ranges) {
+            long start = range.getRangeStart(length);
+            long end = range.getRangeEnd(length);
+            byte[] partHeader = ("\r\n--" + boundary + "\r\n" +
+                    HttpHeaders.CONTENT_TYPE + ": " + contentType + "\r\n" +
+                    HttpHeaders.CONTENT_RANGE + ": " + contentRange(start, end, length) + "\r\n\r\n")
+                    .getBytes(StandardCharsets.US_ASCII);
+            partHeaders.add(partHeader);
+            contentLength += partHeader.length + (end - start + 1);
+        }
+        byte[] closeDelimiter = ("\r\n--" + boundary + "--\r\n").getBytes(StandardCharsets.US_ASCII);
+        contentLength += closeDelimiter.length;
+
+        response.setStatus(HttpServletResponse.SC_PARTIAL_CONTENT);
+        response.setContentType("multipart/byteranges; boundary=" + boundary);
+        response.setContentLengthLong(contentLength);
+        if (headRequest) {
+            return;
+        }
+
+        OutputStream outputStream = response.getOutputStream();
+        try (FileChannel channel = FileChannel.open(targetPath, StandardOpenOption.READ)) {
+            for (int i = 0; i < ranges.size(); i++) {
+                long start = ranges.get(i).getRangeStart(length);
+                long end = ranges.get(i).getRangeEnd(length);
+                outputStream.write(partHeaders.get(i));
+                transfer(channel, start, end - start + 1, outputStream);
+            }
+        }
+        outputStream.write(closeDelimiter);
+    }
+
+    private void writeRegion(HttpServletRequest request, HttpServletResponse response, Path targetPath, long start, long count) throws IOException {
+        if (Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORT_ATTRIBUTE))) {
+            request.setAttribute(SENDFILE_FILENAME_ATTRIBUTE, targetPath.toAbsolutePath().toString());
+            request.setAttribute(SENDFILE_START_ATTRIBUTE, start);
+            request.setAttribute(SENDFILE_END_ATTRIBUTE, start + count);
+            return;
+        }
+        try (FileChannel channel = FileChannel.open(targetPath, StandardOpenOption.READ)) {
+            transfer(channel, start, count, response.getOutputStream());
+        }
+    }
+
+    private void transfer(FileChannel channel, long position, long count, OutputStream outputStream) throws IOException {
+        WritableByteChannel target = Channels.newChannel(outputStream);
+        long remaining = count;
+        while (remaining > 0) {
+            long transferred = channel.transferTo(position, remaining, target);
+            if (transferred <= 0) {
+                break;
+            }
+            position += transferred;
+            remaining -= transferred;
+        }
+    }
+
+    private String contentRange(long start, long end, long length) {
+        return "bytes " + start + "-" + end + "/" + length;
+    }
+}
@@ -7,7 +7,7 @@ import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.stereotype.Component;
 import org.springframework.web.multipart.MultipartFile;
-import page.clab.api.global.exception.ImageCompressionException;
+import page.clab.api.external.memberManagement.cloud.application.port.ExternalUpdateCloudUsageUseCase;
 import page.clab.api.global.util.FileUtil;
 import page.clab.api.global.util.ImageUtil;
 import page.clab.api.global.util.LogSanitizerUtil;
@@ -16,6 +16,8 @@ import java.awt.image.BufferedImage;
 import java.io.ByteArrayInputStream;
 import java.io.File;
 import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
 import java.util.Arrays;
 import java.util.HashSet;
 import java.util.Objects;
@@ -28,6 +30,7 @@ public class FileHandler {
 
     private final Set<String> disallowExtensions = new HashSet<>();
     private final Set<String> compressibleImageExtensions = new HashSet<>();
+    private final ExternalUpdateCloudUsageUseCase externalUpdateCloudUsageUseCase;
 
     @Value("${resource.file.path}")
     private String filePath;
@@ -37,10 +40,12 @@ public class FileHandler {
 
     public FileHandler(
             @Value("${resource.file.disallow-extension}") String[] disallowExtensions,
-            @Value("${resource.file.compressible-image-extension}") String[] compressibleImageExtensions
+            @Value("${resource.file.compressible-image-extension}") String[] compressibleImageExtensions,
+            ExternalUpdateCloudUsageUseCase externalUpdateCloudUsageUseCase
     ) {
         this.disallowExtensions.addAll(Arrays.asList(disallowExtensions));
         this.compressibleImageExtensions.addAll(Arrays.asList(compressibleImageExtensions));
+        this.externalUpdateCloudUsageUseCase = externalUpdateCloudUsageUseCase;
     }
 
     public void init() {
@@ -58,6 +63,42 @@ public class FileHandler {
     }
 
     public String saveFile(MultipartFile multipartFile, String category, String baseDirectory) throws IOException {
+        return saveFile(multipartFile, category, baseDirectory, true);
+    }
+
+    /**
+     * 업로드된 JPEG, PNG 이미지를 디코딩이나 압축 없이 메타데이터(EXIF 위치 정보 등)만 제거하여 저장합니다.
+     * 이미지 최적화를 요청 스레드 밖에서 수행하는 경우에 사용하며, 최적화된 이미지는
+     * {@link #replaceWithOptimizedImage(String, BufferedImage, String)}로 교체합니다.
+     */
+    public String saveOriginalFile(MultipartFile multipartFile, String category, String baseDirectory) throws IOException {
+        return saveFile(multipartFile, category, baseDirectory, false);
+    }
+
+    /**
+     * 저장된 원본 이미지를 방향이 보정되고 압축된 이미지로 교체합니다.
+     * 임시 파일에 먼저 쓴 뒤 한 번에 교체하므로, 교체 중에도 원본 URL은 온전한 파일을 제공합니다.
+     */
+    public void replaceWithOptimizedImage(String savedPath, BufferedImage image, String extension) throws IOException {
+        init();
+        File original = new File(savedPath);
+        long previousSize = original.length();
+        File temporary = new File(savedPath + ".tmp");
+        try {
+            ImageUtil.writeImage(image, temporary, extension, getCompressionQuality(extension));
+            FileUtil.setFilePermissions(temporary, temporary.getPath(), filePath);
+            Files.move(temporary.toPath(), original.toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(temporary.toPath());
+        }
+        try {
+            externalUpdateCloudUsageUseCase.updateCloudUsageByFile(savedPath, original.length() - previousSize);
+        } catch (Exception e) {
+            log.warn("Failed to update cloud usage for {}: {}", LogSanitizerUtil.sanitizeForLog(savedPath), e.getMessage());
+        }
+    }
+
+    private String saveFile(MultipartFile multipartFile, String category, String baseDirectory, boolean optimizeImage) throws IOException {
         init();
         String originalFilename = multipartFile.getOriginalFilename();
         String extension = FilenameUtils.getExtension(originalFilename);
@@ -70,10 +111,10 @@ public class FileHandler {
         FileUtil.ensureParentDirectoryExists(file, baseDirectory);
 
         try {
-            if (ImageUtil.isImageFile(multipartFile)) {
-                BufferedImage originalImage = ImageUtil.adjustImageDirection(multipartFile);
-                ImageIO.write(originalImage, Objects.requireNonNull(extension), file);
-                compressImageIfPossible(extension, savePath);
+            if (!optimizeImage) {
+                ImageUtil.writeWithoutMetadata(multipartFile, file);
+            } else if (ImageUtil.isImageFile(multipartFile)) {
+                ImageUtil.writeImage(multipartFile, file, Objects.requireNonNull(extension), getCompressionQuality(extension));
             } else {
                 multipartFile.transferTo(file);
             }
@@ -82,24 +123,22 @@ public class FileHandler {
         }
 
         FileUtil.setFilePermissions(file, savePath, filePath);
+        externalUpdateCloudUsageUseCase.updateCloudUsageByFile(savePath, file.length());
         return savePath;
     }
 
-    private void compressImageIfPossible(String extension, String savePath) {
-        if (compressibleImageExtensions.contains(extension.toLowerCase())) {
-            try {
-                ImageUtil.compressImage(filePath, savePath, imageQuality);
-            } catch (ImageCompressionException e) {
-                log.warn("이미지 압축 중 오류가 발생했습니다. 압축 없이 저장합니다: {}", e.getMessage());
-            }
-        }
+    private Float getCompressionQuality(String extension) {
+        return compressibleImageExtensions.contains(extension.toLowerCase()) ? imageQuality : null;
     }
 
     public void deleteFile(String savedPath) {
         File fileToDelete = new File(savedPath);
+        long size = fileToDelete.length();
         boolean deleted = fileToDelete.delete();
         if (!deleted) {
             log.error("Failed to delete file: {}", LogSanitizerUtil.sanitizeForLog(savedPath));
+            return;
         }
+        externalUpdateCloudUsageUseCase.updateCloudUsageByFile(savedPath, -size);
     }
 }
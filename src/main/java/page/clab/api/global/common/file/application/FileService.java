@@ -33,6 +33,7 @@ import page.clab.api.global.exception.NotFoundException;
 import page.clab.api.global.exception.PermissionDeniedException;
 import page.clab.api.global.util.FileSystemUtil;
 import page.clab.api.global.util.FileUtil;
+import page.clab.api.global.util.ImageUtil;
 
 import java.io.File;
 import java.io.IOException;
@@ -40,12 +41,15 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.regex.Pattern;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 public class FileService {
 
     private final FileHandler fileHandler;
+    private final ImageDerivativeWorker imageDerivativeWorker;
+    private final FileAccessDecisionCache fileAccessDecisionCache;
     private final UploadedFileService uploadedFileService;
     private final ActivityGroupAdminService activityGroupAdminService;
     private final ActivityGroupBoardService activityGroupBoardService;
@@ -70,11 +74,17 @@ public class FileService {
             Role.SUPER, Set.of("boards", "profiles", "activity-photos", "membership-fees", "notices", "weekly-activities", "members", "assignments", "submits")
     );
 
+    private static final Map<String, Set<String>> authorityCategoryMap = roleCategoryMap.entrySet().stream()
+            .collect(Collectors.toUnmodifiableMap(entry -> entry.getKey().getKey(), Map.Entry::getValue));
+
+    /**
+     * 게시글 본문이나 프로필의 img 태그로 노출되어 인증 헤더 없이 요청되는 카테고리로, 누구나 조회할 수 있습니다.
+     */
+    private static final Set<String> publicCategories = Set.of("boards", "profiles", "activity-photos");
+
+    private static final Set<String> roleOnlyCategories = Set.of("membership-fees");
+
     private final Map<String, BiFunction<String, Authentication, Boolean>> categoryAccessMap = Map.of(
-            "boards", (url, auth) -> true,
-            "profiles", (url, auth) -> true,
-            "activity-photos", (url, auth) -> true,
-            "membership-fees", (url, auth) -> true,
             "notices", this::isNonSubmitCategoryAccessible,
             "weekly-activities", this::isNonSubmitCategoryAccessible,
             "assignments", this::isNonSubmitCategoryAccessible,
@@ -110,14 +120,34 @@ public class FileService {
 
         validatePathVariable(path);
         validateMemberCloudUsage(multipartFile, path);
-        checkAndRemoveExistingFile(path);
 
-        String savedFilePath = fileHandler.saveFile(multipartFile, path, filePath);
-        String fileName = new File(savedFilePath).getName();
-        String url = fileURL + "/" + path.replace(File.separator, "/") + "/" + fileName;
+        boolean createDerivatives = ImageUtil.isImageFile(multipartFile) && imageDerivativeWorker.supports(path, multipartFile.getOriginalFilename());
+        if (createDerivatives) {
+            imageDerivativeWorker.reserve();
+        }
 
-        UploadedFile uploadedFile = UploadedFile.create(currentMemberId, multipartFile.getOriginalFilename(), fileName, savedFilePath, url, multipartFile.getSize(), multipartFile.getContentType(), storagePeriod, path);
-        uploadedFileService.saveUploadedFile(uploadedFile);
+        int imageDirection = createDerivatives ? ImageUtil.readImageDirection(multipartFile) : 1;
+        UploadedFile uploadedFile;
+        try {
+            checkAndRemoveExistingFile(path);
+            String savedFilePath = createDerivatives
+                    ? fileHandler.saveOriginalFile(multipartFile, path, filePath)
+                    : fileHandler.saveFile(multipartFile, path, filePath);
+            String fileName = new File(savedFilePath).getName();
+            String url = fileURL + "/" + path.replace(File.separator, "/") + "/" + fileName;
+
+            uploadedFile = UploadedFile.create(currentMemberId, multipartFile.getOriginalFilename(), fileName, savedFilePath, url, multipartFile.getSize(), multipartFile.getContentType(), storagePeriod, path);
+            uploadedFileService.saveUploadedFile(uploadedFile);
+        } catch (IOException | RuntimeException e) {
+            if (createDerivatives) {
+                imageDerivativeWorker.release();
+            }
+            throw e;
+        }
+
+        if (createDerivatives) {
+            imageDerivativeWorker.submit(uploadedFile, imageDirection);
+        }
         return UploadedFileResponseDto.toDto(uploadedFile);
     }
 
@@ -132,7 +162,7 @@ public class FileService {
         }
 
         uploadedFile.validateAccessPermission(currentMemberInfo);
-        fileHandler.deleteFile(uploadedFile.getSavedPath());
+        deleteStoredFiles(uploadedFile);
         return uploadedFile.getUrl();
     }
 
@@ -253,11 +283,16 @@ public class FileService {
         if (shouldDelete) {
             UploadedFile fileToDelete = uploadedFileService.getUniqueUploadedFileByCategory(path);
             if (fileToDelete != null) {
-                fileHandler.deleteFile(fileToDelete.getSavedPath());
+                deleteStoredFiles(fileToDelete);
             }
         }
     }
 
+    private void deleteStoredFiles(UploadedFile uploadedFile) {
+        fileHandler.deleteFile(uploadedFile.getSavedPath());
+        uploadedFile.getDerivativePaths().forEach(fileHandler::deleteFile);
+    }
+
     public boolean isUserAccessibleAtFile(Authentication authentication, String url) {
         String category = getCategoryByUrl(url);
         if (category == null || category.isEmpty())
@@ -266,7 +301,7 @@ public class FileService {
     }
 
     public boolean isUserAccessibleByCategory(String category, String url, Authentication authentication) {
-        if (category.equals("activity-photos")) {
+        if (publicCategories.contains(category)) {
             return true;
         }
         if (AuthUtil.isUserUnAuthenticated(authentication)) {
@@ -274,14 +309,29 @@ public class FileService {
         }
 
         GrantedAuthority authority = authentication.getAuthorities().iterator().next();
-        String roleName = authority.getAuthority().replace("ROLE_", "");
-        Role role = Role.valueOf(roleName);
+        if (!authorityCategoryMap.getOrDefault(authority.getAuthority(), Set.of()).contains(category)) {
+            return false;
+        }
+        if (roleOnlyCategories.contains(category)) {
+            return true;
+        }
 
-        if (!roleCategoryMap.getOrDefault(role, Set.of()).contains(category)) {
+        BiFunction<String, Authentication, Boolean> accessFunction = categoryAccessMap.get(category);
+        if (accessFunction == null) {
             return false;
         }
+        return fileAccessDecisionCache.isAccessible(authentication.getName(), url, () -> decideAccess(accessFunction, url, authentication));
+    }
 
-        return categoryAccessMap.getOrDefault(category, (u, a) -> false).apply(url, authentication);
+    /**
+     * 경로 형식이 올바르지 않거나 파일, 회원을 찾을 수 없는 요청은 예외를 보안 필터 밖으로 던지지 않고 접근을 거부합니다.
+     */
+    private boolean decideAccess(BiFunction<String, Authentication, Boolean> accessFunction, String url, Authentication authentication) {
+        try {
+            return accessFunction.apply(url, authentication);
+        } catch (NumberFormatException | ArrayIndexOutOfBoundsException | NotFoundException e) {
+            return false;
+        }
     }
 
     private boolean isNonSubmitCategoryAccessible(String url, Authentication authentication) {
@@ -0,0 +1,190 @@
+package page.clab.api.global.common.file.application;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import javax.imageio.ImageIO;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.io.FilenameUtils;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import page.clab.api.global.common.file.dao.UploadFileRepository;
+import page.clab.api.global.common.file.domain.ImageDerivativeSize;
+import page.clab.api.global.common.file.domain.UploadedFile;
+import page.clab.api.global.common.file.exception.ImageProcessingBusyException;
+import page.clab.api.global.util.ImageUtil;
+
+import java.awt.image.BufferedImage;
+import java.io.File;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+/**
+ * 게시글, 활동 사진, 프로필 이미지의 파생 이미지(썸네일, 중간 크기)를 요청 스레드 밖에서 생성하는 작업자입니다.
+ * 원본은 업로드 시 디코딩 없이 메타데이터만 제거하여 저장되고, 파생 이미지는 고정 크기 스레드 풀에서 등록 순서대로 생성됩니다.
+ * 파생 이미지를 만든 뒤에는 원본도 방향이 보정되고 압축된 이미지로 교체합니다.
+ * 처리 중이거나 대기 중인 작업이 허용량에 도달하면 새 업로드를 저장하기 전에 거절하며,
+ * 생성에 실패한 작업은 대기열 끝에 다시 넣어 최대 시도 횟수까지 재시도합니다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ImageDerivativeWorker {
+
+    private final UploadFileRepository uploadFileRepository;
+    private final FileHandler fileHandler;
+
+    @Value("${resource.file.image-derivative.categories}")
+    private String[] categories;
+
+    @Value("${resource.file.compressible-image-extension}")
+    private String[] extensions;
+
+    @Value("${resource.file.image-derivative.pool-size:2}")
+    private int poolSize;
+
+    @Value("${resource.file.image-derivative.queue-capacity:100}")
+    private int queueCapacity;
+
+    @Value("${resource.file.image-derivative.max-attempts:3}")
+    private int maxAttempts;
+
+    @Value("${resource.file.image-quality}")
+    private float imageQuality;
+
+    private Set<String> categorySet;
+    private Set<String> extensionSet;
+    private Semaphore permits;
+    private ExecutorService executor;
+
+    @PostConstruct
+    public void start() {
+        categorySet = Arrays.stream(categories).map(String::trim).collect(Collectors.toSet());
+        extensionSet = Arrays.stream(extensions).map(String::trim).map(String::toLowerCase).collect(Collectors.toSet());
+        permits = new Semaphore(poolSize + queueCapacity);
+        AtomicInteger threadNumber = new AtomicInteger();
+        executor = new ThreadPoolExecutor(poolSize, poolSize, 0L, TimeUnit.MILLISECONDS, new LinkedBlockingQueue<>(), runnable -> {
+            Thread thread = new Thread(runnable, "image-derivative-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @PreDestroy
+    public void stop() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * 업로드 경로와 확장자가 파생 이미지 생성 대상인지 확인합니다.
+     * @param path 업로드 경로 (예: boards/{memberId})
+     * @param filename 업로드된 파일 이름
+     */
+    public boolean supports(String path, String filename) {
+        String category = path.split("[/\\\\]")[0];
+        String extension = FilenameUtils.getExtension(filename);
+        return categorySet.contains(category) && extension != null && extensionSet.contains(extension.toLowerCase());
+    }
+
+    /**
+     * 파생 이미지 생성 작업 하나의 자리를 예약합니다.
+     * 예약한 자리는 {@link #submit(UploadedFile, int)}로 작업을 등록하거나, 등록하지 못한 경우 {@link #release()}로 반환해야 합니다.
+     * @throws ImageProcessingBusyException 처리 중이거나 대기 중인 작업이 허용량에 도달한 경우
+     */
+    public void reserve() {
+        if (!permits.tryAcquire()) {
+            throw new ImageProcessingBusyException("이미지 처리 요청이 많습니다. 잠시 후 다시 시도해주세요.");
+        }
+    }
+
+    public void release() {
+        permits.release();
+    }
+
+    /**
+     * 예약한 자리에 파생 이미지 생성 작업을 등록합니다.
+     * @param uploadedFile 원본이 저장된 업로드 파일
+     * @param direction 업로드된 이미지의 EXIF 방향 정보 (저장된 원본에는 메타데이터가 남아 있지 않음)
+     */
+    public void submit(UploadedFile uploadedFile, int direction) {
+        execute(uploadedFile.getId(), uploadedFile.getSavedPath(), direction, 1);
+    }
+
+    private void execute(Long uploadedFileId, String savedPath, int direction, int attempt) {
+        try {
+            executor.execute(() -> process(uploadedFileId, savedPath, direction, attempt));
+        } catch (RuntimeException e) {
+            release();
+            throw e;
+        }
+    }
+
+    private void process(Long uploadedFileId, String savedPath, int direction, int attempt) {
+        Map<ImageDerivativeSize, String> derivativePaths;
+        try {
+            derivativePaths = createDerivatives(savedPath, direction);
+        } catch (Exception e) {
+            if (attempt < maxAttempts) {
+                log.warn("Failed to create image derivatives of {} (attempt {}/{}): {}", savedPath, attempt, maxAttempts, e.getMessage());
+                execute(uploadedFileId, savedPath, direction, attempt + 1);
+            } else {
+                log.error("Gave up creating image derivatives of {} after {} attempts", savedPath, attempt, e);
+                deleteDerivatives(savedPath);
+                release();
+            }
+            return;
+        }
+
+        try {
+            uploadFileRepository.findById(uploadedFileId).ifPresent(uploadedFile -> {
+                uploadedFile.updateDerivativePaths(derivativePaths.get(ImageDerivativeSize.THUMBNAIL), derivativePaths.get(ImageDerivativeSize.MEDIUM));
+                uploadFileRepository.save(uploadedFile);
+            });
+        } catch (Exception e) {
+            log.error("Failed to record image derivatives of {}", savedPath, e);
+        } finally {
+            release();
+        }
+    }
+
+    /**
+     * 파생 이미지를 만든 뒤 마지막 단계로 원본을 교체합니다.
+     * 교체 이전 단계에서 실패한 작업만 재시도되므로, 재시도에서 이미 회전된 원본을 다시 회전하지 않습니다.
+     */
+    private Map<ImageDerivativeSize, String> createDerivatives(String savedPath, int direction) throws IOException {
+        File original = new File(savedPath);
+        BufferedImage decoded = ImageIO.read(original);
+        if (decoded == null) {
+            throw new IOException("이미지를 읽을 수 없습니다: " + savedPath);
+        }
+        BufferedImage image = ImageUtil.rotate(decoded, direction);
+        String formatName = FilenameUtils.getExtension(original.getName());
+        Map<ImageDerivativeSize, String> derivativePaths = new EnumMap<>(ImageDerivativeSize.class);
+        for (ImageDerivativeSize size : ImageDerivativeSize.values()) {
+            String derivativePath = size.resolvePath(savedPath);
+            ImageUtil.writeImage(ImageUtil.resize(image, size.getMaxSize()), new File(derivativePath), formatName, imageQuality);
+            derivativePaths.put(size, derivativePath);
+        }
+        fileHandler.replaceWithOptimizedImage(savedPath, image, formatName);
+        return derivativePaths;
+    }
+
+    private void deleteDerivatives(String savedPath) {
+        for (ImageDerivativeSize size : ImageDerivativeSize.values()) {
+            File derivative = new File(size.resolvePath(savedPath));
+            if (derivative.exists() && !derivative.delete()) {
+                log.warn("Failed to delete image derivative: {}", derivative.getAbsolutePath());
+            }
+        }
+    }
+}
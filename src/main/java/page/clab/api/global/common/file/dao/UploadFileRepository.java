@@ -15,4 +15,6 @@ public interface UploadFileRepository extends JpaRepository<UploadedFile, Long>
     UploadedFile findTopByCategoryOrderByCreatedAtDesc(String category);
 
     List<UploadedFile> findAllByUrlIn(List<String> fileUrls);
+
+    List<UploadedFileRetention> findAllBySavedPathStartingWith(String savedPathPrefix);
 }
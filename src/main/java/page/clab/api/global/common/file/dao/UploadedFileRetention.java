@@ -0,0 +1,19 @@
+package page.clab.api.global.common.file.dao;
+
+import java.time.LocalDateTime;
+
+/**
+ * 자동 삭제 작업에서 파일의 보관 기간을 판단하는 데 필요한 컬럼만 조회하기 위한 프로젝션입니다.
+ */
+public interface UploadedFileRetention {
+
+    String getSavedPath();
+
+    LocalDateTime getCreatedAt();
+
+    Long getStoragePeriod();
+
+    String getThumbnailPath();
+
+    String getMediumPath();
+}
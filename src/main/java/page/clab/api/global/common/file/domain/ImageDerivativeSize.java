@@ -0,0 +1,45 @@
+package page.clab.api.global.common.file.domain;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.Arrays;
+
+/**
+ * 업로드된 이미지로부터 생성하는 파생 이미지의 크기입니다.
+ * 파생 이미지는 원본과 같은 디렉토리에 '{원본 파일명}_{key}.{확장자}' 형식으로 저장됩니다.
+ */
+@Getter
+@AllArgsConstructor
+public enum ImageDerivativeSize {
+
+    THUMBNAIL("thumbnail", 320),
+    MEDIUM("medium", 1280);
+
+    private final String key;
+    private final int maxSize;
+
+    public static ImageDerivativeSize fromKey(String key) {
+        if (key == null) {
+            return null;
+        }
+        return Arrays.stream(values())
+                .filter(size -> size.key.equalsIgnoreCase(key))
+                .findFirst()
+                .orElse(null);
+    }
+
+    /**
+     * 원본 파일 경로(또는 URL 경로)로부터 파생 이미지의 경로를 만듭니다.
+     * @param originalPath 원본 파일 경로
+     * @return 파생 이미지 경로
+     */
+    public String resolvePath(String originalPath) {
+        int nameStart = Math.max(originalPath.lastIndexOf('/'), originalPath.lastIndexOf('\\')) + 1;
+        int extensionStart = originalPath.lastIndexOf('.');
+        if (extensionStart < nameStart) {
+            return originalPath + "_" + key;
+        }
+        return originalPath.substring(0, extensionStart) + "_" + key + originalPath.substring(extensionStart);
+    }
+}
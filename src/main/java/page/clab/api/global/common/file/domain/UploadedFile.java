@@ -15,6 +15,10 @@ import page.clab.api.domain.memberManagement.member.application.dto.shared.Membe
 import page.clab.api.global.common.domain.BaseEntity;
 import page.clab.api.global.exception.PermissionDeniedException;
 
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.Stream;
+
 @Entity
 @Getter
 @Setter
@@ -53,6 +57,10 @@ public class UploadedFile extends BaseEntity {
 
     private Long storagePeriod;
 
+    private String thumbnailPath;
+
+    private String mediumPath;
+
     public static UploadedFile create(String uploader, String originalFileName, String saveFileName, String savedPath, String url, Long fileSize, String contentType, Long storagePeriod, String category) {
         return UploadedFile.builder()
                 .uploader(uploader)
@@ -67,6 +75,17 @@ public class UploadedFile extends BaseEntity {
                 .build();
     }
 
+    public void updateDerivativePaths(String thumbnailPath, String mediumPath) {
+        this.thumbnailPath = thumbnailPath;
+        this.mediumPath = mediumPath;
+    }
+
+    public List<String> getDerivativePaths() {
+        return Stream.of(thumbnailPath, mediumPath)
+                .filter(Objects::nonNull)
+                .toList();
+    }
+
     public boolean isOwner(String memberId) {
         return this.uploader.equals(memberId);
     }
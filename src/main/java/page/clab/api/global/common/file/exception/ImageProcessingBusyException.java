@@ -0,0 +1,8 @@
+package page.clab.api.global.common.file.exception;
+
+public class ImageProcessingBusyException extends RuntimeException {
+
+    public ImageProcessingBusyException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,11 @@
+package page.clab.api.global.common.geoip.application;
+
+public interface GeoIpResolver {
+
+    /**
+     * IP 주소가 속한 국가를 조회합니다.
+     * @param ipAddress 조회하려는 IP 주소
+     * @return ISO 3166-1 alpha-2 국가 코드, 확인할 수 없으면 null
+     */
+    String resolveCountry(String ipAddress);
+}
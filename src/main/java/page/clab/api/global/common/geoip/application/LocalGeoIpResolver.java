@@ -0,0 +1,76 @@
+package page.clab.api.global.common.geoip.application;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import page.clab.api.global.common.geoip.domain.GeoIpRangeTable;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+
+/**
+ * 로컬 국가 대역 DB 파일을 이용해 네트워크 호출 없이 국가를 조회합니다.
+ * 조회 결과는 크기와 TTL이 제한된 캐시에 보관됩니다.
+ * DB 파일이 없거나 비어 있으면 국가 제한이 꺼진 채로 동작하지 않도록 애플리케이션 시작을 중단합니다.
+ */
+@Component
+@Slf4j
+public class LocalGeoIpResolver implements GeoIpResolver {
+
+    private final Path databasePath;
+    private final Cache<String, Optional<String>> cache;
+
+    private volatile GeoIpRangeTable rangeTable;
+
+    public LocalGeoIpResolver(
+            @Value("${security.access.geoip.database-path}") String databasePath,
+            @Value("${security.access.geoip.cache.maximum-size:10000}") long maximumSize,
+            @Value("${security.access.geoip.cache.ttl-seconds:3600}") long ttlSeconds
+    ) {
+        this.databasePath = Paths.get(databasePath);
+        this.cache = CacheBuilder.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .build();
+    }
+
+    @PostConstruct
+    public void loadDatabase() {
+        if (!Files.isReadable(databasePath)) {
+            throw new IllegalStateException("GeoIP database file not found: " + databasePath);
+        }
+        GeoIpRangeTable loaded;
+        try {
+            loaded = GeoIpRangeTable.load(databasePath);
+        } catch (IOException e) {
+            throw new IllegalStateException("Failed to load GeoIP database: " + databasePath, e);
+        }
+        if (loaded.size() == 0) {
+            throw new IllegalStateException("GeoIP database has no valid ranges: " + databasePath);
+        }
+        rangeTable = loaded;
+        cache.invalidateAll();
+        log.info("GeoIP database loaded: {} ranges", loaded.size());
+    }
+
+    @Override
+    public String resolveCountry(String ipAddress) {
+        if (ipAddress == null) {
+            return null;
+        }
+        try {
+            return cache.get(ipAddress, () -> Optional.ofNullable(rangeTable.lookup(ipAddress)))
+                    .orElse(null);
+        } catch (ExecutionException e) {
+            return null;
+        }
+    }
+}
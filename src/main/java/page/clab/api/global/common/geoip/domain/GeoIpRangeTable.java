@@ -0,0 +1,249 @@
+package page.clab.api.global.common.geoip.domain;
+
+import page.clab.api.global.util.IpAddressUtil;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * IP 대역별 국가 코드를 정렬된 배열로 보관하는 조회 테이블입니다.
+ * 'start_ip,end_ip,country_code' 형식의 CSV(DB-IP, IP2Location Lite 등)를 읽어 생성하며,
+ * IPv4 대역과 IPv6 대역을 각각의 배열에 보관하고 조회는 시작 주소 배열에 대한 이진 탐색으로 수행됩니다.
+ */
+public class GeoIpRangeTable {
+
+    private static final long IPV4_MAPPED_PREFIX = 0xffffL;
+
+    private final long[] ipv4Starts;
+    private final long[] ipv4Ends;
+    private final String[] ipv4Countries;
+
+    private final long[] ipv6StartHighs;
+    private final long[] ipv6StartLows;
+    private final long[] ipv6EndHighs;
+    private final long[] ipv6EndLows;
+    private final String[] ipv6Countries;
+
+    private GeoIpRangeTable(long[] ipv4Starts, long[] ipv4Ends, String[] ipv4Countries,
+                            long[] ipv6StartHighs, long[] ipv6StartLows, long[] ipv6EndHighs, long[] ipv6EndLows, String[] ipv6Countries) {
+        this.ipv4Starts = ipv4Starts;
+        this.ipv4Ends = ipv4Ends;
+        this.ipv4Countries = ipv4Countries;
+        this.ipv6StartHighs = ipv6StartHighs;
+        this.ipv6StartLows = ipv6StartLows;
+        this.ipv6EndHighs = ipv6EndHighs;
+        this.ipv6EndLows = ipv6EndLows;
+        this.ipv6Countries = ipv6Countries;
+    }
+
+    /**
+     * CSV 파일을 읽어 조회 테이블을 생성합니다.
+     * 형식이 올바르지 않은 행은 건너뜁니다.
+     * @param path 국가 대역 CSV 파일 경로
+     * @return 시작 주소 기준으로 정렬된 조회 테이블
+     */
+    public static GeoIpRangeTable load(Path path) throws IOException {
+        Ipv4RangeBuilder ipv4Ranges = new Ipv4RangeBuilder();
+        Ipv6RangeBuilder ipv6Ranges = new Ipv6RangeBuilder();
+        Map<String, String> countryPool = new HashMap<>();
+        long[] ipv6Start = new long[2];
+        long[] ipv6End = new long[2];
+
+        try (BufferedReader reader = Files.newBufferedReader(path, StandardCharsets.US_ASCII)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                String[] columns = line.trim().split(",");
+                if (columns.length < 3) {
+                    continue;
+                }
+                String startIp = unquote(columns[0]);
+                String endIp = unquote(columns[1]);
+                String country = unquote(columns[2]);
+                if (country.isEmpty() || "-".equals(country)) {
+                    continue;
+                }
+                country = countryPool.computeIfAbsent(country, key -> key);
+
+                long start = IpAddressUtil.parseIpv4(startIp);
+                if (start >= 0) {
+                    long end = IpAddressUtil.parseIpv4(endIp);
+                    if (end >= start) {
+                        ipv4Ranges.add(start, end, country);
+                    }
+                    continue;
+                }
+                if (IpAddressUtil.parseIpv6(startIp, ipv6Start) && IpAddressUtil.parseIpv6(endIp, ipv6End)
+                        && compareUnsigned(ipv6Start[0], ipv6Start[1], ipv6End[0], ipv6End[1]) <= 0) {
+                    ipv6Ranges.add(ipv6Start, ipv6End, country);
+                }
+            }
+        }
+        return ipv6Ranges.build(ipv4Ranges.build());
+    }
+
+    /**
+     * 주어진 IP 주소가 속한 대역의 국가 코드를 반환합니다.
+     * IPv4 내장 IPv6 주소(::ffff:192.0.2.1)는 IPv4 대역에서 조회합니다.
+     * @param ipAddress 조회하려는 IPv4 또는 IPv6 주소
+     * @return 국가 코드, 해당하는 대역이 없거나 IP 주소가 아니면 null
+     */
+    public String lookup(String ipAddress) {
+        long ipv4 = IpAddressUtil.parseIpv4(ipAddress);
+        if (ipv4 >= 0) {
+            return lookupIpv4(ipv4);
+        }
+        long[] ipv6 = new long[2];
+        if (!IpAddressUtil.parseIpv6(ipAddress, ipv6)) {
+            return null;
+        }
+        if (ipv6[0] == 0 && (ipv6[1] >>> 32) == IPV4_MAPPED_PREFIX) {
+            return lookupIpv4(ipv6[1] & 0xffffffffL);
+        }
+        return lookupIpv6(ipv6[0], ipv6[1]);
+    }
+
+    public int size() {
+        return ipv4Starts.length + ipv6StartHighs.length;
+    }
+
+    private String lookupIpv4(long address) {
+        int index = Arrays.binarySearch(ipv4Starts, address);
+        if (index < 0) {
+            index = -index - 2;
+        }
+        if (index < 0 || address > ipv4Ends[index]) {
+            return null;
+        }
+        return ipv4Countries[index];
+    }
+
+    private String lookupIpv6(long high, long low) {
+        int lowIndex = 0;
+        int highIndex = ipv6StartHighs.length - 1;
+        int index = -1;
+        while (lowIndex <= highIndex) {
+            int mid = (lowIndex + highIndex) >>> 1;
+            if (compareUnsigned(ipv6StartHighs[mid], ipv6StartLows[mid], high, low) <= 0) {
+                index = mid;
+                lowIndex = mid + 1;
+            } else {
+                highIndex = mid - 1;
+            }
+        }
+        if (index < 0 || compareUnsigned(high, low, ipv6EndHighs[index], ipv6EndLows[index]) > 0) {
+            return null;
+        }
+        return ipv6Countries[index];
+    }
+
+    private static int compareUnsigned(long leftHigh, long leftLow, long rightHigh, long rightLow) {
+        int result = Long.compareUnsigned(leftHigh, rightHigh);
+        return result != 0 ? result : Long.compareUnsigned(leftLow, rightLow);
+    }
+
+    private static String unquote(String value) {
+        String trimmed = value.trim();
+        if (trimmed.length() >= 2 && trimmed.startsWith("\"") && trimmed.endsWith("\"")) {
+            return trimmed.substring(1, trimmed.length() - 1);
+        }
+        return trimmed;
+    }
+
+    private static Integer[] sortedOrder(int size, Comparator<Integer> comparator) {
+        Integer[] order = new Integer[size];
+        for (int i = 0; i < size; i++) {
+            order[i] = i;
+        }
+        Arrays.sort(order, comparator);
+        return order;
+    }
+
+    private static class Ipv4RangeBuilder {
+
+        private long[] starts = new long[1024];
+        private long[] ends = new long[1024];
+        private String[] countries = new String[1024];
+        private int size;
+
+        void add(long start, long end, String country) {
+            if (size == starts.length) {
+                starts = Arrays.copyOf(starts, size * 2);
+                ends = Arrays.copyOf(ends, size * 2);
+                countries = Arrays.copyOf(countries, size * 2);
+            }
+            starts[size] = start;
+            ends[size] = end;
+            countries[size] = country;
+            size++;
+        }
+
+        Ipv4RangeBuilder build() {
+            Integer[] order = sortedOrder(size, (a, b) -> Long.compare(starts[a], starts[b]));
+            long[] sortedStarts = new long[size];
+            long[] sortedEnds = new long[size];
+            String[] sortedCountries = new String[size];
+            for (int i = 0; i < size; i++) {
+                sortedStarts[i] = starts[order[i]];
+                sortedEnds[i] = ends[order[i]];
+                sortedCountries[i] = countries[order[i]];
+            }
+            starts = sortedStarts;
+            ends = sortedEnds;
+            countries = sortedCountries;
+            return this;
+        }
+    }
+
+    private static class Ipv6RangeBuilder {
+
+        private long[] startHighs = new long[1024];
+        private long[] startLows = new long[1024];
+        private long[] endHighs = new long[1024];
+        private long[] endLows = new long[1024];
+        private String[] countries = new String[1024];
+        private int size;
+
+        void add(long[] start, long[] end, String country) {
+            if (size == startHighs.length) {
+                startHighs = Arrays.copyOf(startHighs, size * 2);
+                startLows = Arrays.copyOf(startLows, size * 2);
+                endHighs = Arrays.copyOf(endHighs, size * 2);
+                endLows = Arrays.copyOf(endLows, size * 2);
+                countries = Arrays.copyOf(countries, size * 2);
+            }
+            startHighs[size] = start[0];
+            startLows[size] = start[1];
+            endHighs[size] = end[0];
+            endLows[size] = end[1];
+            countries[size] = country;
+            size++;
+        }
+
+        GeoIpRangeTable build(Ipv4RangeBuilder ipv4Ranges) {
+            Integer[] order = sortedOrder(size,
+                    (a, b) -> compareUnsigned(startHighs[a], startLows[a], startHighs[b], startLows[b]));
+            long[] sortedStartHighs = new long[size];
+            long[] sortedStartLows = new long[size];
+            long[] sortedEndHighs = new long[size];
+            long[] sortedEndLows = new long[size];
+            String[] sortedCountries = new String[size];
+            for (int i = 0; i < size; i++) {
+                int source = order[i];
+                sortedStartHighs[i] = startHighs[source];
+                sortedStartLows[i] = startLows[source];
+                sortedEndHighs[i] = endHighs[source];
+                sortedEndLows[i] = endLows[source];
+                sortedCountries[i] = countries[source];
+            }
+            return new GeoIpRangeTable(ipv4Ranges.starts, ipv4Ranges.ends, ipv4Ranges.countries,
+                    sortedStartHighs, sortedStartLows, sortedEndHighs, sortedEndLows, sortedCountries);
+        }
+    }
+}
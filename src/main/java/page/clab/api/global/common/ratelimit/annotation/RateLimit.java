@@ -0,0 +1,23 @@
+package page.clab.api.global.common.ratelimit.annotation;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 컨트롤러 메서드 또는 클래스에 요청 처리량 제한을 적용합니다.
+ * 제한값은 application.yml의 rate-limit.routes.{value} 항목에서 IP별, 회원별로 설정합니다.
+ * 메서드와 클래스에 모두 지정된 경우 메서드의 설정을 따릅니다.
+ */
+@Target({ElementType.METHOD, ElementType.TYPE})
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface RateLimit {
+
+    /**
+     * rate-limit.routes 아래에 정의된 경로 이름
+     */
+    String value();
+}
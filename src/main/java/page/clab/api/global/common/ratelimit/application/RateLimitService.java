@@ -0,0 +1,90 @@
+package page.clab.api.global.common.ratelimit.application;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Service;
+import page.clab.api.global.common.ratelimit.dao.RateLimitRedisRepository;
+import page.clab.api.global.common.ratelimit.exception.RateLimitExceededException;
+import page.clab.api.global.config.RateLimitProperties;
+import page.clab.api.global.util.TokenBucket;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 경로별로 설정된 IP별, 회원별 처리량 제한을 적용합니다.
+ * distributed가 켜져 있으면 Redis GCRA 스크립트로 모든 서버가 같은 제한을 공유하고,
+ * 꺼져 있거나 Redis에 접근할 수 없으면 서버마다 메모리의 토큰 버킷으로 제한합니다.
+ */
+@Service
+@Slf4j
+public class RateLimitService {
+
+    private final RateLimitProperties rateLimitProperties;
+    private final RateLimitRedisRepository rateLimitRedisRepository;
+    private final MeterRegistry meterRegistry;
+    private final Cache<String, TokenBucket> localBuckets;
+
+    public RateLimitService(RateLimitProperties rateLimitProperties, RateLimitRedisRepository rateLimitRedisRepository, MeterRegistry meterRegistry) {
+        this.rateLimitProperties = rateLimitProperties;
+        this.rateLimitRedisRepository = rateLimitRedisRepository;
+        this.meterRegistry = meterRegistry;
+        this.localBuckets = CacheBuilder.newBuilder()
+                .maximumSize(rateLimitProperties.getLocalMaximumSize())
+                .expireAfterAccess(Duration.ofMinutes(rateLimitProperties.getLocalExpireMinutes()))
+                .build();
+    }
+
+    /**
+     * 요청 하나에 대한 허가를 얻습니다. IP별 제한과 회원별 제한이 모두 설정된 경우 둘 다 통과해야 합니다.
+     * @param route rate-limit.routes 아래에 정의된 경로 이름
+     * @param clientIpAddress 요청한 클라이언트 IP
+     * @param memberId 인증된 회원 ID, 인증되지 않은 요청이면 null
+     * @throws RateLimitExceededException 제한을 넘은 경우
+     */
+    public void acquire(String route, String clientIpAddress, String memberId) {
+        if (!rateLimitProperties.isEnabled()) {
+            return;
+        }
+        RateLimitProperties.Route routeProperties = rateLimitProperties.getRoutes().get(route);
+        if (routeProperties == null) {
+            log.warn("Rate limit route '{}' is not configured", route);
+            return;
+        }
+        acquire(route, "ip:" + clientIpAddress, routeProperties.getPerIp());
+        if (memberId != null) {
+            acquire(route, "member:" + memberId, routeProperties.getPerMember());
+        }
+    }
+
+    private void acquire(String route, String subject, RateLimitProperties.Quota quota) {
+        if (quota == null) {
+            return;
+        }
+        String key = route + ":" + subject;
+        long waitNanos = tryAcquire(key, quota);
+        if (waitNanos > 0) {
+            meterRegistry.counter("rate-limit.rejected", "route", route).increment();
+            long retryAfterSeconds = Math.max(1, (long) Math.ceil((double) waitNanos / TimeUnit.SECONDS.toNanos(1)));
+            throw new RateLimitExceededException("요청이 너무 많습니다. " + retryAfterSeconds + "초 후 다시 시도해주세요.", retryAfterSeconds);
+        }
+    }
+
+    private long tryAcquire(String key, RateLimitProperties.Quota quota) {
+        if (rateLimitProperties.isDistributed()) {
+            try {
+                long waitMicros = rateLimitRedisRepository.tryAcquire(key, quota.getCapacity(), quota.getPermitsPerSecond());
+                return TimeUnit.MICROSECONDS.toNanos(waitMicros);
+            } catch (DataAccessException e) {
+                log.debug("Redis rate limiter is unavailable, falling back to the local bucket: {}", e.getMessage());
+                meterRegistry.counter("rate-limit.redis.fallback").increment();
+            }
+        }
+        return localBuckets.asMap()
+                .computeIfAbsent(key, k -> new TokenBucket(quota.getCapacity(), quota.getPermitsPerSecond()))
+                .tryAcquire();
+    }
+}
@@ -0,0 +1,57 @@
+package page.clab.api.global.common.ratelimit.dao;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * GCRA(Generic Cell Rate Algorithm)로 여러 서버가 하나의 처리량 제한을 공유합니다.
+ * 키마다 다음 요청이 이론적으로 도착해야 하는 시각(TAT) 하나만 저장하며,
+ * 시각은 Redis 서버의 TIME으로 계산하므로 서버 간 시계 차이의 영향을 받지 않습니다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class RateLimitRedisRepository {
+
+    private static final String KEY_PREFIX = "rate-limit:";
+
+    private static final RedisScript<Long> GCRA_SCRIPT = new DefaultRedisScript<>(
+            "redis.replicate_commands() " +
+                    "local time = redis.call('TIME') " +
+                    "local now = tonumber(time[1]) * 1000000 + tonumber(time[2]) " +
+                    "local interval = tonumber(ARGV[1]) " +
+                    "local tolerance = tonumber(ARGV[2]) " +
+                    "local tat = tonumber(redis.call('GET', KEYS[1])) " +
+                    "if not tat or tat < now then tat = now end " +
+                    "local newTat = tat + interval " +
+                    "local allowAt = newTat - tolerance " +
+                    "if allowAt > now then return allowAt - now end " +
+                    "redis.call('SET', KEYS[1], string.format('%d', newTat), 'PX', math.ceil((newTat - now) / 1000)) " +
+                    "return 0",
+            Long.class
+    );
+
+    private final StringRedisTemplate redisTemplate;
+
+    /**
+     * 허가 하나를 얻어 봅니다.
+     * @param key 제한 대상 키
+     * @param capacity 한 번에 몰아서 허용할 수 있는 최대 요청 수
+     * @param permitsPerSecond 초당 허용하는 요청 수
+     * @return 허가를 얻었으면 0, 그렇지 않으면 다음 요청이 허용될 때까지 남은 시간 (마이크로초)
+     */
+    public long tryAcquire(String key, int capacity, double permitsPerSecond) {
+        long intervalMicros = (long) Math.ceil(1_000_000 / permitsPerSecond);
+        Long waitMicros = redisTemplate.execute(
+                GCRA_SCRIPT,
+                List.of(KEY_PREFIX + key),
+                String.valueOf(intervalMicros),
+                String.valueOf(intervalMicros * capacity)
+        );
+        return waitMicros == null ? 0 : waitMicros;
+    }
+}
@@ -0,0 +1,84 @@
+package page.clab.api.global.common.slack.application;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import page.clab.api.global.common.slack.domain.AlertType;
+import page.clab.api.global.common.slack.domain.ExecutivesAlertType;
+import page.clab.api.global.common.slack.domain.GeneralAlertType;
+import page.clab.api.global.common.slack.domain.NotificationSetting;
+import page.clab.api.global.common.slack.domain.SecurityAlertType;
+import page.clab.api.global.common.slack.event.NotificationSettingChangedEvent;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 알림 설정을 메모리에 유지하여, 알림 이벤트마다 DB를 조회하지 않고 발송 여부를 판단합니다.
+ * 시작 시 모든 알림 유형의 설정을 읽어 두고, 설정이 변경되면 커밋 후 전체 설정을 다시 읽습니다.
+ * 다른 인스턴스에서 변경된 설정은 주기적인 갱신으로 반영합니다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class NotificationSettingCache {
+
+    private static final List<AlertType> ALERT_TYPES = createAlertTypes();
+
+    private final NotificationSettingService notificationSettingService;
+
+    private volatile Map<AlertType, Boolean> enabledByAlertType;
+
+    /**
+     * 알림 유형의 발송 여부를 반환합니다. 설정이 아직 없는 유형은 기본값인 발송으로 간주합니다.
+     * 시작 이벤트보다 먼저 발생한 알림(서버 시작 알림 등)은 이때 설정을 읽어 옵니다.
+     */
+    public boolean isEnabled(AlertType alertType) {
+        Map<AlertType, Boolean> settings = enabledByAlertType;
+        if (settings == null) {
+            refresh();
+            settings = enabledByAlertType;
+        }
+        return settings == null || settings.getOrDefault(alertType, true);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadSettings() {
+        refresh();
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void handleNotificationSettingChanged(NotificationSettingChangedEvent event) {
+        refresh();
+    }
+
+    @Scheduled(cron = "0 */5 * * * *")
+    public void refresh() {
+        try {
+            Map<AlertType, Boolean> settings = new HashMap<>();
+            for (NotificationSetting setting : notificationSettingService.getOrCreateDefaultSettings(ALERT_TYPES)) {
+                settings.put(setting.getAlertType(), setting.isEnabled());
+            }
+            enabledByAlertType = Map.copyOf(settings);
+            log.debug("Notification settings refreshed: {} entries", settings.size());
+        } catch (Exception e) {
+            log.error("Failed to refresh notification settings: {}", e.getMessage(), e);
+        }
+    }
+
+    private static List<AlertType> createAlertTypes() {
+        List<AlertType> alertTypes = new ArrayList<>();
+        alertTypes.addAll(Arrays.asList(GeneralAlertType.values()));
+        alertTypes.addAll(Arrays.asList(SecurityAlertType.values()));
+        alertTypes.addAll(Arrays.asList(ExecutivesAlertType.values()));
+        return List.copyOf(alertTypes);
+    }
+}
@@ -1,15 +1,21 @@
 package page.clab.api.global.common.slack.application;
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 import page.clab.api.global.common.slack.dao.NotificationSettingRepository;
 import page.clab.api.global.common.slack.domain.AlertType;
 import page.clab.api.global.common.slack.domain.AlertTypeResolver;
 import page.clab.api.global.common.slack.domain.NotificationSetting;
 import page.clab.api.global.common.slack.dto.response.NotificationSettingResponseDto;
+import page.clab.api.global.common.slack.event.NotificationSettingChangedEvent;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
@@ -17,6 +23,7 @@ public class NotificationSettingService {
 
     private final AlertTypeResolver alertTypeResolver;
     private final NotificationSettingRepository settingRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional(readOnly = true)
     public List<NotificationSettingResponseDto> getNotificationSettings() {
@@ -31,6 +38,28 @@ public class NotificationSettingService {
         NotificationSetting setting = getOrCreateDefaultSetting(alertType);
         setting.updateEnabled(enabled);
         settingRepository.save(setting);
+        eventPublisher.publishEvent(new NotificationSettingChangedEvent(this, alertType));
+    }
+
+    /**
+     * 주어진 알림 유형 중 설정이 없는 유형의 기본 설정을 생성하고, 전체 설정을 반환합니다.
+     * 커밋 이후의 이벤트 리스너나 다른 트랜잭션 안에서 호출되어도 기본 설정이 커밋되도록 항상 새 트랜잭션에서 실행합니다.
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public List<NotificationSetting> getOrCreateDefaultSettings(Collection<AlertType> alertTypes) {
+        List<NotificationSetting> settings = settingRepository.findAll();
+        Set<AlertType> configuredTypes = settings.stream()
+                .map(NotificationSetting::getAlertType)
+                .collect(Collectors.toSet());
+        List<NotificationSetting> defaultSettings = alertTypes.stream()
+                .filter(alertType -> !configuredTypes.contains(alertType))
+                .map(NotificationSetting::createDefault)
+                .toList();
+        if (defaultSettings.isEmpty()) {
+            return settings;
+        }
+        settingRepository.saveAll(defaultSettings);
+        return settingRepository.findAll();
     }
 
     @Transactional
@@ -0,0 +1,117 @@
+package page.clab.api.global.common.slack.application;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import page.clab.api.global.common.slack.domain.SecurityAlertSummary;
+import page.clab.api.global.common.slack.domain.SecurityAlertType;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 같은 IP에서 같은 종류의 보안 경고가 반복될 때 Slack 메시지를 하나로 병합합니다.
+ * 구간의 첫 경고는 바로 발송하고, 구간이 끝날 때까지 들어온 나머지 경고는 개수와 마지막 내용만 기록해 두었다가
+ * 구간이 끝나면 요약 메시지 하나로 발송합니다.
+ */
+@Component
+public class SecurityAlertCoalescer {
+
+    private final Map<String, Window> windows = new ConcurrentHashMap<>();
+    private final Queue<SecurityAlertSummary> closedSummaries = new ConcurrentLinkedQueue<>();
+
+    @Value("${slack.delivery.coalesce-window-seconds:60}")
+    private long windowSeconds;
+
+    /**
+     * 보안 경고를 기록합니다.
+     * @return 구간의 첫 경고라서 바로 발송해야 하면 true, 진행 중인 구간에 병합되었으면 false
+     */
+    public boolean register(String webhookUrl, SecurityAlertType alertType, String ipAddress, String endpoint, String message) {
+        if (windowSeconds <= 0) {
+            return true;
+        }
+        String key = webhookUrl + "|" + alertType.name() + "|" + ipAddress;
+        long now = System.nanoTime();
+        boolean[] opened = new boolean[1];
+        windows.compute(key, (ignored, window) -> {
+            if (window == null || window.isExpired(now)) {
+                if (window != null) {
+                    closeWindow(window);
+                }
+                opened[0] = true;
+                return new Window(webhookUrl, alertType, ipAddress, now + TimeUnit.SECONDS.toNanos(windowSeconds));
+            }
+            window.suppressedCount++;
+            window.lastEndpoint = endpoint;
+            window.lastMessage = message;
+            return window;
+        });
+        return opened[0];
+    }
+
+    /**
+     * 끝난 구간을 정리하고, 병합된 경고가 있었던 구간의 요약을 반환합니다.
+     */
+    public List<SecurityAlertSummary> drainClosedWindows() {
+        long now = System.nanoTime();
+        windows.forEach((key, window) -> {
+            if (window.isExpired(now)) {
+                windows.computeIfPresent(key, (ignored, current) -> {
+                    if (current != window) {
+                        return current;
+                    }
+                    closeWindow(current);
+                    return null;
+                });
+            }
+        });
+        List<SecurityAlertSummary> summaries = new ArrayList<>();
+        SecurityAlertSummary summary;
+        while ((summary = closedSummaries.poll()) != null) {
+            summaries.add(summary);
+        }
+        return summaries;
+    }
+
+    private void closeWindow(Window window) {
+        if (window.suppressedCount == 0) {
+            return;
+        }
+        closedSummaries.add(SecurityAlertSummary.builder()
+                .webhookUrl(window.webhookUrl)
+                .alertType(window.alertType)
+                .ipAddress(window.ipAddress)
+                .suppressedCount(window.suppressedCount)
+                .lastEndpoint(window.lastEndpoint)
+                .lastMessage(window.lastMessage)
+                .windowSeconds(windowSeconds)
+                .build());
+    }
+
+    private static class Window {
+
+        private final String webhookUrl;
+        private final SecurityAlertType alertType;
+        private final String ipAddress;
+        private final long expiresAt;
+        private int suppressedCount;
+        private String lastEndpoint;
+        private String lastMessage;
+
+        private Window(String webhookUrl, SecurityAlertType alertType, String ipAddress, long expiresAt) {
+            this.webhookUrl = webhookUrl;
+            this.alertType = alertType;
+            this.ipAddress = ipAddress;
+            this.expiresAt = expiresAt;
+        }
+
+        private boolean isExpired(long now) {
+            return now - expiresAt >= 0;
+        }
+    }
+}
@@ -0,0 +1,154 @@
+package page.clab.api.global.common.slack.application;
+
+import com.slack.api.Slack;
+import com.slack.api.webhook.Payload;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import okhttp3.Response;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import page.clab.api.global.config.SlackConfig;
+import page.clab.api.global.util.TokenBucket;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Slack 웹훅 메시지를 전용 스레드 풀에서 발송합니다.
+ * 웹훅 URL마다 토큰 버킷으로 발송 속도를 제한하고, Slack이 429 응답과 함께 Retry-After를 보내면 그 시간 동안 해당 웹훅으로의 발송을 멈춥니다.
+ * 대기열이 가득 차면 새 메시지는 버리며, 서버 오류나 네트워크 오류는 지수적으로 늘어나는 간격으로 재시도합니다.
+ */
+@Component
+@Slf4j
+public class SlackMessageSender {
+
+    private static final long DEFAULT_RETRY_AFTER_MILLIS = 1000;
+
+    private final Slack slack;
+    private final MeterRegistry meterRegistry;
+    private final Map<String, TokenBucket> rateLimiters = new ConcurrentHashMap<>();
+
+    @Value("${slack.delivery.pool-size:1}")
+    private int poolSize;
+
+    @Value("${slack.delivery.queue-capacity:200}")
+    private int queueCapacity;
+
+    @Value("${slack.delivery.messages-per-second:1}")
+    private double messagesPerSecond;
+
+    @Value("${slack.delivery.burst:5}")
+    private int burst;
+
+    @Value("${slack.delivery.max-attempts:3}")
+    private int maxAttempts;
+
+    private ExecutorService executor;
+
+    public SlackMessageSender(SlackConfig slackConfig, MeterRegistry meterRegistry) {
+        this.slack = slackConfig.slack();
+        this.meterRegistry = meterRegistry;
+    }
+
+    @PostConstruct
+    public void start() {
+        AtomicInteger threadNumber = new AtomicInteger();
+        executor = new ThreadPoolExecutor(poolSize, poolSize, 0L, TimeUnit.MILLISECONDS, new LinkedBlockingQueue<>(queueCapacity), runnable -> {
+            Thread thread = new Thread(runnable, "slack-sender-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @PreDestroy
+    public void stop() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * 메시지를 발송 대기열에 넣습니다.
+     * @return 발송에 성공하면 true로 완료되는 future, 대기열이 가득 차거나 발송에 실패하면 false로 완료됩니다.
+     */
+    public CompletableFuture<Boolean> send(String webhookUrl, Payload payload) {
+        CompletableFuture<Boolean> result = new CompletableFuture<>();
+        try {
+            executor.execute(() -> result.complete(deliver(webhookUrl, payload)));
+        } catch (RejectedExecutionException e) {
+            log.warn("Slack message queue is full, dropping message");
+            meterRegistry.counter("slack.message.dropped").increment();
+            result.complete(false);
+        }
+        return result;
+    }
+
+    private boolean deliver(String webhookUrl, Payload payload) {
+        TokenBucket rateLimiter = rateLimiters.computeIfAbsent(webhookUrl, key -> new TokenBucket(burst, messagesPerSecond));
+        for (int attempt = 1; ; attempt++) {
+            long retryDelayMillis;
+            try {
+                rateLimiter.acquire();
+                try (Response response = slack.getHttpClient().postJsonBody(webhookUrl, payload)) {
+                    int code = response.code();
+                    if (code == 200) {
+                        return true;
+                    }
+                    if (code == 429) {
+                        long retryAfterMillis = parseRetryAfter(response.header("Retry-After"));
+                        log.warn("Slack rate limited the webhook, pausing for {}ms", retryAfterMillis);
+                        rateLimiter.pauseFor(retryAfterMillis);
+                        retryDelayMillis = 0;
+                    } else if (code >= 500) {
+                        log.warn("Slack notification failed with {} (attempt {}/{})", code, attempt, maxAttempts);
+                        retryDelayMillis = backoff(attempt);
+                    } else {
+                        log.error("Slack notification failed: {}", response.message());
+                        return false;
+                    }
+                }
+            } catch (IOException e) {
+                log.warn("Failed to send Slack message (attempt {}/{}): {}", attempt, maxAttempts, e.getMessage());
+                retryDelayMillis = backoff(attempt);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return false;
+            }
+
+            if (attempt >= maxAttempts) {
+                log.error("Gave up sending Slack message after {} attempts", attempt);
+                meterRegistry.counter("slack.message.failed").increment();
+                return false;
+            }
+            try {
+                TimeUnit.MILLISECONDS.sleep(retryDelayMillis);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return false;
+            }
+        }
+    }
+
+    private static long backoff(int attempt) {
+        return DEFAULT_RETRY_AFTER_MILLIS << Math.min(attempt - 1, 10);
+    }
+
+    private static long parseRetryAfter(String retryAfter) {
+        if (retryAfter == null) {
+            return DEFAULT_RETRY_AFTER_MILLIS;
+        }
+        try {
+            return Math.max(TimeUnit.SECONDS.toMillis(Long.parseLong(retryAfter.trim())), DEFAULT_RETRY_AFTER_MILLIS);
+        } catch (NumberFormatException e) {
+            return DEFAULT_RETRY_AFTER_MILLIS;
+        }
+    }
+}
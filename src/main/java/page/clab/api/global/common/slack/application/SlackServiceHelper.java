@@ -1,6 +1,5 @@
 package page.clab.api.global.common.slack.application;
 
-import com.slack.api.Slack;
 import com.slack.api.model.Attachment;
 import static com.slack.api.model.block.Blocks.actions;
 import static com.slack.api.model.block.Blocks.section;
@@ -10,21 +9,21 @@ import static com.slack.api.model.block.composition.BlockCompositions.plainText;
 import static com.slack.api.model.block.element.BlockElements.asElements;
 import static com.slack.api.model.block.element.BlockElements.button;
 import com.slack.api.webhook.Payload;
-import com.slack.api.webhook.WebhookResponse;
-import io.ipinfo.api.model.IPResponse;
-import io.ipinfo.spring.strategies.attribute.AttributeStrategy;
 import jakarta.servlet.http.HttpServletRequest;
 import lombok.extern.slf4j.Slf4j;
 import org.jetbrains.annotations.NotNull;
 import org.springframework.core.env.Environment;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Component;
 import page.clab.api.domain.hiring.application.application.dto.request.ApplicationRequestDto;
 import page.clab.api.domain.memberManagement.member.application.dto.shared.MemberLoginInfoDto;
+import page.clab.api.global.common.geoip.application.GeoIpResolver;
 import page.clab.api.global.common.slack.domain.AlertType;
 import page.clab.api.global.common.slack.domain.ExecutivesAlertType;
 import page.clab.api.global.common.slack.domain.GeneralAlertType;
+import page.clab.api.global.common.slack.domain.SecurityAlertSummary;
 import page.clab.api.global.common.slack.domain.SecurityAlertType;
 import page.clab.api.global.common.slack.domain.SlackBoardInfo;
 import page.clab.api.global.common.slack.domain.SlackBookLoanRecordInfo;
@@ -32,7 +31,6 @@ import page.clab.api.global.common.slack.domain.SlackMembershipFeeInfo;
 import page.clab.api.global.config.SlackConfig;
 import page.clab.api.global.util.HttpReqResUtil;
 
-import java.io.IOException;
 import java.lang.management.ManagementFactory;
 import java.lang.management.MemoryMXBean;
 import java.lang.management.MemoryUsage;
@@ -49,46 +47,58 @@ import java.util.stream.Collectors;
 @Slf4j
 public class SlackServiceHelper {
 
-    private final Slack slack;
     private final String webUrl;
     private final String apiUrl;
     private final String color;
     private final Environment environment;
-    private final AttributeStrategy attributeStrategy;
+    private final GeoIpResolver geoIpResolver;
+    private final SlackMessageSender slackMessageSender;
+    private final SecurityAlertCoalescer securityAlertCoalescer;
 
-    public SlackServiceHelper(SlackConfig slackConfig, Environment environment, AttributeStrategy attributeStrategy) {
-        this.slack = slackConfig.slack();
+    public SlackServiceHelper(SlackConfig slackConfig, Environment environment, GeoIpResolver geoIpResolver,
+                              SlackMessageSender slackMessageSender, SecurityAlertCoalescer securityAlertCoalescer) {
         this.webUrl = slackConfig.getWebUrl();
         this.apiUrl = slackConfig.getApiUrl();
         this.color = slackConfig.getColor();
         this.environment = environment;
-        this.attributeStrategy = attributeStrategy;
+        this.geoIpResolver = geoIpResolver;
+        this.slackMessageSender = slackMessageSender;
+        this.securityAlertCoalescer = securityAlertCoalescer;
     }
 
     public CompletableFuture<Boolean> sendSlackMessage(String webhookUrl, AlertType alertType, HttpServletRequest request, Object additionalData) {
-        List<LayoutBlock> blocks = createBlocks(alertType, request, additionalData);
-        return CompletableFuture.supplyAsync(() -> {
-            Payload payload = Payload.builder()
-                    .blocks(List.of(blocks.getFirst()))
-                    .attachments(Collections.singletonList(
-                            Attachment.builder()
-                                    .color(color)
-                                    .blocks(blocks.subList(1, blocks.size()))
-                                    .build()
-                    )).build();
-            try {
-                WebhookResponse response = slack.send(webhookUrl, payload);
-                if (response.getCode() == 200) {
-                    return true;
-                } else {
-                    log.error("Slack notification failed: {}", response.getMessage());
-                    return false;
-                }
-            } catch (IOException e) {
-                log.error("Failed to send Slack message: {}", e.getMessage(), e);
-                return false;
+        if (alertType instanceof SecurityAlertType securityAlertType && request != null) {
+            String clientIpAddress = HttpReqResUtil.getClientIpAddressIfServletRequestExist();
+            if (!securityAlertCoalescer.register(webhookUrl, securityAlertType, clientIpAddress, getFullUrl(request), String.valueOf(additionalData))) {
+                return CompletableFuture.completedFuture(true);
             }
-        });
+        }
+        List<LayoutBlock> blocks = createBlocks(alertType, request, additionalData);
+        if (blocks.isEmpty()) {
+            return CompletableFuture.completedFuture(false);
+        }
+        return slackMessageSender.send(webhookUrl, createPayload(blocks));
+    }
+
+    /**
+     * 병합 구간이 끝난 보안 경고를 요약 메시지로 발송합니다.
+     */
+    @Scheduled(fixedDelay = 1000)
+    public void sendCoalescedSecurityAlerts() {
+        for (SecurityAlertSummary summary : securityAlertCoalescer.drainClosedWindows()) {
+            slackMessageSender.send(summary.getWebhookUrl(), createPayload(createSecurityAlertSummaryBlocks(summary)));
+        }
+    }
+
+    private Payload createPayload(List<LayoutBlock> blocks) {
+        return Payload.builder()
+                .blocks(List.of(blocks.getFirst()))
+                .attachments(Collections.singletonList(
+                        Attachment.builder()
+                                .color(color)
+                                .blocks(blocks.subList(1, blocks.size()))
+                                .build()
+                )).build();
     }
 
     public List<LayoutBlock> createBlocks(AlertType alertType, HttpServletRequest request, Object additionalData) {
@@ -165,11 +175,9 @@ public class SlackServiceHelper {
 
     private List<LayoutBlock> createSecurityAlertBlocks(HttpServletRequest request, AlertType alertType, String additionalMessage) {
         String clientIpAddress = HttpReqResUtil.getClientIpAddressIfServletRequestExist();
-        String requestUrl = request.getRequestURI();
-        String queryString = request.getQueryString();
-        String fullUrl = queryString == null ? requestUrl : requestUrl + "?" + queryString;
+        String fullUrl = getFullUrl(request);
         String username = getUsername(request);
-        String location = getLocation(request);
+        String location = getLocation(clientIpAddress);
 
         return Arrays.asList(
                 section(section -> section.text(markdownText(String.format(":imp: *%s*", alertType.getTitle())))),
@@ -183,9 +191,24 @@ public class SlackServiceHelper {
         );
     }
 
+    private List<LayoutBlock> createSecurityAlertSummaryBlocks(SecurityAlertSummary summary) {
+        String location = getLocation(summary.getIpAddress());
+
+        return Arrays.asList(
+                section(section -> section.text(markdownText(String.format(":imp: *%s* (반복 경고 요약)", summary.getAlertType().getTitle())))),
+                section(section -> section.fields(Arrays.asList(
+                        markdownText("*IP Address:*\n" + summary.getIpAddress()),
+                        markdownText("*Location:*\n" + location),
+                        markdownText("*Last Endpoint:*\n" + summary.getLastEndpoint())
+                ))),
+                section(section -> section.text(markdownText(String.format("*Details:*\n최근 %d초 동안 같은 경고가 %d건 더 발생했습니다.\n%s",
+                        summary.getWindowSeconds(), summary.getSuppressedCount(), summary.getLastMessage()))))
+        );
+    }
+
     private List<LayoutBlock> createAdminLoginBlocks(HttpServletRequest request, MemberLoginInfoDto loginMember) {
         String clientIpAddress = HttpReqResUtil.getClientIpAddressIfServletRequestExist();
-        String location = getLocation(request);
+        String location = getLocation(clientIpAddress);
 
         return Arrays.asList(
                 section(section -> section.text(markdownText(String.format(":mechanic: *%s Login*", loginMember.getRole().getDescription())))),
@@ -311,6 +334,12 @@ public class SlackServiceHelper {
         return String.format("%dMB / %dMB (%.2f%%)", usedMemory, maxMemory, ((double) usedMemory / maxMemory) * 100);
     }
 
+    private String getFullUrl(HttpServletRequest request) {
+        String requestUrl = request.getRequestURI();
+        String queryString = request.getQueryString();
+        return queryString == null ? requestUrl : requestUrl + "?" + queryString;
+    }
+
     private @NotNull String getUsername(HttpServletRequest request) {
         Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
         return Optional.ofNullable(request.getAttribute("member"))
@@ -320,8 +349,8 @@ public class SlackServiceHelper {
                         .orElse("anonymous"));
     }
 
-    private @NotNull String getLocation(HttpServletRequest request) {
-        IPResponse ipResponse = attributeStrategy.getAttribute(request);
-        return ipResponse == null ? "Unknown" : ipResponse.getCountryName() + ", " + ipResponse.getCity();
+    private @NotNull String getLocation(String clientIpAddress) {
+        String country = geoIpResolver.resolveCountry(clientIpAddress);
+        return country == null ? "Unknown" : country;
     }
 }
@@ -0,0 +1,20 @@
+package page.clab.api.global.common.slack.domain;
+
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 병합 구간 동안 같은 IP에서 반복된 보안 경고를 하나로 요약한 정보입니다.
+ */
+@Getter
+@Builder
+public class SecurityAlertSummary {
+
+    private String webhookUrl;
+    private SecurityAlertType alertType;
+    private String ipAddress;
+    private int suppressedCount;
+    private String lastEndpoint;
+    private String lastMessage;
+    private long windowSeconds;
+}
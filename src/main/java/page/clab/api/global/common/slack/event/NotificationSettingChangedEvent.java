@@ -0,0 +1,16 @@
+package page.clab.api.global.common.slack.event;
+
+import lombok.Getter;
+import org.springframework.context.ApplicationEvent;
+import page.clab.api.global.common.slack.domain.AlertType;
+
+@Getter
+public class NotificationSettingChangedEvent extends ApplicationEvent {
+
+    private final AlertType alertType;
+
+    public NotificationSettingChangedEvent(Object source, AlertType alertType) {
+        super(source);
+        this.alertType = alertType;
+    }
+}
@@ -1,27 +1,30 @@
 package page.clab.api.global.common.slack.listener;
 
 import lombok.RequiredArgsConstructor;
-import org.springframework.context.event.EventListener;
 import org.springframework.stereotype.Component;
-import page.clab.api.global.common.slack.application.NotificationSettingService;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import page.clab.api.global.common.slack.application.NotificationSettingCache;
 import page.clab.api.global.common.slack.application.SlackServiceHelper;
 import page.clab.api.global.common.slack.domain.AlertType;
-import page.clab.api.global.common.slack.domain.NotificationSetting;
 import page.clab.api.global.common.slack.event.NotificationEvent;
 
+/**
+ * 알림 이벤트를 받아 Slack 메시지 발송을 요청합니다.
+ * 트랜잭션 안에서 발생한 알림은 커밋된 뒤에만 발송하며, 발송 여부는 메모리에 유지된 알림 설정으로 판단합니다.
+ * 메시지 내용은 요청 정보와 인증 정보가 필요하므로 이벤트를 발생시킨 스레드에서 만들고, 전송은 {@link page.clab.api.global.common.slack.application.SlackMessageSender}의 전용 스레드 풀에서 수행합니다.
+ */
 @Component
 @RequiredArgsConstructor
 public class NotificationListener {
 
-    private final NotificationSettingService settingService;
+    private final NotificationSettingCache notificationSettingCache;
     private final SlackServiceHelper slackServiceHelper;
 
-    @EventListener
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
     public void handleNotificationEvent(NotificationEvent event) {
         AlertType alertType = event.getAlertType();
-        NotificationSetting setting = settingService.getOrCreateDefaultSetting(alertType);
-
-        if (setting.isEnabled()) {
+        if (notificationSettingCache.isEnabled(alertType)) {
             slackServiceHelper.sendSlackMessage(event.getWebhookUrl(), alertType, event.getRequest(), event.getAdditionalData());
         }
     }
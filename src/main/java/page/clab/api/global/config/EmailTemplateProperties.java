@@ -1,11 +1,14 @@
 package page.clab.api.global.config;
 
+import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.Setter;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.stereotype.Component;
 import page.clab.api.global.common.email.domain.EmailTemplateType;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
 
 @Getter
@@ -24,10 +27,84 @@ public class EmailTemplateProperties {
         return template;
     }
 
+    /**
+     * 메일 본문 템플릿입니다.
+     * 본문은 설정을 읽을 때 한 번만 고정 문자열과 {{변수}} 자리로 나누어 두고,
+     * 발송할 때마다 나눈 조각을 이어 붙이는 방식으로 변수를 한 번에 치환합니다.
+     */
     @Getter
     @Setter
     public static class Template {
+
+        private static final String PLACEHOLDER_START = "{{";
+        private static final String PLACEHOLDER_END = "}}";
+
         private String subject;
         private String content;
+
+        @Getter(AccessLevel.NONE)
+        @Setter(AccessLevel.NONE)
+        private String[] segments = new String[0];
+
+        public void setContent(String content) {
+            this.content = content;
+            this.segments = compile(content);
+        }
+
+        /**
+         * 본문의 {{변수}} 자리를 주어진 값으로 치환합니다.
+         * 값이 주어지지 않은 자리는 그대로 남깁니다.
+         * @param variables 변수 이름과 값
+         * @return 변수가 치환된 본문
+         */
+        public String render(Map<String, String> variables) {
+            int capacity = content == null ? 0 : content.length();
+            for (String value : variables.values()) {
+                capacity += value.length();
+            }
+            StringBuilder builder = new StringBuilder(capacity);
+            for (int i = 0; i < segments.length; i++) {
+                String value = i % 2 == 1 ? variables.get(segments[i]) : null;
+                if (value != null) {
+                    builder.append(value);
+                } else if (i % 2 == 1) {
+                    builder.append(PLACEHOLDER_START).append(segments[i]).append(PLACEHOLDER_END);
+                } else {
+                    builder.append(segments[i]);
+                }
+            }
+            return builder.toString();
+        }
+
+        /**
+         * 본문을 고정 문자열과 변수 이름이 번갈아 오는 배열로 나눕니다.
+         * 짝수 위치는 고정 문자열, 홀수 위치는 변수 이름입니다.
+         */
+        private static String[] compile(String content) {
+            if (content == null) {
+                return new String[0];
+            }
+            List<String> segments = new ArrayList<>();
+            StringBuilder literal = new StringBuilder();
+            int position = 0;
+            while (true) {
+                int end = content.indexOf(PLACEHOLDER_END, position);
+                if (end < 0) {
+                    literal.append(content, position, content.length());
+                    segments.add(literal.toString());
+                    return segments.toArray(new String[0]);
+                }
+                int start = content.lastIndexOf(PLACEHOLDER_START, end - PLACEHOLDER_START.length());
+                if (start < position) {
+                    literal.append(content, position, end + PLACEHOLDER_END.length());
+                } else {
+                    literal.append(content, position, start);
+                    segments.add(literal.toString());
+                    segments.add(content.substring(start + PLACEHOLDER_START.length(), end));
+                    literal.setLength(0);
+                }
+                position = end + PLACEHOLDER_END.length();
+            }
+        }
     }
 }
@@ -0,0 +1,38 @@
+package page.clab.api.global.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.HashMap;
+import java.util.Map;
+
+@Setter
+@Getter
+@Configuration
+@ConfigurationProperties(prefix = "rate-limit")
+public class RateLimitProperties {
+
+    private boolean enabled = true;
+    private boolean distributed = true;
+    private long localMaximumSize = 100000;
+    private long localExpireMinutes = 10;
+    private Map<String, Route> routes = new HashMap<>();
+
+    @Setter
+    @Getter
+    public static class Route {
+
+        private Quota perIp;
+        private Quota perMember;
+    }
+
+    @Setter
+    @Getter
+    public static class Quota {
+
+        private int capacity;
+        private double permitsPerSecond;
+    }
+}
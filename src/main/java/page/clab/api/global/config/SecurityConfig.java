@@ -27,20 +27,23 @@ import page.clab.api.external.auth.blacklistIp.application.port.ExternalRetrieve
 import page.clab.api.external.auth.redisIpAccessMonitor.application.port.ExternalCheckIpBlockedUseCase;
 import page.clab.api.external.auth.redisIpAccessMonitor.application.port.ExternalRegisterIpAccessMonitorUseCase;
 import page.clab.api.external.auth.redisToken.application.port.ExternalManageRedisTokenUseCase;
+import page.clab.api.global.auth.filter.ClientAccessGateFilter;
 import page.clab.api.global.auth.filter.CustomBasicAuthenticationFilter;
+import page.clab.api.global.auth.filter.FileAccessControlFilter;
 import page.clab.api.global.auth.filter.InvalidEndpointAccessFilter;
 import page.clab.api.global.auth.filter.IpAuthenticationFilter;
 import page.clab.api.global.auth.filter.JwtAuthenticationFilter;
 import page.clab.api.global.auth.jwt.JwtTokenProvider;
 import page.clab.api.global.auth.util.IpWhitelistValidator;
 import page.clab.api.global.common.file.application.FileService;
+import page.clab.api.global.common.geoip.application.GeoIpResolver;
 import page.clab.api.global.common.slack.application.SlackService;
-import page.clab.api.global.filter.IPinfoSpringFilter;
 import page.clab.api.global.util.ApiLogger;
 import page.clab.api.global.util.HttpReqResUtil;
 import page.clab.api.global.util.ResponseUtil;
 
 import java.io.IOException;
+import java.util.List;
 
 @Configuration
 @EnableWebSecurity
@@ -58,7 +61,7 @@ public class SecurityConfig {
     private final IpWhitelistValidator ipWhitelistValidator;
     private final WhitelistAccountProperties whitelistAccountProperties;
     private final WhitelistPatternsProperties whitelistPatternsProperties;
-    private final IPInfoConfig ipInfoConfig;
+    private final GeoIpResolver geoIpResolver;
     private final AuthenticationConfig authenticationConfig;
     private final CorsConfigurationSource corsConfigurationSource;
     private final JwtTokenProvider jwtTokenProvider;
@@ -68,6 +71,9 @@ public class SecurityConfig {
     @Value("${resource.file.url}")
     String fileURL;
 
+    @Value("${security.access.allowed-countries}")
+    List<String> allowedCountries;
+
     @Bean
     public SecurityFilterChain filterChain(HttpSecurity http) throws Exception {
         AuthenticationManager authenticationManager = authenticationConfig.authenticationManager();
@@ -84,29 +90,29 @@ public class SecurityConfig {
                 )
                 .authenticationProvider(authenticationConfig.authenticationProvider())
                 .addFilterBefore(
-                        new IPinfoSpringFilter(ipInfoConfig),
+                        new ClientAccessGateFilter(geoIpResolver, ipWhitelistValidator, externalCheckIpBlockedUseCase, externalRetrieveBlacklistIpUseCase),
+                        UsernamePasswordAuthenticationFilter.class
+                )
+                .addFilterBefore(
+                        new IpAuthenticationFilter(allowedCountries),
                         UsernamePasswordAuthenticationFilter.class
                 )
                 .addFilterBefore(
-                        new IpAuthenticationFilter(ipInfoConfig),
+                        new InvalidEndpointAccessFilter(slackService, fileURL, externalRegisterBlacklistIpUseCase),
                         UsernamePasswordAuthenticationFilter.class
                 )
                 .addFilterBefore(
-                        new InvalidEndpointAccessFilter(slackService, fileURL, externalRegisterBlacklistIpUseCase, externalRetrieveBlacklistIpUseCase),
+                        new CustomBasicAuthenticationFilter(authenticationManager, slackService),
                         UsernamePasswordAuthenticationFilter.class
                 )
                 .addFilterBefore(
-                        new CustomBasicAuthenticationFilter(authenticationManager, ipWhitelistValidator, slackService, externalCheckIpBlockedUseCase, externalRetrieveBlacklistIpUseCase),
+                        new JwtAuthenticationFilter(slackService, jwtTokenProvider, externalManageRedisTokenUseCase),
                         UsernamePasswordAuthenticationFilter.class
                 )
                 .addFilterBefore(
-                        new JwtAuthenticationFilter(slackService, jwtTokenProvider, externalManageRedisTokenUseCase, externalCheckIpBlockedUseCase, externalRetrieveBlacklistIpUseCase),
+                        new FileAccessControlFilter(fileService, fileURL),
                         UsernamePasswordAuthenticationFilter.class
                 )
-//                .addFilterBefore(
-//                        new FileAccessControlFilter(fileService, fileURL),
-//                        UsernamePasswordAuthenticationFilter.class
-//                )
                 .exceptionHandling(httpSecurityExceptionHandlingConfigurer ->
                         httpSecurityExceptionHandlingConfigurer
                                 .authenticationEntryPoint(this::handleException)
@@ -125,7 +131,7 @@ public class SecurityConfig {
     }
 
     private void handleException(HttpServletRequest request, HttpServletResponse response, Exception exception) throws IOException {
-        String clientIpAddress = HttpReqResUtil.getClientIpAddressIfServletRequestExist();
+        String clientIpAddress = HttpReqResUtil.getClientIpAddress(request);
         String message;
         int statusCode;
 
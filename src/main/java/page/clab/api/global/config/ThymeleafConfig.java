@@ -1,5 +1,6 @@
 package page.clab.api.global.config;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.thymeleaf.spring6.templateresolver.SpringResourceTemplateResolver;
@@ -10,13 +11,16 @@ import java.util.Objects;
 @Configuration
 public class ThymeleafConfig {
 
+    @Value("${spring.thymeleaf.cache:true}")
+    private boolean cacheable;
+
     @Bean
     public SpringResourceTemplateResolver springResourceTemplateResolver() {
         SpringResourceTemplateResolver springResourceTemplateResolver = new SpringResourceTemplateResolver();
         springResourceTemplateResolver.setPrefix(Objects.requireNonNull(getClass().getResource("/templates/")).toString());
         springResourceTemplateResolver.setCharacterEncoding("UTF-8");
         springResourceTemplateResolver.setTemplateMode(TemplateMode.HTML);
-        springResourceTemplateResolver.setCacheable(false);
+        springResourceTemplateResolver.setCacheable(cacheable);
         return springResourceTemplateResolver;
     }
 }
@@ -2,62 +2,22 @@ package page.clab.api.global.config;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
-import lombok.extern.slf4j.Slf4j;
-import org.jetbrains.annotations.NotNull;
-import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.core.io.Resource;
-import org.springframework.http.CacheControl;
 import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
 import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
-import org.springframework.web.servlet.config.annotation.ResourceHandlerRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
-import org.springframework.web.servlet.resource.PathResourceResolver;
 import page.clab.api.global.handler.ApiLoggingInterceptor;
+import page.clab.api.global.handler.RateLimitInterceptor;
 import page.clab.api.global.util.HtmlCharacterEscapes;
 
-import java.io.FileNotFoundException;
-import java.io.IOException;
-import java.time.Duration;
-
 @Configuration
 @RequiredArgsConstructor
-@Slf4j
 public class WebConfig implements WebMvcConfigurer {
 
     private final ObjectMapper objectMapper;
     private final ApiLoggingInterceptor apiLoggingInterceptor;
-
-    @Value("${resource.file.path}")
-    private String filePath;
-
-    @Value("${resource.file.url}")
-    private String fileURL;
-
-    @Override
-    public void addResourceHandlers(ResourceHandlerRegistry registry) {
-        log.info("Resource UploadedFile Mapped : {} -> {}", fileURL, filePath);
-        CacheControl cacheControl = CacheControl.maxAge(Duration.ofDays(1))
-                .mustRevalidate()
-                .cachePrivate();
-
-        registry
-                .addResourceHandler(fileURL + "/**")
-                .addResourceLocations("file://" + filePath + "/")
-                .setCacheControl(cacheControl)
-                .resourceChain(true)
-                .addResolver(new PathResourceResolver() {
-                    @Override
-                    protected Resource getResource(@NotNull String resourcePath, @NotNull Resource location) throws IOException {
-                        Resource resource = location.createRelative(resourcePath);
-                        if (resource.exists() && resource.isReadable()) {
-                            return resource;
-                        }
-                        throw new FileNotFoundException("Resource not found: " + resourcePath);
-                    }
-                });
-    }
+    private final RateLimitInterceptor rateLimitInterceptor;
 
     @Bean
     public MappingJackson2HttpMessageConverter jsonEscapeConverter() {
@@ -69,5 +29,6 @@ public class WebConfig implements WebMvcConfigurer {
     @Override
     public void addInterceptors(InterceptorRegistry registry) {
         registry.addInterceptor(apiLoggingInterceptor);
+        registry.addInterceptor(rateLimitInterceptor);
     }
 }
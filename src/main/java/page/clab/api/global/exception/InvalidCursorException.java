@@ -0,0 +1,14 @@
+package page.clab.api.global.exception;
+
+public class InvalidCursorException extends RuntimeException {
+
+    private static final String DEFAULT_MESSAGE = "유효하지 않은 커서입니다.";
+
+    public InvalidCursorException() {
+        super(DEFAULT_MESSAGE);
+    }
+
+    public InvalidCursorException(String s) {
+        super(s);
+    }
+}
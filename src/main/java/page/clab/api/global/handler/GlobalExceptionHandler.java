@@ -13,6 +13,8 @@ import org.hibernate.query.sqm.UnknownPathException;
 import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.dao.IncorrectResultSizeDataAccessException;
 import org.springframework.dao.InvalidDataAccessApiUsageException;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.converter.HttpMessageNotReadableException;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.security.authentication.BadCredentialsException;
@@ -73,13 +75,16 @@ import page.clab.api.global.common.file.exception.CloudStorageNotEnoughException
 import page.clab.api.global.common.file.exception.DirectoryCreationException;
 import page.clab.api.global.common.file.exception.FilePermissionException;
 import page.clab.api.global.common.file.exception.FileUploadFailException;
+import page.clab.api.global.common.file.exception.ImageProcessingBusyException;
 import page.clab.api.global.common.file.exception.InvalidFileAttributeException;
 import page.clab.api.global.common.file.exception.InvalidPathVariableException;
+import page.clab.api.global.common.ratelimit.exception.RateLimitExceededException;
 import page.clab.api.global.common.slack.application.SlackService;
 import page.clab.api.global.exception.CustomOptimisticLockingFailureException;
 import page.clab.api.global.exception.DecryptionException;
 import page.clab.api.global.exception.EncryptionException;
 import page.clab.api.global.exception.InvalidColumnException;
+import page.clab.api.global.exception.InvalidCursorException;
 import page.clab.api.global.exception.InvalidDateRangeException;
 import page.clab.api.global.exception.InvalidEmojiException;
 import page.clab.api.global.exception.InvalidInformationException;
@@ -105,6 +110,7 @@ public class GlobalExceptionHandler {
             InvalidCategoryException.class,
             InvalidDateRangeException.class,
             InvalidColumnException.class,
+            InvalidCursorException.class,
             InvalidEmojiException.class,
             InvalidRoleChangeException.class,
             InvalidRoleException.class,
@@ -179,6 +185,15 @@ public class GlobalExceptionHandler {
         return ApiResponse.failure();
     }
 
+    @ExceptionHandler({
+            RateLimitExceededException.class
+    })
+    public ApiResponse<Void> tooManyRequestsException(HttpServletResponse response, RateLimitExceededException e) {
+        response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(e.getRetryAfterSeconds()));
+        response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+        return ApiResponse.failure();
+    }
+
     @ExceptionHandler({
             AccuseTargetTypeIncorrectException.class,
             NotApprovedApplicationException.class,
@@ -186,6 +201,7 @@ public class GlobalExceptionHandler {
             DuplicateMemberContactException.class,
             DuplicateMemberEmailException.class,
             CloudStorageNotEnoughException.class,
+            ImageProcessingBusyException.class,
             ActivityGroupNotFinishedException.class,
             ActivityGroupNotProgressingException.class,
             AlreadySubmittedThisWeekAssignmentException.class,
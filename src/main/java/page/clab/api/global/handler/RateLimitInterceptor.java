@@ -0,0 +1,56 @@
+package page.clab.api.global.handler;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.validation.constraints.NotNull;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+import page.clab.api.global.common.ratelimit.annotation.RateLimit;
+import page.clab.api.global.common.ratelimit.application.RateLimitService;
+import page.clab.api.global.util.HttpReqResUtil;
+
+/**
+ * {@link RateLimit}이 지정된 컨트롤러로 향하는 요청에 처리량 제한을 적용합니다.
+ * 제한을 넘은 요청은 컨트롤러를 호출하지 않고 429 응답과 Retry-After 헤더를 받습니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class RateLimitInterceptor implements HandlerInterceptor {
+
+    private final RateLimitService rateLimitService;
+
+    @Override
+    public boolean preHandle(@NotNull HttpServletRequest request, @NotNull HttpServletResponse response, @NotNull Object handler) {
+        if (!(handler instanceof HandlerMethod handlerMethod)) {
+            return true;
+        }
+        RateLimit rateLimit = findRateLimit(handlerMethod);
+        if (rateLimit == null) {
+            return true;
+        }
+        rateLimitService.acquire(rateLimit.value(), HttpReqResUtil.getClientIpAddress(request), getAuthenticatedMemberId());
+        return true;
+    }
+
+    private RateLimit findRateLimit(HandlerMethod handlerMethod) {
+        RateLimit rateLimit = AnnotatedElementUtils.findMergedAnnotation(handlerMethod.getMethod(), RateLimit.class);
+        if (rateLimit != null) {
+            return rateLimit;
+        }
+        return AnnotatedElementUtils.findMergedAnnotation(handlerMethod.getBeanType(), RateLimit.class);
+    }
+
+    private String getAuthenticatedMemberId() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || !authentication.isAuthenticated() || authentication instanceof AnonymousAuthenticationToken) {
+            return null;
+        }
+        return authentication.getName();
+    }
+}
@@ -0,0 +1,144 @@
+package page.clab.api.global.util;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Queue;
+
+/**
+ * 여러 키워드를 하나의 Aho-Corasick 오토마톤으로 컴파일하여, 입력 문자열을 한 번만 순회하며 검사하는 매처입니다.
+ * 실패 링크를 미리 계산한 DFA 형태로 구성되므로, 입력 문자 하나당 배열 조회 한 번으로 상태가 전이됩니다.
+ * 입력은 ASCII 기준으로 대소문자를 구분하지 않으며, 검사 중에 퍼센트 인코딩(%XX)을 디코딩합니다.
+ */
+public class AhoCorasickMatcher {
+
+    private static final int ALPHABET_SIZE = 128;
+    private static final int[] NO_MATCH = new int[0];
+
+    private final int[][] transitions;
+    private final int[][] containsOutputs;
+    private final int[][] suffixOutputs;
+
+    /**
+     * @param keywords 검사할 키워드 목록
+     * @param suffixOnly 각 키워드가 문자열의 끝에서만 일치해야 하는지 여부
+     */
+    public AhoCorasickMatcher(List<String> keywords, boolean[] suffixOnly) {
+        List<int[]> trie = new ArrayList<>();
+        List<List<Integer>> containsOutputList = new ArrayList<>();
+        List<List<Integer>> suffixOutputList = new ArrayList<>();
+        trie.add(newState());
+        containsOutputList.add(new ArrayList<>());
+        suffixOutputList.add(new ArrayList<>());
+
+        for (int index = 0; index < keywords.size(); index++) {
+            int state = 0;
+            for (char c : keywords.get(index).toCharArray()) {
+                int symbol = normalize(c);
+                if (symbol < 0) {
+                    throw new IllegalArgumentException("Keyword must consist of ASCII characters: " + keywords.get(index));
+                }
+                if (trie.get(state)[symbol] < 0) {
+                    trie.get(state)[symbol] = trie.size();
+                    trie.add(newState());
+                    containsOutputList.add(new ArrayList<>());
+                    suffixOutputList.add(new ArrayList<>());
+                }
+                state = trie.get(state)[symbol];
+            }
+            (suffixOnly[index] ? suffixOutputList : containsOutputList).get(state).add(index);
+        }
+
+        int stateCount = trie.size();
+        int[] failure = new int[stateCount];
+        int[][] table = new int[stateCount][];
+        table[0] = trie.get(0);
+        Queue<Integer> queue = new ArrayDeque<>();
+        for (int symbol = 0; symbol < ALPHABET_SIZE; symbol++) {
+            int next = table[0][symbol];
+            if (next < 0) {
+                table[0][symbol] = 0;
+            } else {
+                failure[next] = 0;
+                queue.add(next);
+            }
+        }
+        while (!queue.isEmpty()) {
+            int state = queue.poll();
+            table[state] = trie.get(state);
+            containsOutputList.get(state).addAll(containsOutputList.get(failure[state]));
+            suffixOutputList.get(state).addAll(suffixOutputList.get(failure[state]));
+            for (int symbol = 0; symbol < ALPHABET_SIZE; symbol++) {
+                int next = table[state][symbol];
+                if (next < 0) {
+                    table[state][symbol] = table[failure[state]][symbol];
+                } else {
+                    failure[next] = table[failure[state]][symbol];
+                    queue.add(next);
+                }
+            }
+        }
+
+        this.transitions = table;
+        this.containsOutputs = toArrays(containsOutputList);
+        this.suffixOutputs = toArrays(suffixOutputList);
+    }
+
+    /**
+     * 입력 문자열에서 처음으로 일치한 키워드의 인덱스를 반환합니다.
+     * @param input 검사할 문자열
+     * @return 일치한 키워드의 인덱스, 일치하는 키워드가 없으면 -1
+     */
+    public int findFirst(String input) {
+        if (input == null) {
+            return -1;
+        }
+        int state = 0;
+        int length = input.length();
+        int i = 0;
+        while (i < length) {
+            char c = input.charAt(i);
+            if (c == '%' && i + 2 < length) {
+                int high = Character.digit(input.charAt(i + 1), 16);
+                int low = Character.digit(input.charAt(i + 2), 16);
+                if (high >= 0 && low >= 0) {
+                    c = (char) ((high << 4) | low);
+                    i += 2;
+                }
+            }
+            i++;
+            int symbol = normalize(c);
+            state = symbol < 0 ? 0 : transitions[state][symbol];
+            if (containsOutputs[state].length > 0) {
+                return containsOutputs[state][0];
+            }
+        }
+        return suffixOutputs[state].length > 0 ? suffixOutputs[state][0] : -1;
+    }
+
+    private static int normalize(char c) {
+        if (c >= 'A' && c <= 'Z') {
+            return c + ('a' - 'A');
+        }
+        return c < ALPHABET_SIZE ? c : -1;
+    }
+
+    private static int[] newState() {
+        int[] state = new int[ALPHABET_SIZE];
+        Arrays.fill(state, -1);
+        return state;
+    }
+
+    private static int[][] toArrays(List<List<Integer>> outputs) {
+        int[][] result = new int[outputs.size()][];
+        for (int i = 0; i < outputs.size(); i++) {
+            List<Integer> output = outputs.get(i);
+            result[i] = output.isEmpty() ? NO_MATCH : output.stream()
+                    .mapToInt(Integer::intValue)
+                    .sorted()
+                    .toArray();
+        }
+        return result;
+    }
+}
@@ -1,75 +1,74 @@
 package page.clab.api.global.util;
 
-import io.ipinfo.api.request.IPRequest;
 import jakarta.servlet.http.HttpServletRequest;
 import org.springframework.web.context.request.RequestContextHolder;
 import org.springframework.web.context.request.ServletRequestAttributes;
 
-import java.util.Arrays;
-
 public class HttpReqResUtil {
 
-    private static final IPRequest.IpAddressMatcher[] IpAddressMatcherList = {
+    private static final String[] BOGON_RANGES = {
             // IPv4
-            new IPRequest.IpAddressMatcher("0.0.0.0/8"),
-            new IPRequest.IpAddressMatcher("10.0.0.0/8"),
-            new IPRequest.IpAddressMatcher("100.64.0.0/10"),
-            new IPRequest.IpAddressMatcher("127.0.0.0/8"),
-            new IPRequest.IpAddressMatcher("169.254.0.0/16"),
-            new IPRequest.IpAddressMatcher("172.16.0.0/12"),
-            new IPRequest.IpAddressMatcher("192.0.0.0/24"),
-            new IPRequest.IpAddressMatcher("192.0.2.0/24"),
-            new IPRequest.IpAddressMatcher("192.168.0.0/16"),
-            new IPRequest.IpAddressMatcher("198.18.0.0/15"),
-            new IPRequest.IpAddressMatcher("198.51.100.0/24"),
-            new IPRequest.IpAddressMatcher("203.0.113.0/24"),
-            new IPRequest.IpAddressMatcher("224.0.0.0/4"),
-            new IPRequest.IpAddressMatcher("240.0.0.0/4"),
-            new IPRequest.IpAddressMatcher("255.255.255.255/32"),
+            "0.0.0.0/8",
+            "10.0.0.0/8",
+            "100.64.0.0/10",
+            "127.0.0.0/8",
+            "169.254.0.0/16",
+            "172.16.0.0/12",
+            "192.0.0.0/24",
+            "192.0.2.0/24",
+            "192.168.0.0/16",
+            "198.18.0.0/15",
+            "198.51.100.0/24",
+            "203.0.113.0/24",
+            "224.0.0.0/4",
+            "240.0.0.0/4",
+            "255.255.255.255/32",
             // IPv6
-            new IPRequest.IpAddressMatcher("::/128"),
-            new IPRequest.IpAddressMatcher("::1/128"),
-            new IPRequest.IpAddressMatcher("::ffff:0:0/96"),
-            new IPRequest.IpAddressMatcher("::/96"),
-            new IPRequest.IpAddressMatcher("100::/64"),
-            new IPRequest.IpAddressMatcher("2001:10::/28"),
-            new IPRequest.IpAddressMatcher("2001:db8::/32"),
-            new IPRequest.IpAddressMatcher("fc00::/7"),
-            new IPRequest.IpAddressMatcher("fe80::/10"),
-            new IPRequest.IpAddressMatcher("fec0::/10"),
-            new IPRequest.IpAddressMatcher("ff00::/8"),
+            "::/128",
+            "::1/128",
+            "::ffff:0:0/96",
+            "::/96",
+            "100::/64",
+            "2001:10::/28",
+            "2001:db8::/32",
+            "fc00::/7",
+            "fe80::/10",
+            "fec0::/10",
+            "ff00::/8",
             // 6to4
-            new IPRequest.IpAddressMatcher("2002::/24"),
-            new IPRequest.IpAddressMatcher("2002:a00::/24"),
-            new IPRequest.IpAddressMatcher("2002:7f00::/24"),
-            new IPRequest.IpAddressMatcher("2002:a9fe::/32"),
-            new IPRequest.IpAddressMatcher("2002:ac10::/28"),
-            new IPRequest.IpAddressMatcher("2002:c000::/40"),
-            new IPRequest.IpAddressMatcher("2002:c000:200::/40"),
-            new IPRequest.IpAddressMatcher("2002:c0a8::/32"),
-            new IPRequest.IpAddressMatcher("2002:c612::/31"),
-            new IPRequest.IpAddressMatcher("2002:c633:6400::/40"),
-            new IPRequest.IpAddressMatcher("2002:cb00:7100::/40"),
-            new IPRequest.IpAddressMatcher("2002:e000::/20"),
-            new IPRequest.IpAddressMatcher("2002:f000::/20"),
-            new IPRequest.IpAddressMatcher("2002:ffff:ffff::/48"),
+            "2002::/24",
+            "2002:a00::/24",
+            "2002:7f00::/24",
+            "2002:a9fe::/32",
+            "2002:ac10::/28",
+            "2002:c000::/40",
+            "2002:c000:200::/40",
+            "2002:c0a8::/32",
+            "2002:c612::/31",
+            "2002:c633:6400::/40",
+            "2002:cb00:7100::/40",
+            "2002:e000::/20",
+            "2002:f000::/20",
+            "2002:ffff:ffff::/48",
             // Teredo
-            new IPRequest.IpAddressMatcher("2001::/40"),
-            new IPRequest.IpAddressMatcher("2001:0:a00::/40"),
-            new IPRequest.IpAddressMatcher("2001:0:7f00::/40"),
-            new IPRequest.IpAddressMatcher("2001:0:a9fe::/48"),
-            new IPRequest.IpAddressMatcher("2001:0:ac10::/44"),
-            new IPRequest.IpAddressMatcher("2001:0:c000::/56"),
-            new IPRequest.IpAddressMatcher("2001:0:c000:200::/56"),
-            new IPRequest.IpAddressMatcher("2001:0:c0a8::/48"),
-            new IPRequest.IpAddressMatcher("2001:0:c612::/47"),
-            new IPRequest.IpAddressMatcher("2001:0:c633:6400::/56"),
-            new IPRequest.IpAddressMatcher("2001:0:cb00:7100::/56"),
-            new IPRequest.IpAddressMatcher("2001:0:e000::/36"),
-            new IPRequest.IpAddressMatcher("2001:0:f000::/36"),
-            new IPRequest.IpAddressMatcher("2001:0:ffff:ffff::/64")
+            "2001::/40",
+            "2001:0:a00::/40",
+            "2001:0:7f00::/40",
+            "2001:0:a9fe::/48",
+            "2001:0:ac10::/44",
+            "2001:0:c000::/56",
+            "2001:0:c000:200::/56",
+            "2001:0:c0a8::/48",
+            "2001:0:c612::/47",
+            "2001:0:c633:6400::/56",
+            "2001:0:cb00:7100::/56",
+            "2001:0:e000::/36",
+            "2001:0:f000::/36",
+            "2001:0:ffff:ffff::/64"
     };
 
+    private static final IpRangeTrie<Boolean> BOGON_RANGE_TRIE = createBogonRangeTrie();
+
     private static final String[] IP_HEADER_CANDIDATES = {
             "X-Forwarded-For",
             "Proxy-Client-IP",
@@ -84,11 +83,31 @@ public class HttpReqResUtil {
             "REMOTE_ADDR"
     };
 
+    private static final String CLIENT_IP_ADDRESS_ATTRIBUTE = HttpReqResUtil.class.getName() + ".CLIENT_IP_ADDRESS";
+
     public static String getClientIpAddressIfServletRequestExist() {
         if (RequestContextHolder.getRequestAttributes() == null) {
             return "0.0.0.0";
         }
         HttpServletRequest request = ((ServletRequestAttributes) RequestContextHolder.getRequestAttributes()).getRequest();
+        return getClientIpAddress(request);
+    }
+
+    /**
+     * 요청 헤더에서 클라이언트 IP를 확인합니다.
+     * 확인한 IP는 요청 속성에 저장하여, 같은 요청에서는 헤더를 다시 해석하지 않습니다.
+     */
+    public static String getClientIpAddress(HttpServletRequest request) {
+        Object cached = request.getAttribute(CLIENT_IP_ADDRESS_ATTRIBUTE);
+        if (cached instanceof String clientIpAddress) {
+            return clientIpAddress;
+        }
+        String clientIpAddress = resolveClientIpAddress(request);
+        request.setAttribute(CLIENT_IP_ADDRESS_ATTRIBUTE, clientIpAddress);
+        return clientIpAddress;
+    }
+
+    private static String resolveClientIpAddress(HttpServletRequest request) {
         for (String header : IP_HEADER_CANDIDATES) {
             String ipList = request.getHeader(header);
             if (ipList != null && !ipList.isEmpty() && !"unknown".equalsIgnoreCase(ipList)) {
@@ -99,7 +118,14 @@ public class HttpReqResUtil {
     }
 
     public static boolean isBogonRequest(String ip) {
-        return Arrays.stream(IpAddressMatcherList)
-                .anyMatch(ipAddressMatcher -> ipAddressMatcher.matches(ip));
+        return BOGON_RANGE_TRIE.contains(ip);
+    }
+
+    private static IpRangeTrie<Boolean> createBogonRangeTrie() {
+        IpRangeTrie<Boolean> ipRangeTrie = new IpRangeTrie<>();
+        for (String range : BOGON_RANGES) {
+            ipRangeTrie.insert(range, Boolean.TRUE);
+        }
+        return ipRangeTrie;
     }
 }
@@ -1,8 +1,5 @@
 package page.clab.api.global.util;
 
-import io.ipinfo.api.model.IPResponse;
-import io.ipinfo.spring.strategies.attribute.AttributeStrategy;
-import jakarta.servlet.http.HttpServletRequest;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatusCode;
 import org.springframework.http.MediaType;
@@ -17,12 +14,10 @@ public class IPInfoUtil {
 
     private static RestClient restClient;
     private static String accessToken;
-    private static AttributeStrategy attributeStrategy;
 
     public IPInfoUtil(IPInfoConfig ipInfoConfig) {
         restClient = ipInfoConfig.getRestClient();
         accessToken = ipInfoConfig.getAccessToken();
-        IPInfoUtil.attributeStrategy = ipInfoConfig.attributeStrategy();
     }
 
     public static IPInfoResponse getIpInfo(String ipAddress) {
@@ -35,13 +30,4 @@ public class IPInfoUtil {
                     log.warn("4xx error occurred while getting ip info. Status code: {}", response.getStatusCode())))
                 .body(IPInfoResponse.class);
     }
-
-    public static IPResponse getIpInfo(HttpServletRequest request) {
-        IPResponse ipResponse = attributeStrategy.getAttribute(request);
-        if (ipResponse == null) {
-            log.warn("Failed to get geolocation information from IPInfo. IPResponse is null.");
-            return null;
-        }
-        return ipResponse;
-    }
 }
@@ -6,79 +6,277 @@ import com.drew.metadata.Directory;
 import com.drew.metadata.Metadata;
 import com.drew.metadata.MetadataException;
 import com.drew.metadata.exif.ExifIFD0Directory;
+import javax.imageio.IIOImage;
 import javax.imageio.ImageIO;
 import javax.imageio.ImageWriteParam;
 import javax.imageio.ImageWriter;
+import javax.imageio.stream.FileImageOutputStream;
+import javax.imageio.stream.ImageOutputStream;
+import javax.imageio.stream.MemoryCacheImageInputStream;
 import lombok.extern.slf4j.Slf4j;
-import org.apache.commons.io.FilenameUtils;
 import org.imgscalr.Scalr;
-import org.springframework.security.core.parameters.P;
+import org.springframework.core.io.InputStreamSource;
 import org.springframework.web.multipart.MultipartFile;
-import page.clab.api.global.exception.ImageCompressionException;
 
 import java.awt.image.BufferedImage;
 import java.awt.image.BufferedImageOp;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
 import java.io.File;
 import java.io.FileOutputStream;
 import java.io.IOException;
-import java.io.OutputStream;
-import java.nio.file.Path;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
 import java.util.Iterator;
+import java.util.Set;
 
 @Slf4j
 public class ImageUtil {
 
+    private static final int JPEG_MARKER_PREFIX = 0xFF;
+    private static final int JPEG_SOI = 0xD8;
+    private static final int JPEG_EOI = 0xD9;
+    private static final int JPEG_SOS = 0xDA;
+    private static final int JPEG_COM = 0xFE;
+    private static final int JPEG_APP1 = 0xE1;
+    private static final int JPEG_APP2 = 0xE2;
+    private static final int JPEG_APP14 = 0xEE;
+    private static final int JPEG_APP15 = 0xEF;
+
+    private static final byte[] PNG_SIGNATURE = {(byte) 0x89, 'P', 'N', 'G', '\r', '\n', 0x1A, '\n'};
+    private static final Set<String> PNG_METADATA_CHUNKS = Set.of("tEXt", "zTXt", "iTXt", "eXIf", "tIME");
+
     /**
-     * 이미지 파일의 방향을 조정합니다.
+     * 업로드된 이미지를 EXIF 방향 정보에 맞게 회전하여 파일로 저장합니다.
+     * 업로드 스트림에서 직접 메타데이터를 읽고 한 번만 디코딩하며, 임시 파일이나 ImageIO 디스크 캐시를 거치지 않고
+     * 대상 파일에 한 번만 인코딩합니다.
      *
      * @param multipartFile 이미지 파일
-     * @return 방향이 조정된 BufferedImage 객체
-     * @throws Exception 이미지 처리 중 예외 발생 시
+     * @param file          저장할 파일
+     * @param formatName    이미지 포맷 (파일 확장자)
+     * @param quality       압축 품질 (0.0 ~ 1.0), 압축하지 않을 경우 null
+     * @throws IOException 이미지를 읽거나 쓰는 중 예외 발생 시
      */
-    public static BufferedImage adjustImageDirection(MultipartFile multipartFile) throws Exception {
-        Path tempFilePath = TempFileUtil.createSecureTempFile("temp", null);
+    public static void writeImage(MultipartFile multipartFile, File file, String formatName, Float quality) throws IOException {
+        BufferedImage image = adjustImageDirection(multipartFile);
+        if (image == null) {
+            throw new IOException("이미지를 읽을 수 없습니다.");
+        }
+        writeImage(image, file, formatName, quality);
+    }
 
-        File tempFile = tempFilePath.toFile();
-        multipartFile.transferTo(tempFile);
-        BufferedImage bufferedImage = null;
-        try {
-            bufferedImage = ImageIO.read(tempFile);
-            int originalDirection = getImageDirection(tempFile);
-            switch (originalDirection) {
-                case 1:
-                    break;
-                case 3:
-                    bufferedImage = Scalr.rotate(bufferedImage, Scalr.Rotation.CW_180, (BufferedImageOp[]) null);
-                    break;
-                case 6:
-                    bufferedImage = Scalr.rotate(bufferedImage, Scalr.Rotation.CW_90, (BufferedImageOp[]) null);
-                    break;
-                case 8:
-                    bufferedImage = Scalr.rotate(bufferedImage, Scalr.Rotation.CW_270, (BufferedImageOp[]) null);
-                    break;
+    /**
+     * 이미지를 지정된 포맷과 압축 품질로 파일에 한 번만 인코딩합니다.
+     *
+     * @param image      저장할 이미지
+     * @param file       저장할 파일
+     * @param formatName 이미지 포맷 (파일 확장자)
+     * @param quality    압축 품질 (0.0 ~ 1.0), 압축하지 않을 경우 null
+     * @throws IOException 이미지를 쓰는 중 예외 발생 시
+     */
+    public static void writeImage(BufferedImage image, File file, String formatName, Float quality) throws IOException {
+        Iterator<ImageWriter> writers = ImageIO.getImageWritersByFormatName(formatName);
+        if (!writers.hasNext()) {
+            throw new IOException("지원하지 않는 이미지 포맷입니다: " + formatName);
+        }
+        ImageWriter writer = writers.next();
+        try (ImageOutputStream outputStream = new FileImageOutputStream(file)) {
+            writer.setOutput(outputStream);
+            writer.write(null, new IIOImage(image, null, null), createWriteParam(writer, quality));
+        } finally {
+            writer.dispose();
+        }
+    }
+
+    /**
+     * 업로드된 JPEG 또는 PNG 이미지를 디코딩하지 않고, 위치 정보 등이 담긴 메타데이터만 제거하여 파일로 저장합니다.
+     * JPEG은 EXIF/XMP(APP1), IPTC(APP13) 등 APP 세그먼트와 주석을 제거하되 색상 해석에 필요한 JFIF(APP0),
+     * ICC 프로파일(APP2), Adobe(APP14) 세그먼트는 유지하고, PNG는 텍스트, EXIF, 시각 청크를 제거합니다.
+     * 형식은 확장자가 아닌 파일 시그니처로 판별합니다.
+     *
+     * @param multipartFile 이미지 파일
+     * @param file          저장할 파일
+     * @throws IOException JPEG 또는 PNG 이미지가 아니거나 파일을 읽고 쓰는 중 예외 발생 시
+     */
+    public static void writeWithoutMetadata(MultipartFile multipartFile, File file) throws IOException {
+        try (DataInputStream inputStream = new DataInputStream(new BufferedInputStream(multipartFile.getInputStream()));
+             DataOutputStream outputStream = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(file)))) {
+            inputStream.mark(PNG_SIGNATURE.length);
+            byte[] signature = new byte[PNG_SIGNATURE.length];
+            inputStream.readFully(signature);
+            inputStream.reset();
+            if ((signature[0] & 0xFF) == JPEG_MARKER_PREFIX && (signature[1] & 0xFF) == JPEG_SOI) {
+                copyJpegWithoutMetadata(inputStream, outputStream);
+            } else if (Arrays.equals(signature, PNG_SIGNATURE)) {
+                copyPngWithoutMetadata(inputStream, outputStream);
+            } else {
+                throw new IOException("지원하지 않는 이미지 형식입니다.");
+            }
+        }
+    }
+
+    private static void copyJpegWithoutMetadata(DataInputStream inputStream, DataOutputStream outputStream) throws IOException {
+        inputStream.skipNBytes(2);
+        outputStream.write(JPEG_MARKER_PREFIX);
+        outputStream.write(JPEG_SOI);
+        while (true) {
+            if (inputStream.readUnsignedByte() != JPEG_MARKER_PREFIX) {
+                throw new IOException("JPEG 세그먼트 형식이 올바르지 않습니다.");
+            }
+            int marker;
+            do {
+                marker = inputStream.readUnsignedByte();
+            } while (marker == JPEG_MARKER_PREFIX);
+
+            if (marker == JPEG_EOI) {
+                outputStream.write(JPEG_MARKER_PREFIX);
+                outputStream.write(JPEG_EOI);
+                return;
             }
+            if (marker == 0x01 || (marker >= 0xD0 && marker <= 0xD7)) {
+                outputStream.write(JPEG_MARKER_PREFIX);
+                outputStream.write(marker);
+                continue;
+            }
+            int length = inputStream.readUnsignedShort();
+            if (length < 2) {
+                throw new IOException("JPEG 세그먼트 길이가 올바르지 않습니다.");
+            }
+            if (isJpegMetadataSegment(marker)) {
+                inputStream.skipNBytes(length - 2);
+                continue;
+            }
+            outputStream.write(JPEG_MARKER_PREFIX);
+            outputStream.write(marker);
+            outputStream.writeShort(length);
+            copyBytes(inputStream, outputStream, length - 2);
+            if (marker == JPEG_SOS) {
+                inputStream.transferTo(outputStream);
+                return;
+            }
+        }
+    }
+
+    private static boolean isJpegMetadataSegment(int marker) {
+        return marker == JPEG_COM
+                || (marker >= JPEG_APP1 && marker <= JPEG_APP15 && marker != JPEG_APP2 && marker != JPEG_APP14);
+    }
+
+    private static void copyPngWithoutMetadata(DataInputStream inputStream, DataOutputStream outputStream) throws IOException {
+        copyBytes(inputStream, outputStream, PNG_SIGNATURE.length);
+        while (true) {
+            int length = inputStream.readInt();
+            if (length < 0) {
+                throw new IOException("PNG 청크 길이가 올바르지 않습니다.");
+            }
+            byte[] type = new byte[4];
+            inputStream.readFully(type);
+            String chunkType = new String(type, StandardCharsets.US_ASCII);
+            if (PNG_METADATA_CHUNKS.contains(chunkType)) {
+                inputStream.skipNBytes(length + 4L);
+                continue;
+            }
+            outputStream.writeInt(length);
+            outputStream.write(type);
+            copyBytes(inputStream, outputStream, length + 4L);
+            if ("IEND".equals(chunkType)) {
+                return;
+            }
+        }
+    }
 
-            if (tempFile.exists() && !tempFile.delete()) {
-                throw new IOException("Failed to delete image file: " + tempFile.getAbsolutePath());
+    private static void copyBytes(InputStream inputStream, DataOutputStream outputStream, long count) throws IOException {
+        byte[] buffer = new byte[8192];
+        long remaining = count;
+        while (remaining > 0) {
+            int read = inputStream.read(buffer, 0, (int) Math.min(buffer.length, remaining));
+            if (read < 0) {
+                throw new IOException("이미지 파일이 중간에 끝났습니다.");
             }
-            return bufferedImage;
+            outputStream.write(buffer, 0, read);
+            remaining -= read;
+        }
+    }
+
+    /**
+     * 이미지의 긴 변이 지정된 크기를 넘지 않도록 비율을 유지하여 축소합니다.
+     * 이미 지정된 크기 이하인 이미지는 확대하지 않고 그대로 반환합니다.
+     *
+     * @param image   축소할 이미지
+     * @param maxSize 긴 변의 최대 픽셀 수
+     * @return 축소된 이미지
+     */
+    public static BufferedImage resize(BufferedImage image, int maxSize) {
+        if (Math.max(image.getWidth(), image.getHeight()) <= maxSize) {
+            return image;
+        }
+        return Scalr.resize(image, Scalr.Method.QUALITY, Scalr.Mode.AUTOMATIC, maxSize, maxSize, (BufferedImageOp[]) null);
+    }
+
+    /**
+     * 이미지 파일의 방향을 조정합니다.
+     *
+     * @param source 이미지 파일 (업로드 파일 또는 저장된 파일)
+     * @return 방향이 조정된 BufferedImage 객체
+     * @throws IOException 이미지를 읽는 중 예외 발생 시
+     */
+    public static BufferedImage adjustImageDirection(InputStreamSource source) throws IOException {
+        BufferedImage bufferedImage;
+        try (InputStream inputStream = new BufferedInputStream(source.getInputStream())) {
+            bufferedImage = ImageIO.read(new MemoryCacheImageInputStream(inputStream));
+        }
+        if (bufferedImage == null) {
+            return null;
+        }
+
+        return rotate(bufferedImage, readImageDirection(source));
+    }
+
+    /**
+     * 이미지 파일의 EXIF 방향 정보를 읽습니다. 픽셀 데이터는 디코딩하지 않습니다.
+     *
+     * @param source 이미지 파일
+     * @return 이미지 방향 정보, 읽을 수 없으면 1(회전 없음)
+     */
+    public static int readImageDirection(InputStreamSource source) {
+        try (InputStream inputStream = new BufferedInputStream(source.getInputStream())) {
+            return getImageDirection(inputStream);
         } catch (Exception e) {
-            return bufferedImage;
+            return 1;
         }
     }
 
     /**
-     * 이미지 파일의 방향을 가져옵니다.
+     * 이미지를 EXIF 방향 정보에 맞게 회전합니다.
      *
-     * @param tempFile 임시 이미지 파일
+     * @param bufferedImage 회전할 이미지
+     * @param direction     EXIF 방향 정보
+     * @return 회전된 이미지, 회전이 필요 없으면 원래 이미지
+     */
+    public static BufferedImage rotate(BufferedImage bufferedImage, int direction) {
+        return switch (direction) {
+            case 3 -> Scalr.rotate(bufferedImage, Scalr.Rotation.CW_180, (BufferedImageOp[]) null);
+            case 6 -> Scalr.rotate(bufferedImage, Scalr.Rotation.CW_90, (BufferedImageOp[]) null);
+            case 8 -> Scalr.rotate(bufferedImage, Scalr.Rotation.CW_270, (BufferedImageOp[]) null);
+            default -> bufferedImage;
+        };
+    }
+
+    /**
+     * 이미지의 방향을 가져옵니다.
+     *
+     * @param inputStream 이미지 스트림
      * @return 이미지 방향 정보
      */
-    public static int getImageDirection(File tempFile) throws IOException, ImageProcessingException, MetadataException {
+    public static int getImageDirection(InputStream inputStream) throws IOException, ImageProcessingException, MetadataException {
         int originalDirection = 1;
         try {
-            Metadata metadata = ImageMetadataReader.readMetadata(tempFile);
+            Metadata metadata = ImageMetadataReader.readMetadata(inputStream);
             Directory directory = metadata.getFirstDirectoryOfType(ExifIFD0Directory.class);
-            if (directory != null) {
+            if (directory != null && directory.containsTag(ExifIFD0Directory.TAG_ORIENTATION)) {
                 originalDirection = directory.getInt(ExifIFD0Directory.TAG_ORIENTATION);
             }
         } catch (IOException e) {
@@ -109,39 +307,27 @@ public class ImageUtil {
     }
 
     /**
-     * 지정된 품질 수준으로 이미지 파일을 압축합니다.
-     *
-     * 이 메서드는 지정된 파일 경로에서 이미지를 읽어와, 주어진 품질 설정을 사용하여 압축한 후,
-     * 압축된 이미지를 원본 파일에 덮어씁니다. 압축은 이미지 포맷에 따라 다르게 적용되며, 이미지의
-     * 형식(JPEG, PNG 등)은 파일 확장자에 의해 결정됩니다.
+     * 지정된 품질 수준으로 압축하는 쓰기 설정을 생성합니다.
+     * 포맷이 압축을 지원하지 않거나 품질이 지정되지 않은 경우 기본 설정을 사용합니다.
      *
-     * @param filePath 압축할 이미지 파일의 경로.
-     * @param quality  압축 품질 수준으로, 0.0(높은 압축률, 낮은 품질)에서 1.0(낮은 압축률, 높은 품질) 사이의 값을 가집니다.
-     *                 이 값의 정확한 효과는 이미지 포맷에 따라 달라집니다.
-     *
-     * @throws ImageCompressionException 이미지 압축이 실패한 경우 예외가 발생합니다.
+     * @param writer  이미지를 쓸 ImageWriter
+     * @param quality 압축 품질 수준으로, 0.0(높은 압축률, 낮은 품질)에서 1.0(낮은 압축률, 높은 품질) 사이의 값을 가집니다.
      */
-    public static void compressImage(String baseDirectory, String filePath, float quality) {
+    private static ImageWriteParam createWriteParam(ImageWriter writer, Float quality) {
+        ImageWriteParam param = writer.getDefaultWriteParam();
+        if (quality == null || !param.canWriteCompressed()) {
+            return param;
+        }
         try {
-            FileUtil.validateFilePath(filePath, baseDirectory);
-            File inputFile = new File(filePath);
-            BufferedImage image = ImageIO.read(inputFile);
-            OutputStream os = new FileOutputStream(inputFile);
-
-            String formatName = FilenameUtils.getExtension(inputFile.getName());
-            Iterator<ImageWriter> writers = ImageIO.getImageWritersByFormatName(formatName);
-            ImageWriter writer = writers.next();
-
-            ImageWriteParam param = writer.getDefaultWriteParam();
-
             param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+            if (param.getCompressionType() == null && param.getCompressionTypes() != null) {
+                param.setCompressionType(param.getCompressionTypes()[0]);
+            }
             param.setCompressionQuality(quality);
-
-            ImageIO.write(image, formatName, os);
-
-            os.close();
-        } catch (Exception e) {
-            throw new ImageCompressionException("이미지 압축 실패 : " + filePath);
+        } catch (UnsupportedOperationException | IllegalArgumentException e) {
+            log.warn("이미지 압축 설정 중 오류가 발생했습니다. 압축 없이 저장합니다: {}", e.getMessage());
+            return writer.getDefaultWriteParam();
         }
+        return param;
     }
 }
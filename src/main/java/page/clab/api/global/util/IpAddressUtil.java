@@ -1,21 +1,164 @@
 package page.clab.api.global.util;
 
-import org.springframework.security.web.util.matcher.IpAddressMatcher;
-
 public class IpAddressUtil {
 
     /**
-     * 주어진 IP가 특정 서브넷이나 IP 주소와 일치하는지 확인합니다.
-     * @param ipAddress 확인하려는 대상 IP 주소
-     * @param ipOrCidr 서브넷 마스크를 포함한 IP 주소 (예: 192.168.1.0/24 또는 단일 IP 주소)
-     * @return 주어진 IP가 서브넷 내에 있거나 IP 주소와 일치하면 true, 그렇지 않으면 false
+     * 점으로 구분된 IPv4 주소를 부호 없는 32비트 값으로 변환합니다.
+     * 객체를 생성하지 않고 문자 단위로 파싱합니다.
+     * @param ipAddress 변환하려는 IPv4 주소
+     * @return 변환된 값, IPv4 주소 형식이 아니면 -1
+     */
+    public static long parseIpv4(String ipAddress) {
+        if (ipAddress == null) {
+            return -1;
+        }
+        return parseIpv4(ipAddress, 0, ipAddress.length());
+    }
+
+    /**
+     * 문자열의 지정된 구간을 IPv4 주소로 변환합니다.
+     * @return 변환된 값, IPv4 주소 형식이 아니면 -1
+     */
+    static long parseIpv4(String ipAddress, int start, int end) {
+        if (start >= end) {
+            return -1;
+        }
+        long result = 0;
+        int octet = 0;
+        int digits = 0;
+        int dots = 0;
+        for (int i = start; i < end; i++) {
+            char c = ipAddress.charAt(i);
+            if (c >= '0' && c <= '9') {
+                octet = octet * 10 + (c - '0');
+                if (++digits > 3 || octet > 255) {
+                    return -1;
+                }
+            } else if (c == '.' && digits > 0 && dots < 3) {
+                result = (result << 8) | octet;
+                octet = 0;
+                digits = 0;
+                dots++;
+            } else {
+                return -1;
+            }
+        }
+        if (dots != 3 || digits == 0) {
+            return -1;
+        }
+        return (result << 8) | octet;
+    }
+
+    /**
+     * IPv6 주소를 상위 64비트와 하위 64비트로 변환합니다.
+     * '::' 생략 표기와 IPv4 내장 표기(::ffff:192.0.2.1)를 지원하며, 영역 식별자(%eth0)는 무시합니다.
+     * @param ipAddress 변환하려는 IPv6 주소
+     * @param result 변환 결과를 담을 길이 2의 배열 (상위, 하위 순)
+     * @return 변환에 성공하면 true, IPv6 주소 형식이 아니면 false
      */
-    public static boolean isIpInRange(String ipAddress, String ipOrCidr) {
-        try {
-            IpAddressMatcher ipAddressMatcher = new IpAddressMatcher(ipOrCidr);
-            return ipAddressMatcher.matches(ipAddress);
-        } catch (Exception e) {
+    public static boolean parseIpv6(String ipAddress, long[] result) {
+        if (ipAddress == null) {
+            return false;
+        }
+        int end = ipAddress.indexOf('%');
+        if (end < 0) {
+            end = ipAddress.length();
+        }
+        if (end < 2) {
+            return false;
+        }
+
+        long headHigh = 0;
+        long headLow = 0;
+        int headGroups = 0;
+        long tailHigh = 0;
+        long tailLow = 0;
+        int tailGroups = 0;
+        boolean compressed = false;
+
+        int i = 0;
+        if (ipAddress.charAt(0) == ':') {
+            if (ipAddress.charAt(1) != ':') {
+                return false;
+            }
+            compressed = true;
+            i = 2;
+        }
+        while (i < end) {
+            int groupStart = i;
+            int group = 0;
+            int digits = 0;
+            while (i < end) {
+                int digit = Character.digit(ipAddress.charAt(i), 16);
+                if (digit < 0 || ipAddress.charAt(i) > 'f') {
+                    break;
+                }
+                group = (group << 4) | digit;
+                if (++digits > 4) {
+                    return false;
+                }
+                i++;
+            }
+            if (i < end && ipAddress.charAt(i) == '.') {
+                long ipv4 = parseIpv4(ipAddress, groupStart, end);
+                if (ipv4 < 0 || headGroups + tailGroups + 2 > 8) {
+                    return false;
+                }
+                if (compressed) {
+                    tailHigh = (tailHigh << 32) | (tailLow >>> 32);
+                    tailLow = (tailLow << 32) | ipv4;
+                    tailGroups += 2;
+                } else {
+                    headHigh = (headHigh << 32) | (headLow >>> 32);
+                    headLow = (headLow << 32) | ipv4;
+                    headGroups += 2;
+                }
+                i = end;
+                break;
+            }
+            if (digits == 0) {
+                return false;
+            }
+            if (compressed) {
+                tailHigh = (tailHigh << 16) | (tailLow >>> 48);
+                tailLow = (tailLow << 16) | group;
+                tailGroups++;
+            } else {
+                headHigh = (headHigh << 16) | (headLow >>> 48);
+                headLow = (headLow << 16) | group;
+                headGroups++;
+            }
+            if (headGroups + tailGroups > 8) {
+                return false;
+            }
+            if (i == end) {
+                break;
+            }
+            if (ipAddress.charAt(i) != ':') {
+                return false;
+            }
+            i++;
+            if (i < end && ipAddress.charAt(i) == ':') {
+                if (compressed) {
+                    return false;
+                }
+                compressed = true;
+                i++;
+            } else if (i == end) {
+                return false;
+            }
+        }
+
+        int totalGroups = headGroups + tailGroups;
+        if (compressed ? totalGroups > 7 : totalGroups != 8) {
             return false;
         }
+        for (int shift = headGroups; shift < 8; shift++) {
+            headHigh = (headHigh << 16) | (headLow >>> 48);
+            headLow = headLow << 16;
+        }
+        result[0] = headHigh | tailHigh;
+        result[1] = headLow | tailLow;
+        return true;
     }
 }
@@ -0,0 +1,174 @@
+package page.clab.api.global.util;
+
+import java.util.Arrays;
+
+/**
+ * IPv4/IPv6 CIDR 대역을 이진 라디스 트리로 보관하여, 주소가 속한 대역을 프리픽스 길이에 비례하는 시간에 찾습니다.
+ * 노드는 배열로 관리되며, 조회 시 IPv4 주소는 객체를 생성하지 않고 파싱합니다.
+ * 트리는 생성이 끝난 뒤 읽기 전용으로 공유하는 것을 전제로 하며, 삽입은 스레드 안전하지 않습니다.
+ *
+ * @param <T> 대역에 연결할 값의 타입
+ */
+public class IpRangeTrie<T> {
+
+    private static final int IPV4_ROOT = 0;
+    private static final int IPV6_ROOT = 1;
+    private static final int NONE = 0;
+
+    private static final ThreadLocal<long[]> IPV6_BUFFER = ThreadLocal.withInitial(() -> new long[2]);
+
+    private int[] zeroChildren = new int[64];
+    private int[] oneChildren = new int[64];
+    private Object[] values = new Object[64];
+    private int nodeCount = 2;
+    private int rangeCount;
+
+    /**
+     * CIDR 대역 또는 단일 IP 주소를 추가합니다.
+     * 프리픽스 길이가 없으면 단일 주소(/32, /128)로 간주하며, 같은 대역이 이미 있으면 값을 덮어씁니다.
+     * @param ipOrCidr 추가하려는 대역 (예: 192.168.1.0/24, 2001:db8::/32, 10.0.0.1)
+     * @param value 대역에 연결할 값
+     * @throws IllegalArgumentException 주소 또는 프리픽스 길이가 올바르지 않은 경우
+     */
+    public void insert(String ipOrCidr, T value) {
+        if (ipOrCidr == null || value == null) {
+            throw new IllegalArgumentException("IP range and value must not be null");
+        }
+        String cidr = ipOrCidr.trim();
+        int slash = cidr.indexOf('/');
+        String address = slash < 0 ? cidr : cidr.substring(0, slash);
+
+        long ipv4 = IpAddressUtil.parseIpv4(address);
+        if (ipv4 >= 0) {
+            int prefixLength = parsePrefixLength(cidr, slash, 32);
+            int node = IPV4_ROOT;
+            for (int bit = 31; bit >= 32 - prefixLength; bit--) {
+                node = childOrCreate(node, ((ipv4 >>> bit) & 1L) == 1L);
+            }
+            setValue(node, value);
+            return;
+        }
+
+        long[] ipv6 = new long[2];
+        if (!IpAddressUtil.parseIpv6(address, ipv6)) {
+            throw new IllegalArgumentException("Invalid IP address: " + ipOrCidr);
+        }
+        int prefixLength = parsePrefixLength(cidr, slash, 128);
+        int node = IPV6_ROOT;
+        for (int index = 0; index < prefixLength; index++) {
+            node = childOrCreate(node, bitAt(ipv6[0], ipv6[1], index));
+        }
+        setValue(node, value);
+    }
+
+    /**
+     * 주어진 주소를 포함하는 가장 긴 프리픽스의 값을 반환합니다.
+     * IPv4 매핑 IPv6 주소(::ffff:a.b.c.d)는 IPv4 대역에서도 찾습니다.
+     * @param ipAddress 조회하려는 IP 주소
+     * @return 주소를 포함하는 대역의 값, 포함하는 대역이 없거나 주소가 올바르지 않으면 null
+     */
+    @SuppressWarnings("unchecked")
+    public T find(String ipAddress) {
+        long ipv4 = IpAddressUtil.parseIpv4(ipAddress);
+        if (ipv4 >= 0) {
+            return (T) findIpv4(ipv4);
+        }
+        long[] ipv6 = IPV6_BUFFER.get();
+        if (!IpAddressUtil.parseIpv6(ipAddress, ipv6)) {
+            return null;
+        }
+        long high = ipv6[0];
+        long low = ipv6[1];
+        Object found = findIpv6(high, low);
+        if (found == null && high == 0 && (low >>> 32) == 0xffffL) {
+            found = findIpv4(low & 0xffffffffL);
+        }
+        return (T) found;
+    }
+
+    public boolean contains(String ipAddress) {
+        return find(ipAddress) != null;
+    }
+
+    public int size() {
+        return rangeCount;
+    }
+
+    public boolean isEmpty() {
+        return rangeCount == 0;
+    }
+
+    private Object findIpv4(long ipv4) {
+        int node = IPV4_ROOT;
+        Object found = values[node];
+        for (int bit = 31; bit >= 0; bit--) {
+            node = ((ipv4 >>> bit) & 1L) == 1L ? oneChildren[node] : zeroChildren[node];
+            if (node == NONE) {
+                break;
+            }
+            if (values[node] != null) {
+                found = values[node];
+            }
+        }
+        return found;
+    }
+
+    private Object findIpv6(long high, long low) {
+        int node = IPV6_ROOT;
+        Object found = values[node];
+        for (int index = 0; index < 128; index++) {
+            node = bitAt(high, low, index) ? oneChildren[node] : zeroChildren[node];
+            if (node == NONE) {
+                break;
+            }
+            if (values[node] != null) {
+                found = values[node];
+            }
+        }
+        return found;
+    }
+
+    private static boolean bitAt(long high, long low, int index) {
+        return index < 64
+                ? ((high >>> (63 - index)) & 1L) == 1L
+                : ((low >>> (127 - index)) & 1L) == 1L;
+    }
+
+    private static int parsePrefixLength(String cidr, int slash, int maxLength) {
+        if (slash < 0) {
+            return maxLength;
+        }
+        try {
+            int prefixLength = Integer.parseInt(cidr.substring(slash + 1));
+            if (prefixLength < 0 || prefixLength > maxLength) {
+                throw new IllegalArgumentException("Invalid prefix length: " + cidr);
+            }
+            return prefixLength;
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid prefix length: " + cidr, e);
+        }
+    }
+
+    private int childOrCreate(int node, boolean one) {
+        int[] children = one ? oneChildren : zeroChildren;
+        if (children[node] != NONE) {
+            return children[node];
+        }
+        if (nodeCount == values.length) {
+            int capacity = values.length * 2;
+            zeroChildren = Arrays.copyOf(zeroChildren, capacity);
+            oneChildren = Arrays.copyOf(oneChildren, capacity);
+            values = Arrays.copyOf(values, capacity);
+        }
+        int child = nodeCount++;
+        (one ? oneChildren : zeroChildren)[node] = child;
+        return child;
+    }
+
+    private void setValue(int node, T value) {
+        if (values[node] == null) {
+            rangeCount++;
+        }
+        values[node] = value;
+    }
+}
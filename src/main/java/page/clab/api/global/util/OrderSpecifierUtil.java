@@ -2,25 +2,118 @@ package page.clab.api.global.util;
 
 import com.querydsl.core.types.Order;
 import com.querydsl.core.types.OrderSpecifier;
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.core.types.dsl.ComparablePath;
 import com.querydsl.core.types.dsl.EntityPathBase;
+import com.querydsl.core.types.dsl.NumberPath;
 import com.querydsl.core.types.dsl.PathBuilder;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Component;
+import org.springframework.util.ReflectionUtils;
+import page.clab.api.global.common.dto.PageCursor;
+import page.clab.api.global.exception.InvalidCursorException;
+
+import java.lang.reflect.Field;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
 
 @Component
 public class OrderSpecifierUtil {
 
+    private static final String ID_PROPERTY = "id";
+
     public static OrderSpecifier<?>[] getOrderSpecifiers(Pageable pageable, EntityPathBase<?> q) {
         return pageable.getSort().stream()
                 .map(order -> createOrderSpecifier(order, q))
                 .toArray(OrderSpecifier[]::new);
     }
 
+    /**
+     * 커서 기반 조회에 사용할 정렬 조건을 반환합니다.
+     * 첫 번째 정렬 기준만 사용하며, 정렬 키가 같은 행의 순서를 고정하기 위해 ID를 같은 방향으로 덧붙입니다.
+     * 정렬 키가 NULL인 행은 방향과 관계없이 항상 마지막에 위치합니다(NULLS LAST).
+     */
+    public static OrderSpecifier<?>[] getCursorOrderSpecifiers(Pageable pageable, EntityPathBase<?> q, NumberPath<Long> idPath) {
+        Sort.Order order = getCursorSortOrder(pageable);
+        Order direction = order.isAscending() ? Order.ASC : Order.DESC;
+        return new OrderSpecifier[]{
+                createOrderSpecifier(order, q).nullsLast(),
+                new OrderSpecifier<>(direction, idPath)
+        };
+    }
+
+    /**
+     * 커서 이후의 행만 조회하도록 (정렬 키, ID) 쌍을 비교하는 조건을 반환합니다.
+     * 정렬 키가 NULL인 행은 마지막에 정렬되므로, 내림차순 기준으로
+     * 커서의 키가 있으면 {@code key < ? OR (key = ? AND id < ?) OR key IS NULL},
+     * 커서의 키가 NULL이면 {@code key IS NULL AND id < ?}이며, 오름차순이면 부등호 방향이 반대입니다.
+     * @param cursor 마지막으로 조회한 행의 커서, 첫 페이지면 null
+     * @return 커서 조건, 커서가 없으면 null
+     * @throws InvalidCursorException 커서의 정렬 키를 정렬 기준 타입으로 변환할 수 없는 경우
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public static BooleanExpression getCursorCondition(Pageable pageable, EntityPathBase<?> q, NumberPath<Long> idPath, PageCursor cursor) {
+        if (cursor == null) {
+            return null;
+        }
+        Sort.Order order = getCursorSortOrder(pageable);
+        BooleanExpression idCondition = order.isAscending() ? idPath.gt(cursor.getId()) : idPath.lt(cursor.getId());
+        if (ID_PROPERTY.equals(order.getProperty())) {
+            return idCondition;
+        }
+        PathBuilder<Object> path = new PathBuilder<>(q.getType(), q.getMetadata());
+        ComparablePath<Comparable> keyPath = path.getComparable(order.getProperty(), Comparable.class);
+        if (cursor.isNullKey()) {
+            return keyPath.isNull().and(idCondition);
+        }
+        Comparable key = convertCursorKey(q.getType(), order.getProperty(), cursor.getKey());
+        BooleanExpression keyCondition = order.isAscending() ? keyPath.gt(key) : keyPath.lt(key);
+        return keyCondition.or(keyPath.eq(key).and(idCondition)).or(keyPath.isNull());
+    }
+
+    /**
+     * 커서 기반 조회의 기준이 되는 정렬 조건을 반환합니다. 정렬 조건이 없으면 ID 내림차순을 사용합니다.
+     */
+    public static Sort.Order getCursorSortOrder(Pageable pageable) {
+        return pageable.getSort().stream()
+                .findFirst()
+                .orElse(Sort.Order.desc(ID_PROPERTY));
+    }
+
     private static OrderSpecifier<?> createOrderSpecifier(Sort.Order order, EntityPathBase<?> q) {
         Order direction = order.isAscending() ? Order.ASC : Order.DESC;
         String property = order.getProperty();
         PathBuilder<Object> path = new PathBuilder<>(q.getType(), q.getMetadata());
         return new OrderSpecifier(direction, path.get(property));
     }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static Comparable convertCursorKey(Class<?> entityType, String property, String key) {
+        Field field = ReflectionUtils.findField(entityType, property);
+        if (field == null) {
+            throw new InvalidCursorException();
+        }
+        Class<?> type = field.getType();
+        try {
+            if (type == String.class) {
+                return key;
+            } else if (type == Long.class || type == long.class) {
+                return Long.valueOf(key);
+            } else if (type == Integer.class || type == int.class) {
+                return Integer.valueOf(key);
+            } else if (type == Boolean.class || type == boolean.class) {
+                return Boolean.valueOf(key);
+            } else if (type == LocalDateTime.class) {
+                return LocalDateTime.parse(key);
+            } else if (type == LocalDate.class) {
+                return LocalDate.parse(key);
+            } else if (type.isEnum()) {
+                return Enum.valueOf((Class<? extends Enum>) type, key);
+            }
+        } catch (RuntimeException e) {
+            throw new InvalidCursorException();
+        }
+        throw new InvalidCursorException(property + " 기준으로는 커서 기반 조회를 지원하지 않습니다.");
+    }
 }
@@ -1,12 +1,16 @@
 package page.clab.api.global.util;
 
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Component;
+import page.clab.api.global.common.dto.PageCursor;
 import page.clab.api.global.exception.InvalidColumnException;
 
 import java.util.Comparator;
 import java.util.List;
+import java.util.function.Function;
 
 @Component
 public class PaginationUtils {
@@ -70,6 +74,42 @@ public class PaginationUtils {
         return applySlicing(sortedItems, pageable);
     }
 
+    /**
+     * 페이지 크기보다 하나 더 조회한 결과를 Slice로 변환하는 메서드입니다.
+     * 초과 조회된 행이 있으면 다음 페이지가 있는 것으로 판단하고 해당 행은 제외합니다.
+     *
+     * @param items 페이지 크기 + 1개까지 조회된 아이템 리스트
+     * @param pageable 페이지네이션 정보를 포함하는 Pageable 객체
+     * @return 다음 페이지 존재 여부를 포함하는 Slice 객체
+     */
+    public static <T> Slice<T> toSlice(List<T> items, Pageable pageable) {
+        boolean hasNext = items.size() > pageable.getPageSize();
+        List<T> content = hasNext ? items.subList(0, pageable.getPageSize()) : items;
+        return new SliceImpl<>(content, pageable, hasNext);
+    }
+
+    /**
+     * Slice의 마지막 아이템으로 다음 페이지를 조회하기 위한 커서를 생성하는 메서드입니다.
+     *
+     * @param slice 커서 기반으로 조회된 Slice 객체
+     * @param idExtractor 아이템의 ID를 추출하는 함수
+     * @return 인코딩된 커서, 다음 페이지가 없으면 null
+     */
+    public static <T> String createNextCursor(Slice<T> slice, Function<T, Long> idExtractor) {
+        if (!slice.hasNext() || !slice.hasContent()) {
+            return null;
+        }
+        T last = slice.getContent().get(slice.getNumberOfElements() - 1);
+        String property = OrderSpecifierUtil.getCursorSortOrder(slice.getPageable()).getProperty();
+        Long id = idExtractor.apply(last);
+        try {
+            Object key = "id".equals(property) ? id : extractFieldValue(last, property);
+            return PageCursor.of(key, id).encode();
+        } catch (InvalidColumnException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
     /**
      * 리플렉션을 사용하여 객체의 특정 필드 값을 추출하는 메서드입니다.
      *
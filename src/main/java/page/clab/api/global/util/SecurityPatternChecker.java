@@ -1,7 +1,12 @@
 package page.clab.api.global.util;
 
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.ArrayList;
 import java.util.List;
-import java.util.regex.Pattern;
+import java.util.Optional;
 
 /**
  * SecurityPatternChecker 클래스는 보안과 관련된 의심스러운 URL 패턴을 관리하고 검사하는 역할을 합니다.
@@ -11,92 +16,124 @@ import java.util.regex.Pattern;
 public class SecurityPatternChecker {
 
     /**
-     * 보안과 관련된 의심스러운 URL 경로를 나타내는 사전 정의된 패턴 목록입니다.
-     * 이 패턴들은 시스템 파일, 백업 파일, 설정 파일 및 일반적으로 사용되는 웹 쉘 스크립트(.php, .asp, .jsp 등)에
+     * 보안과 관련된 의심스러운 URL 경로를 나타내는 사전 정의된 규칙 목록입니다.
+     * 이 규칙들은 시스템 파일, 백업 파일, 설정 파일 및 일반적으로 사용되는 웹 쉘 스크립트(.php, .asp, .jsp 등)에
      * 대한 경로를 포함합니다. 해당 경로로의 무단 접근을 감지하는 데 사용됩니다.
      */
-    private static final List<Pattern> suspiciousPatterns = List.of(
+    private static final List<SuspiciousPatternRule> suspiciousPatternRules = List.of(
             // 일반적인 웹 쉘 및 백도어
-            Pattern.compile(".*\\.php.*"),
-            Pattern.compile(".*\\.asp.*"),
-            Pattern.compile(".*\\.jsp.*"),
-            Pattern.compile(".*\\.sh.*"),
-            Pattern.compile(".*\\/cgi-bin\\/.*"),
+            SuspiciousPatternRule.contains("웹 쉘 및 백도어", ".php", ".asp", ".jsp", ".sh", "/cgi-bin/"),
 
             // 워드프레스 관련 경로
-            Pattern.compile(".*\\/wp-(admin|login|config)\\.php.*"),
-            Pattern.compile(".*\\/wp-content\\/.*"),
+            SuspiciousPatternRule.contains("워드프레스", "/wp-admin.php", "/wp-login.php", "/wp-config.php", "/wp-content/"),
 
             // 관리자 페이지 및 도구들
-            Pattern.compile(".*\\/(phpmyadmin|pma|dbadmin|mysql|myadmin|phpMyAdmin).*"),
+            SuspiciousPatternRule.contains("관리자 도구", "/phpmyadmin", "/pma", "/dbadmin", "/mysql", "/myadmin"),
 
             // 개발 관련 파일과 디렉토리
-            Pattern.compile(".*\\/(\\.git|\\.svn|\\.hg|\\.env|\\.idea|\\.vscode|\\.vs|\\.DS_Store).*"),
-            Pattern.compile(".*\\.(bak|config|yaml|yml|ini).*"),
+            SuspiciousPatternRule.contains("개발 관련 파일", "/.git", "/.svn", "/.hg", "/.env", "/.idea", "/.vscode", "/.vs", "/.ds_store"),
+            SuspiciousPatternRule.contains("설정 파일", ".bak", ".config", ".yaml", ".yml", ".ini"),
 
             // 서버 및 시스템 파일
-            Pattern.compile(".*\\/(etc\\/passwd|etc\\/shadow|etc\\/hosts|etc\\/group).*"),
+            SuspiciousPatternRule.contains("시스템 파일", "/etc/passwd", "/etc/shadow", "/etc/hosts", "/etc/group"),
 
             // 백업 파일
-            Pattern.compile(".*\\.(sql|tar|gz|zip|rar|dump).*"),
-            Pattern.compile(".*\\/(sqlbackup|backup|backups|bck).*"),
+            SuspiciousPatternRule.contains("백업 파일", ".sql", ".tar", ".gz", ".zip", ".rar", ".dump"),
+            SuspiciousPatternRule.contains("백업 디렉토리", "/sqlbackup", "/backup", "/backups", "/bck"),
 
             // 서버 상태 및 정보
-            Pattern.compile(".*\\/server-(status|info).*"),
+            SuspiciousPatternRule.contains("서버 상태 정보", "/server-status", "/server-info"),
 
             // IDE 설정 및 파일
-            Pattern.compile(".*\\/(sftp-config|sftp-settings|\\.editorconfig|\\.project).*"),
-            Pattern.compile(".*\\/(\\.npmrc|\\.dockerenv|Dockerfile|\\.kube|\\.yarn|\\.npm|\\.expo|\\.builddir).*"),
+            SuspiciousPatternRule.contains("IDE 설정", "/sftp-config", "/sftp-settings", "/.editorconfig", "/.project"),
+            SuspiciousPatternRule.contains("빌드 도구 설정", "/.npmrc", "/.dockerenv", "/dockerfile", "/.kube", "/.yarn", "/.npm", "/.expo", "/.builddir"),
 
             // 특정 시스템 파일
-            Pattern.compile(".*\\/(debug|trace\\.axd|config\\.json|settings\\.json|package\\.json|node_modules).*"),
-            Pattern.compile(".*\\/(\\.bash_history|\\.ssh|thumbs\\.db|desktop\\.ini|\\.Trashes|\\.Spotlight-V100|\\.vol).*"),
-            Pattern.compile(".*\\/(config|logs|tmp|temp|conf|backups).*"),
+            SuspiciousPatternRule.contains("특정 시스템 파일", "/debug", "/trace.axd", "/config.json", "/settings.json", "/package.json", "/node_modules"),
+            SuspiciousPatternRule.contains("사용자 환경 파일", "/.bash_history", "/.ssh", "/thumbs.db", "/desktop.ini", "/.trashes", "/.spotlight-v100", "/.vol"),
+            SuspiciousPatternRule.contains("서버 디렉토리", "/config", "/logs", "/tmp", "/temp", "/conf", "/backups"),
 
             // 환경 설정 파일
-            Pattern.compile(".*\\.env\\.local$"),
-            Pattern.compile(".*\\.env\\.prod$"),
-            Pattern.compile(".*\\.env\\.dev$"),
+            SuspiciousPatternRule.endsWith("환경 설정 파일", ".env.local", ".env.prod", ".env.dev"),
 
             // 빌드 디렉토리
-            Pattern.compile(".*\\/dist\\/.*"),
-            Pattern.compile(".*\\/build\\/.*"),
+            SuspiciousPatternRule.contains("빌드 디렉토리", "/dist/", "/build/"),
 
             // 기타 구성 파일
-            Pattern.compile(".*\\.json$"),
-            Pattern.compile(".*\\.toml$"),
+            SuspiciousPatternRule.endsWith("구성 파일", ".json", ".toml"),
 
             // 관리 도구 경로
-            Pattern.compile(".*\\/cpanel.*"),
-            Pattern.compile(".*\\/webmail.*"),
+            SuspiciousPatternRule.contains("관리 도구", "/cpanel", "/webmail"),
 
             // 서버 관리 도구
-            Pattern.compile(".*\\/solr.*"),
-            Pattern.compile(".*\\/adminer.*"),
+            SuspiciousPatternRule.contains("서버 관리 도구", "/solr", "/adminer"),
 
             // 데이터베이스 관리 경로
-            Pattern.compile(".*\\/db\\.php$"),
-            Pattern.compile(".*\\/sqlmanager.*"),
+            SuspiciousPatternRule.endsWith("데이터베이스 관리", "/db.php"),
+            SuspiciousPatternRule.contains("데이터베이스 관리", "/sqlmanager"),
 
             // 클라우드 스토리지 버킷
-            Pattern.compile(".*\\/s3\\/.*"),
-            Pattern.compile(".*\\/azure\\/.*"),
+            SuspiciousPatternRule.contains("클라우드 스토리지", "/s3/", "/azure/"),
 
             // API 키, 비밀번호 파일
-            Pattern.compile(".*\\/api_keys.*"),
-            Pattern.compile(".*\\/passwords.*")
+            SuspiciousPatternRule.contains("인증 정보 파일", "/api_keys", "/passwords")
     );
 
     /**
-     * 주어진 경로(path)가 의심스러운 패턴과 일치하는지 확인하는 메소드입니다.
-     * 이 메소드는 사전에 정의된 패턴 목록을 기반으로 경로를 검사하고,
-     * 해당 경로가 의심스러운 패턴과 일치하면 true를 반환합니다.
+     * 오토마톤의 키워드 순서와 같은 순서로 나열한 '규칙 이름 (키워드)' 목록입니다.
+     */
+    private static final List<String> keywordRules;
+
+    /**
+     * 모든 규칙의 키워드를 하나로 합쳐 애플리케이션 시작 시 컴파일한 오토마톤입니다.
+     * 요청 경로를 한 번만 순회하며 대소문자 구분 없이, URL 디코딩을 적용하여 검사합니다.
+     */
+    private static final AhoCorasickMatcher matcher;
+
+    static {
+        List<String> keywords = new ArrayList<>();
+        List<String> names = new ArrayList<>();
+        List<Boolean> suffixOnly = new ArrayList<>();
+        for (SuspiciousPatternRule rule : suspiciousPatternRules) {
+            for (String keyword : rule.getKeywords()) {
+                keywords.add(keyword);
+                names.add(rule.getName() + " (" + keyword + ")");
+                suffixOnly.add(rule.isSuffixOnly());
+            }
+        }
+        boolean[] suffixOnlyArray = new boolean[suffixOnly.size()];
+        for (int i = 0; i < suffixOnlyArray.length; i++) {
+            suffixOnlyArray[i] = suffixOnly.get(i);
+        }
+        keywordRules = List.copyOf(names);
+        matcher = new AhoCorasickMatcher(keywords, suffixOnlyArray);
+    }
+
+    /**
+     * 주어진 경로(path)와 일치한 의심스러운 패턴 규칙을 반환하는 메소드입니다.
      *
      * @param path 요청된 URL 경로
-     * @return 경로가 의심스러운 패턴과 일치하는지 여부 (일치하면 true, 일치하지 않으면 false)
+     * @return 일치한 규칙의 이름과 키워드, 일치하는 규칙이 없으면 빈 Optional
      */
-    public static boolean matchesSuspiciousPattern(String path) {
-        return suspiciousPatterns.stream()
-                .anyMatch(pattern -> pattern.matcher(path).matches());
+    public static Optional<String> findSuspiciousPattern(String path) {
+        int index = matcher.findFirst(path);
+        return index < 0 ? Optional.empty() : Optional.of(keywordRules.get(index));
+    }
+
+    @Getter
+    @AllArgsConstructor(access = AccessLevel.PRIVATE)
+    private static class SuspiciousPatternRule {
+
+        private final String name;
+        private final List<String> keywords;
+        private final boolean suffixOnly;
+
+        static SuspiciousPatternRule contains(String name, String... keywords) {
+            return new SuspiciousPatternRule(name, List.of(keywords), false);
+        }
+
+        static SuspiciousPatternRule endsWith(String name, String... keywords) {
+            return new SuspiciousPatternRule(name, List.of(keywords), true);
+        }
     }
 }
@@ -0,0 +1,91 @@
+package page.clab.api.global.util;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 초당 일정한 수의 허가를 채워 넣는 토큰 버킷입니다.
+ * 버킷이 비어 있으면 다음 허가가 채워질 때까지 호출 스레드를 대기시키거나 남은 시간을 알려 주며,
+ * 상대 서버가 지정한 시간 동안 허가 발급을 멈출 수 있습니다.
+ */
+public class TokenBucket {
+
+    private final double capacity;
+    private final double permitsPerNano;
+
+    private double tokens;
+    private long lastRefillAt;
+    private long pausedUntil;
+
+    /**
+     * @param capacity 한 번에 몰아서 사용할 수 있는 최대 허가 수
+     * @param permitsPerSecond 초당 채워지는 허가 수
+     */
+    public TokenBucket(double capacity, double permitsPerSecond) {
+        if (capacity < 1 || permitsPerSecond <= 0) {
+            throw new IllegalArgumentException("Capacity must be at least 1 and rate must be positive");
+        }
+        this.capacity = capacity;
+        this.permitsPerNano = permitsPerSecond / TimeUnit.SECONDS.toNanos(1);
+        this.tokens = capacity;
+        this.lastRefillAt = System.nanoTime();
+        this.pausedUntil = lastRefillAt;
+    }
+
+    /**
+     * 허가 하나를 얻을 때까지 대기합니다.
+     * @throws InterruptedException 대기 중 스레드가 인터럽트된 경우
+     */
+    public void acquire() throws InterruptedException {
+        while (true) {
+            long waitNanos;
+            synchronized (this) {
+                long now = System.nanoTime();
+                refill(now);
+                if (now - pausedUntil >= 0 && tokens >= 1) {
+                    tokens -= 1;
+                    return;
+                }
+                long refillWait = tokens >= 1 ? 0 : (long) Math.ceil((1 - tokens) / permitsPerNano);
+                waitNanos = Math.max(Math.max(pausedUntil - now, refillWait), 1);
+            }
+            TimeUnit.NANOSECONDS.sleep(waitNanos);
+        }
+    }
+
+    /**
+     * 대기하지 않고 허가 하나를 얻어 봅니다.
+     * @return 허가를 얻었으면 0, 그렇지 않으면 다음 허가를 얻을 수 있을 때까지 남은 시간 (나노초)
+     */
+    public synchronized long tryAcquire() {
+        long now = System.nanoTime();
+        refill(now);
+        if (now - pausedUntil >= 0 && tokens >= 1) {
+            tokens -= 1;
+            return 0;
+        }
+        long refillWait = tokens >= 1 ? 0 : (long) Math.ceil((1 - tokens) / permitsPerNano);
+        return Math.max(Math.max(pausedUntil - now, refillWait), 1);
+    }
+
+    /**
+     * 지정한 시간 동안 허가 발급을 멈추고, 남아 있던 허가를 비웁니다.
+     * @param millis 허가 발급을 멈출 시간 (밀리초)
+     */
+    public synchronized void pauseFor(long millis) {
+        long now = System.nanoTime();
+        long until = now + TimeUnit.MILLISECONDS.toNanos(millis);
+        if (until - pausedUntil > 0) {
+            pausedUntil = until;
+        }
+        refill(now);
+        tokens = 0;
+    }
+
+    private void refill(long now) {
+        long elapsed = now - lastRefillAt;
+        if (elapsed > 0) {
+            tokens = Math.min(capacity, tokens + elapsed * permitsPerNano);
+            lastRefillAt = now;
+        }
+    }
+}
@@ -4,14 +4,16 @@ import org.springframework.beans.factory.InitializingBean;
 import org.springframework.stereotype.Component;
 import page.clab.api.global.config.WhitelistPatternsProperties;
 
+import java.util.Arrays;
 import java.util.regex.Pattern;
 
 @Component
 public class WhitelistPathMatcher implements InitializingBean {
 
     private static String[] swaggerPatterns;
-    private static String[] actuatorPatterns;
-    private static String[] whitelistPatterns;
+    private static Pattern[] compiledSwaggerPatterns;
+    private static Pattern[] compiledActuatorPatterns;
+    private static Pattern[] compiledWhitelistPatterns;
 
     private final WhitelistPatternsProperties whitelistPatternsProperties;
 
@@ -22,29 +24,36 @@ public class WhitelistPathMatcher implements InitializingBean {
     @Override
     public void afterPropertiesSet() throws Exception {
         swaggerPatterns = whitelistPatternsProperties.getApiDocs();
-        actuatorPatterns = whitelistPatternsProperties.getActuator();
-        whitelistPatterns = whitelistPatternsProperties.getWhitelistPatterns();
+        compiledSwaggerPatterns = compile(swaggerPatterns);
+        compiledActuatorPatterns = compile(whitelistPatternsProperties.getActuator());
+        compiledWhitelistPatterns = compile(whitelistPatternsProperties.getWhitelistPatterns());
     }
 
     public static boolean isSwaggerRequest(String path) {
-        return isPatternMatch(path, swaggerPatterns);
+        return isPatternMatch(path, compiledSwaggerPatterns);
     }
 
     public static boolean isActuatorRequest(String path) {
-        return isPatternMatch(path, actuatorPatterns);
+        return isPatternMatch(path, compiledActuatorPatterns);
     }
 
     public static boolean isWhitelistRequest(String path) {
-        return isPatternMatch(path, whitelistPatterns);
+        return isPatternMatch(path, compiledWhitelistPatterns);
     }
 
     public static boolean isSwaggerIndexEndpoint(String path) {
         return swaggerPatterns[2].equals(path);
     }
 
-    private static boolean isPatternMatch(String path, String[] patterns) {
-        for (String pattern : patterns) {
-            if (Pattern.compile(pattern).matcher(path).find()) {
+    private static Pattern[] compile(String[] patterns) {
+        return Arrays.stream(patterns)
+                .map(Pattern::compile)
+                .toArray(Pattern[]::new);
+    }
+
+    private static boolean isPatternMatch(String path, Pattern[] patterns) {
+        for (Pattern pattern : patterns) {
+            if (pattern.matcher(path).find()) {
                 return true;
             }
         }